@@ -91,6 +91,11 @@ public class VertxOptionsConverter {
             obj.setPreferNativeTransport((Boolean)member.getValue());
           }
           break;
+        case "preferVirtualThreadWorkers":
+          if (member.getValue() instanceof Boolean) {
+            obj.setPreferVirtualThreadWorkers((Boolean)member.getValue());
+          }
+          break;
         case "quorumSize":
           if (member.getValue() instanceof Number) {
             obj.setQuorumSize(((Number)member.getValue()).intValue());
@@ -156,6 +161,7 @@ public class VertxOptionsConverter {
       json.put("metricsOptions", obj.getMetricsOptions().toJson());
     }
     json.put("preferNativeTransport", obj.getPreferNativeTransport());
+    json.put("preferVirtualThreadWorkers", obj.getPreferVirtualThreadWorkers());
     json.put("quorumSize", obj.getQuorumSize());
     if (obj.getTracingOptions() != null) {
       json.put("tracingOptions", obj.getTracingOptions().toJson());
@@ -51,11 +51,31 @@ public class EventBusOptionsConverter {
             obj.setClusterPublicPort(((Number)member.getValue()).intValue());
           }
           break;
+        case "clusterWriteBatchMaxBytes":
+          if (member.getValue() instanceof Number) {
+            obj.setClusterWriteBatchMaxBytes(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "clusterWriteBatchMaxMessages":
+          if (member.getValue() instanceof Number) {
+            obj.setClusterWriteBatchMaxMessages(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "clusterWriteBatching":
+          if (member.getValue() instanceof Boolean) {
+            obj.setClusterWriteBatching((Boolean)member.getValue());
+          }
+          break;
         case "connectTimeout":
           if (member.getValue() instanceof Number) {
             obj.setConnectTimeout(((Number)member.getValue()).intValue());
           }
           break;
+        case "consumerSelectionPolicy":
+          if (member.getValue() instanceof String) {
+            obj.setConsumerSelectionPolicy(io.vertx.core.eventbus.ConsumerSelectionPolicy.valueOf((String)member.getValue()));
+          }
+          break;
         case "crlPaths":
           if (member.getValue() instanceof JsonArray) {
             ((Iterable<Object>)member.getValue()).forEach( item -> {
@@ -267,7 +287,13 @@ public class EventBusOptionsConverter {
       json.put("clusterPublicHost", obj.getClusterPublicHost());
     }
     json.put("clusterPublicPort", obj.getClusterPublicPort());
+    json.put("clusterWriteBatchMaxBytes", obj.getClusterWriteBatchMaxBytes());
+    json.put("clusterWriteBatchMaxMessages", obj.getClusterWriteBatchMaxMessages());
+    json.put("clusterWriteBatching", obj.isClusterWriteBatching());
     json.put("connectTimeout", obj.getConnectTimeout());
+    if (obj.getConsumerSelectionPolicy() != null) {
+      json.put("consumerSelectionPolicy", obj.getConsumerSelectionPolicy().name());
+    }
     if (obj.getCrlPaths() != null) {
       JsonArray array = new JsonArray();
       obj.getCrlPaths().forEach(item -> array.add(item));
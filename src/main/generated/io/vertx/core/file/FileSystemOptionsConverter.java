@@ -16,6 +16,21 @@ public class FileSystemOptionsConverter {
    static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, FileSystemOptions obj) {
     for (java.util.Map.Entry<String, Object> member : json) {
       switch (member.getKey()) {
+        case "classPathIndexEnabled":
+          if (member.getValue() instanceof Boolean) {
+            obj.setClassPathIndexEnabled((Boolean)member.getValue());
+          }
+          break;
+        case "classPathIndexMemoryMaxSize":
+          if (member.getValue() instanceof Number) {
+            obj.setClassPathIndexMemoryMaxSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "classPathIndexMemoryTotalSize":
+          if (member.getValue() instanceof Number) {
+            obj.setClassPathIndexMemoryTotalSize(((Number)member.getValue()).longValue());
+          }
+          break;
         case "classPathResolvingEnabled":
           if (member.getValue() instanceof Boolean) {
             obj.setClassPathResolvingEnabled((Boolean)member.getValue());
@@ -31,6 +46,16 @@ public class FileSystemOptionsConverter {
             obj.setFileCachingEnabled((Boolean)member.getValue());
           }
           break;
+        case "sendFileCacheMaxAge":
+          if (member.getValue() instanceof Number) {
+            obj.setSendFileCacheMaxAge(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "sendFileCacheMaxSize":
+          if (member.getValue() instanceof Number) {
+            obj.setSendFileCacheMaxSize(((Number)member.getValue()).intValue());
+          }
+          break;
       }
     }
   }
@@ -40,10 +65,15 @@ public class FileSystemOptionsConverter {
   }
 
    static void toJson(FileSystemOptions obj, java.util.Map<String, Object> json) {
+    json.put("classPathIndexEnabled", obj.isClassPathIndexEnabled());
+    json.put("classPathIndexMemoryMaxSize", obj.getClassPathIndexMemoryMaxSize());
+    json.put("classPathIndexMemoryTotalSize", obj.getClassPathIndexMemoryTotalSize());
     json.put("classPathResolvingEnabled", obj.isClassPathResolvingEnabled());
     if (obj.getFileCacheDir() != null) {
       json.put("fileCacheDir", obj.getFileCacheDir());
     }
     json.put("fileCachingEnabled", obj.isFileCachingEnabled());
+    json.put("sendFileCacheMaxAge", obj.getSendFileCacheMaxAge());
+    json.put("sendFileCacheMaxSize", obj.getSendFileCacheMaxSize());
   }
 }
@@ -16,6 +16,16 @@ public class OpenOptionsConverter {
    static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, OpenOptions obj) {
     for (java.util.Map.Entry<String, Object> member : json) {
       switch (member.getKey()) {
+        case "adaptiveIo":
+          if (member.getValue() instanceof Boolean) {
+            obj.setAdaptiveIo((Boolean)member.getValue());
+          }
+          break;
+        case "adaptiveIoMaxBufferSize":
+          if (member.getValue() instanceof Number) {
+            obj.setAdaptiveIoMaxBufferSize(((Number)member.getValue()).intValue());
+          }
+          break;
         case "append":
           if (member.getValue() instanceof Boolean) {
             obj.setAppend((Boolean)member.getValue());
@@ -41,6 +51,16 @@ public class OpenOptionsConverter {
             obj.setDsync((Boolean)member.getValue());
           }
           break;
+        case "memoryMapWindowSize":
+          if (member.getValue() instanceof Number) {
+            obj.setMemoryMapWindowSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "memoryMapped":
+          if (member.getValue() instanceof Boolean) {
+            obj.setMemoryMapped((Boolean)member.getValue());
+          }
+          break;
         case "perms":
           if (member.getValue() instanceof String) {
             obj.setPerms((String)member.getValue());
@@ -80,11 +100,15 @@ public class OpenOptionsConverter {
   }
 
    static void toJson(OpenOptions obj, java.util.Map<String, Object> json) {
+    json.put("adaptiveIo", obj.isAdaptiveIo());
+    json.put("adaptiveIoMaxBufferSize", obj.getAdaptiveIoMaxBufferSize());
     json.put("append", obj.isAppend());
     json.put("create", obj.isCreate());
     json.put("createNew", obj.isCreateNew());
     json.put("deleteOnClose", obj.isDeleteOnClose());
     json.put("dsync", obj.isDsync());
+    json.put("memoryMapWindowSize", obj.getMemoryMapWindowSize());
+    json.put("memoryMapped", obj.isMemoryMapped());
     if (obj.getPerms() != null) {
       json.put("perms", obj.getPerms());
     }
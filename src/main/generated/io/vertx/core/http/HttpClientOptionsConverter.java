@@ -146,6 +146,11 @@ public class HttpClientOptionsConverter {
             obj.setPoolCleanerPeriod(((Number)member.getValue()).intValue());
           }
           break;
+        case "poolEventLoopAffinity":
+          if (member.getValue() instanceof Boolean) {
+            obj.setPoolEventLoopAffinity((Boolean)member.getValue());
+          }
+          break;
         case "protocolVersion":
           if (member.getValue() instanceof String) {
             obj.setProtocolVersion(io.vertx.core.http.HttpVersion.valueOf((String)member.getValue()));
@@ -245,6 +250,7 @@ public class HttpClientOptionsConverter {
     json.put("pipelining", obj.isPipelining());
     json.put("pipeliningLimit", obj.getPipeliningLimit());
     json.put("poolCleanerPeriod", obj.getPoolCleanerPeriod());
+    json.put("poolEventLoopAffinity", obj.isPoolEventLoopAffinity());
     if (obj.getProtocolVersion() != null) {
       json.put("protocolVersion", obj.getProtocolVersion().name());
     }
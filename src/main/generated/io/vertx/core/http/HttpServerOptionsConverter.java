@@ -31,6 +31,11 @@ public class HttpServerOptionsConverter {
             obj.setAlpnVersions(list);
           }
           break;
+        case "compressedFileCacheMaxSize":
+          if (member.getValue() instanceof Number) {
+            obj.setCompressedFileCacheMaxSize(((Number)member.getValue()).longValue());
+          }
+          break;
         case "compressionLevel":
           if (member.getValue() instanceof Number) {
             obj.setCompressionLevel(((Number)member.getValue()).intValue());
@@ -106,6 +111,11 @@ public class HttpServerOptionsConverter {
             obj.setPerMessageWebSocketCompressionSupported((Boolean)member.getValue());
           }
           break;
+        case "precompressedFilesSupported":
+          if (member.getValue() instanceof Boolean) {
+            obj.setPrecompressedFilesSupported((Boolean)member.getValue());
+          }
+          break;
         case "tracingPolicy":
           if (member.getValue() instanceof String) {
             obj.setTracingPolicy(io.vertx.core.tracing.TracingPolicy.valueOf((String)member.getValue()));
@@ -156,6 +166,7 @@ public class HttpServerOptionsConverter {
       obj.getAlpnVersions().forEach(item -> array.add(item.name()));
       json.put("alpnVersions", array);
     }
+    json.put("compressedFileCacheMaxSize", obj.getCompressedFileCacheMaxSize());
     json.put("compressionLevel", obj.getCompressionLevel());
     json.put("compressionSupported", obj.isCompressionSupported());
     json.put("decoderInitialBufferSize", obj.getDecoderInitialBufferSize());
@@ -173,6 +184,7 @@ public class HttpServerOptionsConverter {
     json.put("maxWebSocketMessageSize", obj.getMaxWebSocketMessageSize());
     json.put("perFrameWebSocketCompressionSupported", obj.getPerFrameWebSocketCompressionSupported());
     json.put("perMessageWebSocketCompressionSupported", obj.getPerMessageWebSocketCompressionSupported());
+    json.put("precompressedFilesSupported", obj.isPrecompressedFilesSupported());
     if (obj.getTracingPolicy() != null) {
       json.put("tracingPolicy", obj.getTracingPolicy().name());
     }
@@ -66,8 +66,8 @@ public interface Context {
    * @return true if current thread is a worker thread, false otherwise
    */
   static boolean isOnWorkerThread() {
-    Thread t = Thread.currentThread();
-    return t instanceof VertxThread && ((VertxThread) t).isWorker();
+    VertxThread t = VertxThread.current();
+    return t != null && t.isWorker();
   }
 
   /**
@@ -79,8 +79,8 @@ public interface Context {
    * @return true if current thread is an event thread, false otherwise
    */
   static boolean isOnEventLoopThread() {
-    Thread t = Thread.currentThread();
-    return t instanceof VertxThread && !((VertxThread) t).isWorker();
+    VertxThread t = VertxThread.current();
+    return t != null && !t.isWorker();
   }
 
   /**
@@ -89,7 +89,7 @@ public interface Context {
    * @return true if current thread is a Vert.x thread, false otherwise
    */
   static boolean isOnVertxThread() {
-    return Thread.currentThread() instanceof VertxThread;
+    return VertxThread.current() != null;
   }
 
   /**
@@ -97,6 +97,11 @@ public class VertxOptions {
    */
   public static final boolean DEFAULT_PREFER_NATIVE_TRANSPORT = false;
 
+  /**
+   * The default value for preferring virtual threads for the worker pool = false
+   */
+  public static final boolean DEFAULT_PREFER_VIRTUAL_THREAD_WORKERS = false;
+
   /**
    * The default value of warning exception time 5000000000 ns (5 seconds)
    * If a thread is blocked longer than this threshold, the warning log
@@ -126,6 +131,7 @@ public class VertxOptions {
   private EventBusOptions eventBusOptions = new EventBusOptions();
   private AddressResolverOptions addressResolverOptions = new AddressResolverOptions();
   private boolean preferNativeTransport = DEFAULT_PREFER_NATIVE_TRANSPORT;
+  private boolean preferVirtualThreadWorkers = DEFAULT_PREFER_VIRTUAL_THREAD_WORKERS;
   private TimeUnit maxEventLoopExecuteTimeUnit = DEFAULT_MAX_EVENT_LOOP_EXECUTE_TIME_UNIT;
   private TimeUnit maxWorkerExecuteTimeUnit = DEFAULT_MAX_WORKER_EXECUTE_TIME_UNIT;
   private TimeUnit warningExceptionTimeUnit = DEFAULT_WARNING_EXCEPTION_TIME_UNIT;
@@ -163,6 +169,7 @@ public class VertxOptions {
     this.warningExceptionTimeUnit = other.warningExceptionTimeUnit;
     this.blockedThreadCheckIntervalUnit = other.blockedThreadCheckIntervalUnit;
     this.tracingOptions = other.tracingOptions != null ? other.tracingOptions.copy() : null;
+    this.preferVirtualThreadWorkers = other.preferVirtualThreadWorkers;
   }
 
   /**
@@ -551,6 +558,28 @@ public class VertxOptions {
     return this;
   }
 
+  /**
+   * @return wether to prefer virtual threads to a fixed size thread pool for the worker pool
+   */
+  public boolean getPreferVirtualThreadWorkers() {
+    return preferVirtualThreadWorkers;
+  }
+
+  /**
+   * Set wether to prefer virtual threads to a fixed size thread pool for the worker pool.
+   * <p>
+   * When the JVM supports virtual threads, blocking code and worker verticles using the default worker pool run
+   * each task on a new virtual thread instead of being bounded by {@link #getWorkerPoolSize()}, otherwise
+   * the fixed size worker pool is used.
+   *
+   * @param preferVirtualThreadWorkers {@code true} to prefer virtual threads
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setPreferVirtualThreadWorkers(boolean preferVirtualThreadWorkers) {
+    this.preferVirtualThreadWorkers = preferVirtualThreadWorkers;
+    return this;
+  }
+
   /**
    * @return the time unit of {@code maxEventLoopExecuteTime}
    */
@@ -664,6 +693,7 @@ public class VertxOptions {
         ", clusterManager=" + clusterManager +
         ", haEnabled=" + haEnabled +
         ", preferNativeTransport=" + preferNativeTransport +
+        ", preferVirtualThreadWorkers=" + preferVirtualThreadWorkers +
         ", quorumSize=" + quorumSize +
         ", haGroup='" + haGroup + '\'' +
         ", metrics=" + metricsOptions +
@@ -701,6 +701,25 @@ public interface Buffer extends ClusterSerializable, Shareable {
    */
   Buffer slice(int start, int end);
 
+  /**
+   * Returns a read-only view of this buffer, or this buffer when it is already read-only.
+   * <p>
+   * Modifying the content of the returned buffer throws a {@link java.nio.ReadOnlyBufferException}, while modifying
+   * the content of this buffer affects the returned buffer. A read-only buffer sent or published on the event bus
+   * is delivered as is to the consumers instead of being copied, the sender should not modify the original
+   * buffer afterwards.
+   */
+  default Buffer asReadOnly() {
+    return isReadOnly() ? this : Buffer.buffer(getByteBuf().asReadOnly());
+  }
+
+  /**
+   * @return whether the content of this buffer can be modified
+   */
+  default boolean isReadOnly() {
+    return false;
+  }
+
   /**
    * Returns the Buffer as a Netty {@code ByteBuf}.
    *
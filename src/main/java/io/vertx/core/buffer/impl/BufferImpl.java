@@ -21,6 +21,7 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
@@ -529,6 +530,14 @@ public class BufferImpl implements Buffer {
     return new BufferImpl(buffer.slice(start, end - start));
   }
 
+  public Buffer asReadOnly() {
+    return buffer.isReadOnly() ? this : new BufferImpl(buffer.asReadOnly());
+  }
+
+  public boolean isReadOnly() {
+    return buffer.isReadOnly();
+  }
+
   /**
    * @return the buffer as is
    */
@@ -592,6 +601,10 @@ public class BufferImpl implements Buffer {
   }
 
   private void setFullMaxCapacity(int capacity) {
+    if (buffer.isReadOnly()) {
+      // Do not replace a read-only buffer by a writable copy
+      throw new ReadOnlyBufferException();
+    }
     ByteBuf tmp = buffer.alloc().heapBuffer(capacity, Integer.MAX_VALUE);
     tmp.writeBytes(buffer);
     buffer = tmp;
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.eventbus;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * Policy selecting the consumer of a message sent point-to-point among the local consumers of an address.
+ */
+@VertxGen
+public enum ConsumerSelectionPolicy {
+
+  /**
+   * Select the consumers in turn.
+   */
+  ROUND_ROBIN,
+
+  /**
+   * Prefer a consumer registered on the event loop delivering the message, avoiding a thread hop.
+   * <p>
+   * Among several candidates the consumer with the fewest pending messages is selected. When no consumer is
+   * registered on the event loop, the consumer with the fewest pending messages is selected and the consumers
+   * are selected in turn when they are equally loaded.
+   */
+  EVENT_LOOP_AFFINITY
+
+}
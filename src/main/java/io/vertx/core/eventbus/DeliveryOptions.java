@@ -52,6 +52,7 @@ public class DeliveryOptions {
   private MultiMap headers;
   private boolean localOnly = DEFAULT_LOCAL_ONLY;
   private TracingPolicy tracingPolicy = DEFAULT_TRACING_POLICY;
+  private ConsumerSelectionPolicy consumerSelectionPolicy;
 
   /**
    * Default constructor
@@ -70,6 +71,7 @@ public class DeliveryOptions {
     this.headers = other.getHeaders();
     this.localOnly = other.localOnly;
     this.tracingPolicy = other.tracingPolicy;
+    this.consumerSelectionPolicy = other.consumerSelectionPolicy;
   }
 
   /**
@@ -93,6 +95,8 @@ public class DeliveryOptions {
     this.localOnly = json.getBoolean("localOnly", DEFAULT_LOCAL_ONLY);
     String tracingPolicyStr = json.getString("tracingPolicy");
     this.tracingPolicy = tracingPolicyStr != null ? TracingPolicy.valueOf(tracingPolicyStr) : DEFAULT_TRACING_POLICY;
+    String consumerSelectionPolicyStr = json.getString("consumerSelectionPolicy");
+    this.consumerSelectionPolicy = consumerSelectionPolicyStr != null ? ConsumerSelectionPolicy.valueOf(consumerSelectionPolicyStr) : null;
   }
 
   /**
@@ -113,6 +117,9 @@ public class DeliveryOptions {
     if (tracingPolicy != null) {
       json.put("tracingPolicy", tracingPolicy.name());
     }
+    if (consumerSelectionPolicy != null) {
+      json.put("consumerSelectionPolicy", consumerSelectionPolicy.name());
+    }
     return json;
   }
 
@@ -248,4 +255,27 @@ public class DeliveryOptions {
     this.tracingPolicy = tracingPolicy;
     return this;
   }
+
+  /**
+   * @return the policy selecting the consumer of the message, {@code null} means the event bus policy
+   */
+  public ConsumerSelectionPolicy getConsumerSelectionPolicy() {
+    return consumerSelectionPolicy;
+  }
+
+  /**
+   * Set the policy selecting the consumer of a message sent point-to-point among the local consumers of its address,
+   * overriding the {@link EventBusOptions#setConsumerSelectionPolicy(ConsumerSelectionPolicy) event bus policy}.
+   *
+   * <p>
+   * <strong>This option does not apply to published messages, the policy of the remote node applies to messages
+   * delivered to a remote node</strong>.
+   *
+   * @param consumerSelectionPolicy the policy, {@code null} to use the event bus policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DeliveryOptions setConsumerSelectionPolicy(ConsumerSelectionPolicy consumerSelectionPolicy) {
+    this.consumerSelectionPolicy = consumerSelectionPolicy;
+    return this;
+  }
 }
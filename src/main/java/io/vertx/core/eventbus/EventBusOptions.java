@@ -18,6 +18,7 @@ import io.vertx.core.http.ClientAuth;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.*;
 
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -59,11 +60,35 @@ public class EventBusOptions extends TCPSSLOptions {
    */
   public static final long DEFAULT_CLUSTER_PING_REPLY_INTERVAL = TimeUnit.SECONDS.toMillis(20);
 
+  /**
+   * The default value of whether cluster connection writes are batched = false
+   */
+  public static final boolean DEFAULT_CLUSTER_WRITE_BATCHING = false;
+
+  /**
+   * The default maximum number of messages gathered in a single cluster connection write batch = 64
+   */
+  public static final int DEFAULT_CLUSTER_WRITE_BATCH_MAX_MESSAGES = 64;
+
+  /**
+   * The default maximum number of bytes gathered in a single cluster connection write batch = 64 KB
+   */
+  public static final int DEFAULT_CLUSTER_WRITE_BATCH_MAX_BYTES = 64 * 1024;
+
+  /**
+   * The default policy selecting the consumer of a message sent point-to-point = {@link ConsumerSelectionPolicy#ROUND_ROBIN}
+   */
+  public static final ConsumerSelectionPolicy DEFAULT_CONSUMER_SELECTION_POLICY = ConsumerSelectionPolicy.ROUND_ROBIN;
+
   private String clusterPublicHost = DEFAULT_CLUSTER_PUBLIC_HOST;
   private int clusterPublicPort = DEFAULT_CLUSTER_PUBLIC_PORT;
   private long clusterPingInterval = DEFAULT_CLUSTER_PING_INTERVAL;
   private long clusterPingReplyInterval = DEFAULT_CLUSTER_PING_REPLY_INTERVAL;
+  private boolean clusterWriteBatching = DEFAULT_CLUSTER_WRITE_BATCHING;
+  private int clusterWriteBatchMaxMessages = DEFAULT_CLUSTER_WRITE_BATCH_MAX_MESSAGES;
+  private int clusterWriteBatchMaxBytes = DEFAULT_CLUSTER_WRITE_BATCH_MAX_BYTES;
   private JsonObject clusterNodeMetadata;
+  private ConsumerSelectionPolicy consumerSelectionPolicy = DEFAULT_CONSUMER_SELECTION_POLICY;
 
   // Attributes used to configure the server of the event bus when the event bus is clustered.
 
@@ -140,7 +165,11 @@ public class EventBusOptions extends TCPSSLOptions {
     this.clusterPublicPort = other.clusterPublicPort;
     this.clusterPingInterval = other.clusterPingInterval;
     this.clusterPingReplyInterval = other.clusterPingReplyInterval;
+    this.clusterWriteBatching = other.clusterWriteBatching;
+    this.clusterWriteBatchMaxMessages = other.clusterWriteBatchMaxMessages;
+    this.clusterWriteBatchMaxBytes = other.clusterWriteBatchMaxBytes;
     this.clusterNodeMetadata = other.clusterNodeMetadata == null ? null : other.clusterNodeMetadata.copy();
+    this.consumerSelectionPolicy = other.consumerSelectionPolicy;
 
     this.port = other.port;
     this.host = other.host;
@@ -587,6 +616,71 @@ public class EventBusOptions extends TCPSSLOptions {
     return this;
   }
 
+  /**
+   * @return whether writes to cluster connections are batched
+   */
+  public boolean isClusterWriteBatching() {
+    return clusterWriteBatching;
+  }
+
+  /**
+   * Set whether writes to cluster connections are batched.
+   * <p>
+   * When enabled, the messages sent to the same remote node during an event-loop turn are gathered
+   * in a single buffer and written with a single flush, instead of one write and one flush per message.
+   * A batch is flushed as soon as it reaches {@link #getClusterWriteBatchMaxMessages()} messages or
+   * {@link #getClusterWriteBatchMaxBytes()} bytes.
+   *
+   * @param clusterWriteBatching {@code true} to batch cluster connection writes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterWriteBatching(boolean clusterWriteBatching) {
+    this.clusterWriteBatching = clusterWriteBatching;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of messages gathered in a single cluster connection write batch
+   */
+  public int getClusterWriteBatchMaxMessages() {
+    return clusterWriteBatchMaxMessages;
+  }
+
+  /**
+   * Set the maximum number of messages gathered in a single cluster connection write batch.
+   *
+   * @param clusterWriteBatchMaxMessages the maximum number of messages in a batch
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterWriteBatchMaxMessages(int clusterWriteBatchMaxMessages) {
+    if (clusterWriteBatchMaxMessages < 1) {
+      throw new IllegalArgumentException("clusterWriteBatchMaxMessages must be greater than 0");
+    }
+    this.clusterWriteBatchMaxMessages = clusterWriteBatchMaxMessages;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of bytes gathered in a single cluster connection write batch
+   */
+  public int getClusterWriteBatchMaxBytes() {
+    return clusterWriteBatchMaxBytes;
+  }
+
+  /**
+   * Set the maximum number of bytes gathered in a single cluster connection write batch.
+   *
+   * @param clusterWriteBatchMaxBytes the maximum number of bytes in a batch
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterWriteBatchMaxBytes(int clusterWriteBatchMaxBytes) {
+    if (clusterWriteBatchMaxBytes < 1) {
+      throw new IllegalArgumentException("clusterWriteBatchMaxBytes must be greater than 0");
+    }
+    this.clusterWriteBatchMaxBytes = clusterWriteBatchMaxBytes;
+    return this;
+  }
+
   /**
    * Get the public facing host to be used when clustering.
    *
@@ -665,4 +759,23 @@ public class EventBusOptions extends TCPSSLOptions {
     this.clusterNodeMetadata = clusterNodeMetadata;
     return this;
   }
+
+  /**
+   * @return the policy selecting the consumer of a message sent point-to-point
+   */
+  public ConsumerSelectionPolicy getConsumerSelectionPolicy() {
+    return consumerSelectionPolicy;
+  }
+
+  /**
+   * Set the policy selecting the consumer of a message sent point-to-point among the local consumers of an address,
+   * it can be overridden per message with {@link DeliveryOptions#setConsumerSelectionPolicy(ConsumerSelectionPolicy)}.
+   *
+   * @param consumerSelectionPolicy the policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setConsumerSelectionPolicy(ConsumerSelectionPolicy consumerSelectionPolicy) {
+    this.consumerSelectionPolicy = Objects.requireNonNull(consumerSelectionPolicy);
+    return this;
+  }
 }
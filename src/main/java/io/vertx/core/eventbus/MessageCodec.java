@@ -55,6 +55,9 @@ public interface MessageCodec<S, R> {
   /**
    * If a message is sent <i>locally</i> across the event bus, this method is called to transform the message from
    * the sent type S to the received type R
+   * <p>
+   * This method is called for each consumer receiving the message, a codec of an immutable type can return
+   * the sent message as is so all the consumers of a published message share the same instance.
    *
    * @param s  the sent message
    * @return  the transformed message
@@ -12,6 +12,7 @@
 package io.vertx.core.eventbus;
 
 import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
@@ -22,11 +23,16 @@ import io.vertx.core.streams.WriteStream;
 /**
  * Represents a stream of message that can be written to.
  * <p>
+ * A sender supports credit-based flow control, enabled by {@link #setWriteQueueMaxSize(int)}: the consumer grants
+ * a credit to the sender for each message once its handler has returned or when it discards the message, the sender
+ * sends at most as many messages as it has credits and queues the other messages. A message dropped by an inbound
+ * interceptor that does not call {@link DeliveryContext#next()} does not give its credit back. This works with a consumer on the same node or on another node of the cluster and lets
+ * a stream be piped to the event bus without unbounded buffering in the consumer or discarded messages.
  *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
 @VertxGen
-public interface MessageProducer<T> {
+public interface MessageProducer<T> extends WriteStream<T> {
 
   /**
    * Update the delivery options of this producer.
@@ -44,18 +50,66 @@ public interface MessageProducer<T> {
 
   /**
    * Write a message to the event-bus, either sending or publishing.
+   * <p>
+   * When the sender flow control is enabled and the sender has no credit, the message is queued until the consumer
+   * grants credits.
    *
    * @param body the message body
    * @param handler the handler called when the message has been successfully or failed to be written, this is not a delivery
    *                guarantee
    */
+  @Override
   void write(T body, Handler<AsyncResult<Void>> handler);
 
   /**
    * Like {@link #write(Object, Handler)} but returns a {@code Future} of the asynchronous result
    */
+  @Override
   Future<Void> write(T body);
 
+  /**
+   * Enable the credit-based flow control of a sender and set the maximum number of messages sent and not yet
+   * handled by the consumer.
+   * <p>
+   * The consumers of the address must run Vert.x with flow control support, otherwise the sender stops sending
+   * once it has no credit.
+   *
+   * @param maxSize the max number of messages in flight
+   * @return this producer object
+   * @throws IllegalStateException when this producer is a publisher
+   */
+  @Fluent
+  @Override
+  MessageProducer<T> setWriteQueueMaxSize(int maxSize);
+
+  /**
+   * @return {@code true} when the flow control is enabled and the sender has no credit left for queued and new
+   *         messages, always {@code false} otherwise
+   */
+  @Override
+  boolean writeQueueFull();
+
+  /**
+   * Set a drain handler on the producer, called when the sender has been granted credits after the write queue
+   * was full and at least half of the write queue max size can be written.
+   *
+   * @param handler the handler
+   * @return this producer object
+   */
+  @Fluent
+  @Override
+  MessageProducer<T> drainHandler(@Nullable Handler<Void> handler);
+
+  @Fluent
+  @Override
+  MessageProducer<T> exceptionHandler(Handler<Throwable> handler);
+
+  /**
+   * Closes the producer, same as {@link #close(Handler)}.
+   */
+  @Override
+  void end(Handler<AsyncResult<Void>> handler);
+
   /**
    * Closes the producer, this method should be called when the message producer is not used anymore.
    *
@@ -48,6 +48,12 @@ public class CodecManager {
   private final MessageCodec[] systemCodecs;
   private final ConcurrentMap<String, MessageCodec> userCodecMap = new ConcurrentHashMap<>();
   private final ConcurrentMap<Class, MessageCodec> defaultCodecMap = new ConcurrentHashMap<>();
+  private final ClassValue<MessageCodec> codecCache = new ClassValue<MessageCodec>() {
+    @Override
+    protected MessageCodec computeValue(Class<?> type) {
+      return resolveCodec(type);
+    }
+  };
 
   public CodecManager() {
     this.systemCodecs = codecs(NULL_MESSAGE_CODEC, PING_MESSAGE_CODEC, STRING_MESSAGE_CODEC, BUFFER_MESSAGE_CODEC, JSON_OBJECT_MESSAGE_CODEC, JSON_ARRAY_MESSAGE_CODEC,
@@ -64,39 +70,8 @@ public class CodecManager {
       }
     } else if (body == null) {
       codec = NULL_MESSAGE_CODEC;
-    } else if (body instanceof String) {
-      codec = STRING_MESSAGE_CODEC;
-    } else if (body instanceof Buffer) {
-      codec = BUFFER_MESSAGE_CODEC;
-    } else if (body instanceof JsonObject) {
-      codec = JSON_OBJECT_MESSAGE_CODEC;
-    } else if (body instanceof JsonArray) {
-      codec = JSON_ARRAY_MESSAGE_CODEC;
-    } else if (body instanceof byte[]) {
-      codec = BYTE_ARRAY_MESSAGE_CODEC;
-    } else if (body instanceof Integer) {
-      codec = INT_MESSAGE_CODEC;
-    } else if (body instanceof Long) {
-      codec = LONG_MESSAGE_CODEC;
-    } else if (body instanceof Float) {
-      codec = FLOAT_MESSAGE_CODEC;
-    } else if (body instanceof Double) {
-      codec = DOUBLE_MESSAGE_CODEC;
-    } else if (body instanceof Boolean) {
-      codec = BOOLEAN_MESSAGE_CODEC;
-    } else if (body instanceof Short) {
-      codec = SHORT_MESSAGE_CODEC;
-    } else if (body instanceof Character) {
-      codec = CHAR_MESSAGE_CODEC;
-    } else if (body instanceof Byte) {
-      codec = BYTE_MESSAGE_CODEC;
-    } else if (body instanceof ReplyException) {
-      codec = defaultCodecMap.get(body.getClass());
-      if (codec == null) {
-        codec = REPLY_EXCEPTION_MESSAGE_CODEC;
-      }
     } else {
-      codec = defaultCodecMap.get(body.getClass());
+      codec = codecCache.get(body.getClass());
       if (codec == null) {
         throw new IllegalArgumentException("No message codec for type: " + body.getClass());
       }
@@ -104,6 +79,45 @@ public class CodecManager {
     return codec;
   }
 
+  /**
+   * Resolve the codec of a body class, the result is cached by {@link #codecCache} and must be invalidated
+   * when the default codec of the class changes.
+   */
+  private MessageCodec resolveCodec(Class<?> clazz) {
+    if (String.class.isAssignableFrom(clazz)) {
+      return STRING_MESSAGE_CODEC;
+    } else if (Buffer.class.isAssignableFrom(clazz)) {
+      return BUFFER_MESSAGE_CODEC;
+    } else if (JsonObject.class.isAssignableFrom(clazz)) {
+      return JSON_OBJECT_MESSAGE_CODEC;
+    } else if (JsonArray.class.isAssignableFrom(clazz)) {
+      return JSON_ARRAY_MESSAGE_CODEC;
+    } else if (byte[].class.isAssignableFrom(clazz)) {
+      return BYTE_ARRAY_MESSAGE_CODEC;
+    } else if (Integer.class.isAssignableFrom(clazz)) {
+      return INT_MESSAGE_CODEC;
+    } else if (Long.class.isAssignableFrom(clazz)) {
+      return LONG_MESSAGE_CODEC;
+    } else if (Float.class.isAssignableFrom(clazz)) {
+      return FLOAT_MESSAGE_CODEC;
+    } else if (Double.class.isAssignableFrom(clazz)) {
+      return DOUBLE_MESSAGE_CODEC;
+    } else if (Boolean.class.isAssignableFrom(clazz)) {
+      return BOOLEAN_MESSAGE_CODEC;
+    } else if (Short.class.isAssignableFrom(clazz)) {
+      return SHORT_MESSAGE_CODEC;
+    } else if (Character.class.isAssignableFrom(clazz)) {
+      return CHAR_MESSAGE_CODEC;
+    } else if (Byte.class.isAssignableFrom(clazz)) {
+      return BYTE_MESSAGE_CODEC;
+    } else if (ReplyException.class.isAssignableFrom(clazz)) {
+      MessageCodec codec = defaultCodecMap.get(clazz);
+      return codec != null ? codec : REPLY_EXCEPTION_MESSAGE_CODEC;
+    } else {
+      return defaultCodecMap.get(clazz);
+    }
+  }
+
   public MessageCodec getCodec(String codecName) {
     return userCodecMap.get(codecName);
   }
@@ -136,6 +150,7 @@ public class CodecManager {
     }
     defaultCodecMap.put(clazz, codec);
     userCodecMap.put(codec.name(), codec);
+    codecCache.remove(clazz);
   }
 
   public void unregisterDefaultCodec(Class clazz) {
@@ -144,6 +159,7 @@ public class CodecManager {
     if (codec != null) {
       userCodecMap.remove(codec.name());
     }
+    codecCache.remove(clazz);
   }
 
   public MessageCodec[] systemCodecs() {
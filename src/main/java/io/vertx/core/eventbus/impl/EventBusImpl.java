@@ -48,11 +48,17 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
   protected final ConcurrentMap<String, ConcurrentCyclicSequence<HandlerHolder>> handlerMap = new ConcurrentHashMap<>();
   protected final CodecManager codecManager = new CodecManager();
   protected volatile boolean started;
+  private final ConsumerSelectionPolicy consumerSelectionPolicy;
 
   public EventBusImpl(VertxInternal vertx) {
+    this(vertx, new EventBusOptions());
+  }
+
+  public EventBusImpl(VertxInternal vertx, EventBusOptions options) {
     VertxMetrics metrics = vertx.metricsSPI();
     this.vertx = vertx;
     this.metrics = metrics != null ? metrics.createEventBusMetrics() : null;
+    this.consumerSelectionPolicy = options.getConsumerSelectionPolicy();
   }
 
   @Override
@@ -316,7 +322,8 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
   }
 
   private <T> void sendLocally(OutboundDeliveryContext<T> sendContext) {
-    ReplyException failure = deliverMessageLocally(sendContext.message);
+    ConsumerSelectionPolicy policy = sendContext.options.getConsumerSelectionPolicy();
+    ReplyException failure = deliverMessageLocally(sendContext.message, policy != null ? policy : consumerSelectionPolicy);
     if (failure != null) {
       sendContext.written(failure);
     } else {
@@ -329,13 +336,20 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
   }
 
   protected ReplyException deliverMessageLocally(MessageImpl msg) {
+    return deliverMessageLocally(msg, consumerSelectionPolicy);
+  }
+
+  protected ReplyException deliverMessageLocally(MessageImpl msg, ConsumerSelectionPolicy policy) {
     ConcurrentCyclicSequence<HandlerHolder> handlers = handlerMap.get(msg.address());
     if (handlers != null) {
       if (msg.isSend()) {
         //Choose one
-        HandlerHolder holder = handlers.next();
+        HandlerHolder holder = policy == ConsumerSelectionPolicy.EVENT_LOOP_AFFINITY ? selectByAffinity(handlers) : handlers.next();
         if (metrics != null) {
           metrics.messageReceived(msg.address(), !msg.isSend(), isMessageLocal(msg), holder != null ? 1 : 0);
+          if (holder != null) {
+            metrics.consumerSelected(msg.address(), holder.context.nettyEventLoop().inEventLoop());
+          }
         }
         if (holder != null) {
           holder.handler.receive(msg.copyBeforeReceive());
@@ -360,6 +374,43 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
     }
   }
 
+  /**
+   * Select the least loaded handler on the current event loop, otherwise the least loaded handler, preferring
+   * the next handler in turn.
+   */
+  private HandlerHolder selectByAffinity(ConcurrentCyclicSequence<HandlerHolder> handlers) {
+    // The local handlers are scanned first, the load of the other handlers is only read when none is local
+    HandlerHolder local = null;
+    int localLoad = Integer.MAX_VALUE;
+    for (HandlerHolder holder : handlers) {
+      if (holder.context.nettyEventLoop().inEventLoop()) {
+        int load = holder.handler.pendingMessages();
+        if (load < localLoad) {
+          local = holder;
+          localLoad = load;
+        }
+      }
+    }
+    if (local != null) {
+      return local;
+    }
+    HandlerHolder leastLoaded = null;
+    int minLoad = Integer.MAX_VALUE;
+    for (HandlerHolder holder : handlers) {
+      int load = holder.handler.pendingMessages();
+      if (load < minLoad) {
+        leastLoaded = holder;
+        minLoad = load;
+      }
+    }
+    if (leastLoaded == null) {
+      return null;
+    }
+    // Only touch the shared round robin counter when the message hops anyway
+    HandlerHolder next = handlers.next();
+    return next != null && next.handler.pendingMessages() <= minLoad ? next : leastLoaded;
+  }
+
   protected void checkStarted() {
     if (!started) {
       throw new IllegalStateException("Event Bus is not started");
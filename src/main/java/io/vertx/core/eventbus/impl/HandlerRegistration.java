@@ -59,6 +59,14 @@ public abstract class HandlerRegistration<T> implements Closeable {
 
   protected abstract boolean doReceive(Message<T> msg);
 
+  /**
+   * @return the number of messages received and not yet handled, used to balance the load between handlers, this is
+   *         called by the senders and must not lock the registration
+   */
+  protected int pendingMessages() {
+    return 0;
+  }
+
   protected abstract void dispatch(Message<T> msg, ContextInternal context, Handler<Message<T>> handler);
 
   synchronized void register(String repliedAddress, boolean localOnly, Promise<Void> promise) {
@@ -44,10 +44,15 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
   private Handler<AsyncResult<Void>> completionHandler;
   private Handler<Void> endHandler;
   private Handler<Message<T>> discardHandler;
+  private Handler<Throwable> exceptionHandler;
   private int maxBufferedMessages = DEFAULT_MAX_BUFFERED_MESSAGES;
   private Queue<Message<T>> pending = new ArrayDeque<>(8);
+  // The size of pending, read without the lock by the senders selecting a consumer
+  private volatile int pendingCount;
   private long demand = Long.MAX_VALUE;
   private Promise<Void> result;
+  private String creditAddress;
+  private int credits;
 
   MessageConsumerImpl(Vertx vertx, ContextInternal context, EventBusImpl eventBus, String address, boolean localOnly) {
     super(context, eventBus, address, false);
@@ -77,16 +82,23 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
       while (pending.size() > maxBufferedMessages) {
         discarded.add(pending.poll());
       }
+      pendingCount = pending.size();
     }
     for (Message<T> msg : discarded) {
       if (discardHandler != null) {
         discardHandler.handle(msg);
       }
       discard(msg);
+      grantCredit(msg);
     }
     return this;
   }
 
+  @Override
+  protected int pendingMessages() {
+    return pendingCount;
+  }
+
   @Override
   public synchronized int getMaxBufferedMessages() {
     return maxBufferedMessages;
@@ -127,8 +139,10 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
       Queue<Message<T>> discarded = pending;
       Handler<Message<T>> handler = discardHandler;
       pending = new ArrayDeque<>();
+      pendingCount = 0;
       for (Message<T> msg : discarded) {
         discard(msg);
+        grantCredit(msg);
         if (handler != null) {
           context.emit(msg, handler);
         }
@@ -154,6 +168,7 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
       if (demand == 0L) {
         if (pending.size() < maxBufferedMessages) {
           pending.add(message);
+          pendingCount = pending.size();
           return true;
         } else {
           discard(message);
@@ -162,6 +177,7 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
           } else {
             log.warn("Discarding message as more than " + maxBufferedMessages + " buffered in paused consumer. address: " + address);
           }
+          grantCredit(message);
         }
         return true;
       } else {
@@ -184,7 +200,30 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
     if (handler == null) {
       throw new NullPointerException();
     }
-    context.emit(msg, handler);
+    Handler<Throwable> exceptionHandler;
+    synchronized (this) {
+      exceptionHandler = this.exceptionHandler;
+    }
+    String creditAddress = ((MessageImpl<?, T>) msg).creditAddress();
+    if (creditAddress == null && exceptionHandler == null) {
+      context.emit(msg, handler);
+    } else {
+      // The credit is granted once the handler has returned, a worker context runs the handler asynchronously
+      context.emit(msg, m -> {
+        try {
+          handler.handle(m);
+        } catch (Throwable t) {
+          if (exceptionHandler == null) {
+            throw t;
+          }
+          exceptionHandler.handle(t);
+        } finally {
+          if (creditAddress != null) {
+            grantCredit(creditAddress);
+          }
+        }
+      });
+    }
   }
 
   private void deliver(Handler<Message<T>> theHandler, Message<T> message) {
@@ -194,6 +233,56 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
     checkNextTick();
   }
 
+  /**
+   * Grant the credit of a message that is not handled, the sender must not wait for it.
+   */
+  private void grantCredit(Message<T> message) {
+    String sender = ((MessageImpl<?, T>) message).creditAddress();
+    if (sender != null) {
+      grantCredit(sender);
+    }
+  }
+
+  /**
+   * Grant a credit to a sender with flow control, the credits granted to the same sender during an event loop
+   * iteration are sent in a single message.
+   */
+  private void grantCredit(String address) {
+    String flushAddress;
+    int flushAmount;
+    synchronized (this) {
+      if (address.equals(creditAddress)) {
+        credits++;
+        return;
+      }
+      // Swap the sender under the same lock, the discard path grants credits from the sender thread
+      flushAddress = creditAddress;
+      flushAmount = credits;
+      creditAddress = address;
+      credits = 1;
+    }
+    if (flushAddress != null) {
+      // A flush is already scheduled
+      eventBus.send(flushAddress, flushAmount);
+    } else {
+      context.nettyEventLoop().execute(this::flushCredits);
+    }
+  }
+
+  private void flushCredits() {
+    String address;
+    int amount;
+    synchronized (this) {
+      address = creditAddress;
+      amount = credits;
+      creditAddress = null;
+      credits = 0;
+    }
+    if (address != null) {
+      eventBus.send(address, amount);
+    }
+  }
+
   private synchronized void checkNextTick() {
     // Check if there are more pending messages in the queue that can be processed next time around
     if (!pending.isEmpty() && demand > 0L) {
@@ -204,6 +293,7 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
           if (demand == 0L || (message = pending.poll()) == null) {
             return;
           }
+          pendingCount = pending.size();
           if (demand != Long.MAX_VALUE) {
             demand--;
           }
@@ -294,6 +384,7 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
 
   @Override
   public synchronized MessageConsumer<T> exceptionHandler(Handler<Throwable> handler) {
+    exceptionHandler = handler;
     return this;
   }
 
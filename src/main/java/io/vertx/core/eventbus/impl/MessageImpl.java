@@ -75,6 +75,13 @@ public class MessageImpl<U, V> implements Message<V> {
     return new MessageImpl<>(this);
   }
 
+  /**
+   * @return the address to which the consumer grants a credit after handling this message or {@code null}
+   */
+  protected String creditAddress() {
+    return headers != null ? headers.get(MessageProducerImpl.CREDIT_ADDRESS_HEADER_NAME) : null;
+  }
+
   @Override
   public String address() {
     return address;
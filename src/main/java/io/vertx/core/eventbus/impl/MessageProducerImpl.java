@@ -14,23 +14,48 @@ package io.vertx.core.eventbus.impl;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxException;
 import io.vertx.core.eventbus.*;
+import io.vertx.core.impl.Arguments;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
 public class MessageProducerImpl<T> implements MessageProducer<T> {
 
+  /**
+   * The header carrying the address to which the consumer grants credits to a sender with flow control.
+   */
+  public static final String CREDIT_ADDRESS_HEADER_NAME = "__vertx.credit";
+
   private final Vertx vertx;
   private final EventBusImpl bus;
   private final boolean send;
   private final String address;
   private DeliveryOptions options;
 
+  // Flow control state, creditAddress is null when flow control is disabled
+  private String creditAddress;
+  private MessageConsumer<Integer> creditConsumer;
+  private boolean creditConsumerRegistered;
+  private boolean closed;
+  private int maxSize;
+  private int credits;
+  private final Queue<PendingWrite<T>> pending = new ArrayDeque<>();
+  private Handler<Void> drainHandler;
+  private ContextInternal drainContext;
+
   public MessageProducerImpl(Vertx vertx, String address, boolean send, DeliveryOptions options) {
     this.vertx = vertx;
     this.bus = (EventBusImpl) vertx.eventBus();
@@ -62,8 +87,140 @@ public class MessageProducerImpl<T> implements MessageProducer<T> {
   }
 
   private void write(T data, Promise<Void> handler) {
-    MessageImpl msg = bus.createMessage(send, address, options.getHeaders(), data, options.getCodecName());
-    bus.sendOrPubInternal(msg, options, null, handler);
+    synchronized (this) {
+      if (creditAddress != null) {
+        if (closed) {
+          if (handler != null) {
+            handler.fail(new VertxException("Producer closed"));
+          }
+          return;
+        }
+        if (!creditConsumerRegistered || credits == 0 || !pending.isEmpty()) {
+          pending.add(new PendingWrite<>(data, handler));
+          return;
+        }
+        credits--;
+      }
+    }
+    doWrite(data, handler);
+  }
+
+  private void doWrite(T data, Promise<Void> handler) {
+    DeliveryOptions options;
+    String creditAddress;
+    synchronized (this) {
+      options = this.options;
+      creditAddress = this.creditAddress;
+    }
+    MultiMap headers = options.getHeaders();
+    if (creditAddress != null) {
+      MultiMap copy = MultiMap.caseInsensitiveMultiMap();
+      if (headers != null) {
+        copy.addAll(headers);
+      }
+      headers = copy.add(CREDIT_ADDRESS_HEADER_NAME, creditAddress);
+    }
+    Promise<Void> writePromise = handler;
+    if (creditAddress != null) {
+      // A message that is not delivered will never be acknowledged by a consumer, give its credit back
+      writePromise = Promise.promise();
+      writePromise.future().onComplete(ar -> {
+        if (ar.failed()) {
+          grantCredits(1);
+        }
+        if (handler != null) {
+          handler.handle(ar);
+        }
+      });
+    }
+    MessageImpl msg = bus.createMessage(send, address, headers, data, options.getCodecName());
+    bus.sendOrPubInternal(msg, options, null, writePromise);
+  }
+
+  @Override
+  public MessageProducer<T> setWriteQueueMaxSize(int maxSize) {
+    Arguments.require(maxSize > 0, "Write queue max size must be > 0");
+    if (!send) {
+      throw new IllegalStateException("Flow control is not supported by publishers");
+    }
+    MessageConsumer<Integer> consumer;
+    synchronized (this) {
+      if (creditAddress != null) {
+        credits += maxSize - this.maxSize;
+        this.maxSize = maxSize;
+        consumer = null;
+      } else {
+        creditAddress = "__vertx.credit." + UUID.randomUUID();
+        this.maxSize = maxSize;
+        credits = maxSize;
+        consumer = bus.consumer(creditAddress);
+        creditConsumer = consumer;
+      }
+    }
+    if (consumer != null) {
+      consumer.handler(msg -> grantCredits(msg.body()));
+      // A credit granted by a remote consumer before the registration is known by the cluster would be lost,
+      // the writes are queued until the registration completes
+      consumer.completionHandler(ar -> {
+        synchronized (MessageProducerImpl.this) {
+          creditConsumerRegistered = true;
+        }
+        grantCredits(0);
+      });
+    } else {
+      grantCredits(0);
+    }
+    return this;
+  }
+
+  @Override
+  public synchronized boolean writeQueueFull() {
+    return creditAddress != null && pending.size() >= credits;
+  }
+
+  @Override
+  public synchronized MessageProducer<T> drainHandler(Handler<Void> handler) {
+    drainHandler = handler;
+    drainContext = handler != null ? ((VertxInternal) vertx).getOrCreateContext() : null;
+    return this;
+  }
+
+  @Override
+  public MessageProducer<T> exceptionHandler(Handler<Throwable> handler) {
+    return this;
+  }
+
+  private void grantCredits(int amount) {
+    List<PendingWrite<T>> writes = null;
+    Handler<Void> drain = null;
+    ContextInternal ctx = null;
+    synchronized (this) {
+      credits += amount;
+      if (!creditConsumerRegistered) {
+        return;
+      }
+      while (credits > 0 && !pending.isEmpty()) {
+        if (writes == null) {
+          writes = new ArrayList<>();
+        }
+        writes.add(pending.poll());
+        credits--;
+      }
+      if (drainHandler != null && pending.isEmpty() && credits >= Math.max(1, maxSize / 2)) {
+        drain = drainHandler;
+        ctx = drainContext;
+        drainHandler = null;
+        drainContext = null;
+      }
+    }
+    if (writes != null) {
+      for (PendingWrite<T> write : writes) {
+        doWrite(write.data, write.handler);
+      }
+    }
+    if (drain != null) {
+      ctx.runOnContext(drain);
+    }
   }
 
   @Override
@@ -73,9 +230,31 @@ public class MessageProducerImpl<T> implements MessageProducer<T> {
 
   @Override
   public Future<Void> close() {
+    MessageConsumer<Integer> consumer;
+    List<PendingWrite<T>> writes;
+    synchronized (this) {
+      consumer = creditConsumer;
+      creditConsumer = null;
+      closed = true;
+      writes = new ArrayList<>(pending);
+      pending.clear();
+    }
+    for (PendingWrite<T> write : writes) {
+      if (write.handler != null) {
+        write.handler.fail(new VertxException("Producer closed"));
+      }
+    }
+    if (consumer != null) {
+      return consumer.unregister();
+    }
     return ((ContextInternal)vertx.getOrCreateContext()).succeededFuture();
   }
 
+  @Override
+  public void end(Handler<AsyncResult<Void>> handler) {
+    close(handler);
+  }
+
   @Override
   public void close(Handler<AsyncResult<Void>> handler) {
     Future<Void> fut = close();
@@ -83,4 +262,15 @@ public class MessageProducerImpl<T> implements MessageProducer<T> {
       fut.onComplete(handler);
     }
   }
+
+  private static class PendingWrite<T> {
+
+    final T data;
+    final Promise<Void> handler;
+
+    PendingWrite(T data, Promise<Void> handler) {
+      this.data = data;
+      this.handler = handler;
+    }
+  }
 }
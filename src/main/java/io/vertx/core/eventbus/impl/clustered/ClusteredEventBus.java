@@ -65,7 +65,7 @@ public class ClusteredEventBus extends EventBusImpl {
   private NetServer server;
 
   public ClusteredEventBus(VertxInternal vertx, VertxOptions options, ClusterManager clusterManager, NodeSelector nodeSelector) {
-    super(vertx);
+    super(vertx, options.getEventBusOptions());
     this.options = options.getEventBusOptions();
     this.clusterManager = clusterManager;
     this.nodeSelector = nodeSelector;
@@ -174,6 +174,8 @@ public class ClusteredEventBus extends EventBusImpl {
     } else if (sendContext.options.isLocalOnly()) {
       super.sendOrPub(sendContext);
     } else {
+      // The node selection is asynchronous, copy the body while the sender has not modified it yet
+      ((ClusteredMessage<?, ?>) sendContext.message).copyBodyBeforeSend();
       Serializer serializer = Serializer.get(sendContext.ctx);
       if (sendContext.message.isSend()) {
         Promise<String> promise = sendContext.ctx.promise();
@@ -319,6 +321,7 @@ public class ClusteredEventBus extends EventBusImpl {
   }
 
   private void sendRemote(OutboundDeliveryContext<?> sendContext, String remoteNodeId, MessageImpl message) {
+    ((ClusteredMessage<?, ?>) message).copyBodyBeforeSend();
     // We need to deal with the fact that connecting can take some time and is async, and we cannot
     // block to wait for it. So we add any sends to a pending list if not connected yet.
     // Once we connect we send them.
@@ -11,6 +11,9 @@
 
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.util.CharsetUtil;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
@@ -21,6 +24,7 @@ import io.vertx.core.eventbus.ReplyFailure;
 import io.vertx.core.eventbus.impl.CodecManager;
 import io.vertx.core.eventbus.impl.EventBusImpl;
 import io.vertx.core.eventbus.impl.MessageImpl;
+import io.vertx.core.eventbus.impl.MessageProducerImpl;
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
 
@@ -44,6 +48,7 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
   private boolean fromWire;
   private boolean toWire;
   private String failure;
+  private boolean bodyCopied;
 
   public ClusteredMessage(EventBusImpl bus) {
     super(bus);
@@ -73,10 +78,34 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     return reply;
   }
 
+  /**
+   * Copy a {@link Buffer} body that is not read-only when the message is sent to another node. The message is
+   * encoded after the node is selected, so the sender can modify the buffer once the message is sent.
+   */
+  @SuppressWarnings("unchecked")
+  void copyBodyBeforeSend() {
+    if (messageCodec == CodecManager.BUFFER_MESSAGE_CODEC && sentBody != null && !bodyCopied) {
+      Buffer body = (Buffer) sentBody;
+      if (!body.isReadOnly()) {
+        sentBody = (U) body.copy();
+      }
+      bodyCopied = true;
+    }
+  }
+
   public ClusteredMessage<U, V> copyBeforeReceive() {
     return new ClusteredMessage<>(this);
   }
 
+  @Override
+  protected String creditAddress() {
+    // Avoid creating empty headers for a message without headers
+    if (headers == null && headersPos == 0) {
+      return null;
+    }
+    return headers().get(MessageProducerImpl.CREDIT_ADDRESS_HEADER_NAME);
+  }
+
   @Override
   public MultiMap headers() {
     // Lazily decode headers
@@ -111,6 +140,47 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     toWire = true;
     int length = 1024; // TODO make this configurable
     Buffer buffer = Buffer.buffer(length);
+    encodeFrame(buffer);
+    writeBody(buffer);
+    buffer.setInt(0, buffer.length() - 4);
+    return buffer;
+  }
+
+  /**
+   * Like {@link #encodeToWire()} but encodes the message directly in a buffer obtained from the {@code allocator},
+   * avoiding the copy of an intermediate heap buffer when the message is written to a channel.
+   * <p>
+   * A {@link Buffer} body copied by {@link #copyBodyBeforeSend()} or read-only is not copied again, instead it is
+   * added as a component of the returned buffer. The sender must not modify a read-only buffer it has sent.
+   *
+   * @param allocator the allocator of the channel the message will be written to
+   * @return the encoded message, the caller is responsible for releasing it
+   */
+  public ByteBuf encodeToWire(ByteBufAllocator allocator) {
+    toWire = true;
+    ByteBuf frame = allocator.directBuffer(1024);
+    try {
+      Buffer buffer = Buffer.buffer(frame);
+      encodeFrame(buffer);
+      if (messageCodec == CodecManager.BUFFER_MESSAGE_CODEC && sentBody != null && (bodyCopied || ((Buffer) sentBody).isReadOnly())) {
+        ByteBuf body = ((Buffer) sentBody).getByteBuf();
+        buffer.appendInt(body.readableBytes());
+        frame.setInt(0, frame.readableBytes() - 4 + body.readableBytes());
+        CompositeByteBuf composite = allocator.compositeDirectBuffer(2);
+        composite.addComponent(true, frame);
+        composite.addComponent(true, body);
+        return composite;
+      }
+      writeBody(buffer);
+      frame.setInt(0, frame.readableBytes() - 4);
+      return frame;
+    } catch (Throwable t) {
+      frame.release();
+      throw t;
+    }
+  }
+
+  private void encodeFrame(Buffer buffer) {
     buffer.appendInt(0);
     buffer.appendByte(WIRE_PROTOCOL_VERSION);
     byte systemCodecID = messageCodec.systemCodecID();
@@ -128,9 +198,6 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     }
     writeString(buffer, sender);
     encodeHeaders(buffer);
-    writeBody(buffer);
-    buffer.setInt(0, buffer.length() - 4);
-    return buffer;
   }
 
   public void readFromWire(Buffer buffer, CodecManager codecManager) {
@@ -11,6 +11,8 @@
 
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.EventBusOptions;
@@ -21,10 +23,13 @@ import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.impl.ConnectionBase;
+import io.vertx.core.net.impl.NetSocketInternal;
 import io.vertx.core.spi.cluster.NodeInfo;
 import io.vertx.core.spi.metrics.EventBusMetrics;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 
 /**
@@ -40,18 +45,28 @@ class ConnectionHolder {
   private final String remoteNodeId;
   private final VertxInternal vertx;
   private final EventBusMetrics metrics;
+  private final boolean batching;
+  private final int batchMaxMessages;
+  private final int batchMaxBytes;
 
   private Queue<OutboundDeliveryContext<?>> pending;
   private NetSocket socket;
   private boolean connected;
   private long timeoutID = -1;
   private long pingTimeoutID = -1;
+  private List<OutboundDeliveryContext<?>> batch;
+  private CompositeByteBuf batchBuffer;
+  private boolean batchFlushScheduled;
 
   ConnectionHolder(ClusteredEventBus eventBus, String remoteNodeId) {
+    EventBusOptions options = eventBus.options();
     this.eventBus = eventBus;
     this.remoteNodeId = remoteNodeId;
     this.vertx = eventBus.vertx();
     this.metrics = eventBus.getMetrics();
+    this.batching = options.isClusterWriteBatching();
+    this.batchMaxMessages = options.getClusterWriteBatchMaxMessages();
+    this.batchMaxBytes = options.getClusterWriteBatchMaxBytes();
   }
 
   void connect() {
@@ -72,11 +87,7 @@ class ConnectionHolder {
   // TODO optimise this (contention on monitor)
   synchronized void writeMessage(OutboundDeliveryContext<?> ctx) {
     if (connected) {
-      Buffer data = ((ClusteredMessage) ctx.message).encodeToWire();
-      if (metrics != null) {
-        metrics.messageWritten(ctx.message.address(), data.length());
-      }
-      socket.write(data, ctx);
+      write(ctx);
     } else {
       if (pending == null) {
         if (log.isDebugEnabled()) {
@@ -88,6 +99,62 @@ class ConnectionHolder {
     }
   }
 
+  private void write(OutboundDeliveryContext<?> ctx) {
+    NetSocketInternal so = (NetSocketInternal) socket;
+    ByteBuf data = ((ClusteredMessage<?, ?>) ctx.message).encodeToWire(so.channelHandlerContext().alloc());
+    if (metrics != null) {
+      metrics.messageWritten(ctx.message.address(), data.readableBytes());
+    }
+    if (batching) {
+      batch(ctx, data);
+    } else {
+      so.writeMessage(data, ctx);
+    }
+  }
+
+  /**
+   * Gather the encoded message in the current batch, the batch is written when it exceeds the configured budget
+   * or at the end of the current event-loop turn, whichever comes first.
+   */
+  private void batch(OutboundDeliveryContext<?> ctx, ByteBuf data) {
+    if (batch == null) {
+      batch = new ArrayList<>(batchMaxMessages);
+      batchBuffer = ((NetSocketInternal) socket).channelHandlerContext().alloc().compositeDirectBuffer(batchMaxMessages);
+    }
+    batch.add(ctx);
+    batchBuffer.addComponent(true, data);
+    if (batch.size() >= batchMaxMessages || batchBuffer.readableBytes() >= batchMaxBytes) {
+      flushBatch();
+    } else if (!batchFlushScheduled) {
+      batchFlushScheduled = true;
+      ((NetSocketInternal) socket).channelHandlerContext().executor().execute(this::scheduledFlush);
+    }
+  }
+
+  private synchronized void scheduledFlush() {
+    batchFlushScheduled = false;
+    flushBatch();
+  }
+
+  private void flushBatch() {
+    List<OutboundDeliveryContext<?>> contexts = batch;
+    CompositeByteBuf buffer = batchBuffer;
+    if (contexts == null) {
+      return;
+    }
+    batch = null;
+    batchBuffer = null;
+    if (metrics != null) {
+      metrics.batchWritten(remoteNodeId, contexts.size(), buffer.readableBytes());
+    }
+    ((NetSocketInternal) socket).writeMessage(buffer, ar -> {
+      Throwable failure = ar.cause();
+      for (OutboundDeliveryContext<?> ctx : contexts) {
+        ctx.written(failure);
+      }
+    });
+  }
+
   void close() {
     close(ConnectionBase.CLOSED_EXCEPTION);
   }
@@ -106,6 +173,14 @@ class ConnectionHolder {
           msg.written(cause);
         }
       }
+      if (batch != null) {
+        for (OutboundDeliveryContext<?> ctx : batch) {
+          ctx.written(cause);
+        }
+        batchBuffer.release();
+        batch = null;
+        batchBuffer = null;
+      }
     }
     // The holder can be null or different if the target server is restarted with same nodeInfo
     // before the cleanup for the previous one has been processed
@@ -151,11 +226,7 @@ class ConnectionHolder {
         log.debug("Draining the queue for server " + remoteNodeId);
       }
       for (OutboundDeliveryContext<?> ctx : pending) {
-        Buffer data = ((ClusteredMessage<?, ?>)ctx.message).encodeToWire();
-        if (metrics != null) {
-          metrics.messageWritten(ctx.message.address(), data.length());
-        }
-        socket.write(data, ctx);
+        write(ctx);
       }
     }
     pending = null;
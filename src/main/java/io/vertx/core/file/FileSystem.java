@@ -18,6 +18,7 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.impl.SequentialFileSystemBatch;
 
 import java.util.List;
 
@@ -925,4 +926,18 @@ public interface FileSystem {
    */
   String createTempFileBlocking(String dir, String prefix, String suffix, String perms);
 
+  /**
+   * Create a batch of operations executed as a single blocking task once submitted, this avoids the cost of a
+   * blocking task per operation when many operations are performed, e.g reading the properties of the files
+   * of a directory.
+   * <p>
+   * The default implementation performs the operations one after the other with the asynchronous methods of this
+   * file system.
+   *
+   * @return the batch
+   */
+  default FileSystemBatch batch() {
+    return new SequentialFileSystemBatch(this);
+  }
+
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.file;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+
+import java.util.List;
+
+/**
+ * A batch of file system operations executed as a single blocking task, instead of one blocking task per operation.
+ * <p>
+ * Operations are added to the batch and return a future which is completed when the batch has been executed,
+ * the operations are executed in the order they were added when the batch is {@link #submit() submitted}. The failure
+ * of an operation only fails the future of this operation.
+ * <p>
+ * A batch can be submitted once, it is not thread safe and should be used by a single thread.
+ */
+@VertxGen
+public interface FileSystemBatch {
+
+  /**
+   * Add a {@link FileSystem#props(String)} operation to the batch.
+   */
+  Future<FileProps> props(String path);
+
+  /**
+   * Add a {@link FileSystem#lprops(String)} operation to the batch.
+   */
+  Future<FileProps> lprops(String path);
+
+  /**
+   * Add a {@link FileSystem#exists(String)} operation to the batch.
+   */
+  Future<Boolean> exists(String path);
+
+  /**
+   * Add a {@link FileSystem#readDir(String)} operation to the batch.
+   */
+  Future<List<String>> readDir(String path);
+
+  /**
+   * Add a {@link FileSystem#readDir(String, String)} operation to the batch.
+   */
+  Future<List<String>> readDir(String path, String filter);
+
+  /**
+   * Add a {@link FileSystem#readFile(String)} operation to the batch.
+   */
+  Future<Buffer> readFile(String path);
+
+  /**
+   * Add a {@link FileSystem#readSymlink(String)} operation to the batch.
+   */
+  Future<String> readSymlink(String link);
+
+  /**
+   * Add a {@link FileSystem#writeFile(String, Buffer)} operation to the batch.
+   */
+  Future<Void> writeFile(String path, Buffer data);
+
+  /**
+   * Add a {@link FileSystem#mkdirs(String)} operation to the batch.
+   */
+  Future<Void> mkdirs(String path);
+
+  /**
+   * Add a {@link FileSystem#delete(String)} operation to the batch.
+   */
+  Future<Void> delete(String path);
+
+  /**
+   * @return the number of operations in the batch
+   */
+  int size();
+
+  /**
+   * Submit the batch, no operation can be added afterwards.
+   *
+   * @return a future completed when all the operations are completed, failed with the failure of the first failed
+   *         operation
+   */
+  Future<Void> submit();
+
+}
@@ -48,9 +48,39 @@ public class FileSystemOptions {
    */
   public static final String DEFAULT_FILE_CACHING_DIR = System.getProperty(CACHE_DIR_BASE_PROP_NAME, TMPDIR + File.separator + DEFAULT_CACHE_DIR_BASE);
 
+  /**
+   * The default maximum number of files whose handle is cached for sending files = {@code 0} (disabled)
+   */
+  public static final int DEFAULT_SEND_FILE_CACHE_MAX_SIZE = 0;
+
+  /**
+   * The default time a cached file handle is used before checking the file again = {@code 1000} ms
+   */
+  public static final long DEFAULT_SEND_FILE_CACHE_MAX_AGE = 1000;
+
+  /**
+   * The default behavior to index the class path resources = {@code false}
+   */
+  public static final boolean DEFAULT_CLASS_PATH_INDEX_ENABLED = false;
+
+  /**
+   * The default max size of a class path resource held in memory when the class path is indexed = {@code 64 KiB}
+   */
+  public static final int DEFAULT_CLASS_PATH_INDEX_MEMORY_MAX_SIZE = 64 * 1024;
+
+  /**
+   * The default max total size of the class path resources held in memory when the class path is indexed = {@code 16 MiB}
+   */
+  public static final long DEFAULT_CLASS_PATH_INDEX_MEMORY_TOTAL_SIZE = 16 * 1024 * 1024;
+
   private boolean classPathResolvingEnabled = DEFAULT_CLASS_PATH_RESOLVING_ENABLED;
   private boolean fileCachingEnabled = DEFAULT_FILE_CACHING_ENABLED;
   private String fileCacheDir = DEFAULT_FILE_CACHING_DIR;
+  private int sendFileCacheMaxSize = DEFAULT_SEND_FILE_CACHE_MAX_SIZE;
+  private long sendFileCacheMaxAge = DEFAULT_SEND_FILE_CACHE_MAX_AGE;
+  private boolean classPathIndexEnabled = DEFAULT_CLASS_PATH_INDEX_ENABLED;
+  private int classPathIndexMemoryMaxSize = DEFAULT_CLASS_PATH_INDEX_MEMORY_MAX_SIZE;
+  private long classPathIndexMemoryTotalSize = DEFAULT_CLASS_PATH_INDEX_MEMORY_TOTAL_SIZE;
 
   /**
    * Default constructor
@@ -67,6 +97,11 @@ public class FileSystemOptions {
     this.classPathResolvingEnabled = other.isClassPathResolvingEnabled();
     this.fileCachingEnabled = other.isFileCachingEnabled();
     this.fileCacheDir = other.getFileCacheDir();
+    this.sendFileCacheMaxSize = other.getSendFileCacheMaxSize();
+    this.sendFileCacheMaxAge = other.getSendFileCacheMaxAge();
+    this.classPathIndexEnabled = other.isClassPathIndexEnabled();
+    this.classPathIndexMemoryMaxSize = other.getClassPathIndexMemoryMaxSize();
+    this.classPathIndexMemoryTotalSize = other.getClassPathIndexMemoryTotalSize();
   }
 
   /**
@@ -150,6 +185,116 @@ public class FileSystemOptions {
     return this;
   }
 
+  /**
+   * @return the maximum number of files whose handle is cached for sending files
+   */
+  public int getSendFileCacheMaxSize() {
+    return sendFileCacheMaxSize;
+  }
+
+  /**
+   * Set the maximum number of files whose resolved file, metadata and open channel are cached for sending files
+   * with {@code HttpServerResponse#sendFile} or {@code NetSocket#sendFile}, {@code 0} disables the cache.
+   *
+   * @param sendFileCacheMaxSize the maximum number of cached files
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileSystemOptions setSendFileCacheMaxSize(int sendFileCacheMaxSize) {
+    if (sendFileCacheMaxSize < 0) {
+      throw new IllegalArgumentException("sendFileCacheMaxSize must be >= 0");
+    }
+    this.sendFileCacheMaxSize = sendFileCacheMaxSize;
+    return this;
+  }
+
+  /**
+   * @return the time in ms a cached file handle is used before checking the file again
+   */
+  public long getSendFileCacheMaxAge() {
+    return sendFileCacheMaxAge;
+  }
+
+  /**
+   * Set the time in ms a cached file handle is used before checking whether the file has been modified, a
+   * modified file is opened again.
+   *
+   * @param sendFileCacheMaxAge the time in ms
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileSystemOptions setSendFileCacheMaxAge(long sendFileCacheMaxAge) {
+    if (sendFileCacheMaxAge < 0) {
+      throw new IllegalArgumentException("sendFileCacheMaxAge must be >= 0");
+    }
+    this.sendFileCacheMaxAge = sendFileCacheMaxAge;
+    return this;
+  }
+
+  /**
+   * @return whether the class path resources are indexed
+   */
+  public boolean isClassPathIndexEnabled() {
+    return classPathIndexEnabled;
+  }
+
+  /**
+   * When class path resolving is enabled, build an index of the class path resources in the background at startup.
+   * Once the index is built, the jar resources not larger than {@link #setClassPathIndexMemoryMaxSize(int) the memory
+   * max size} are read into memory instead of being extracted to the file cache dir when they are read with
+   * {@link FileSystem#readFile} or sent with {@code sendFile}, the larger resources are extracted when they are
+   * first resolved. The resources of class path directories are served from the file system and the resources
+   * are not held in memory when {@link #setFileCachingEnabled(boolean) file caching} is disabled.
+   *
+   * @param classPathIndexEnabled the value
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileSystemOptions setClassPathIndexEnabled(boolean classPathIndexEnabled) {
+    this.classPathIndexEnabled = classPathIndexEnabled;
+    return this;
+  }
+
+  /**
+   * @return the max size of a class path resource held in memory
+   */
+  public int getClassPathIndexMemoryMaxSize() {
+    return classPathIndexMemoryMaxSize;
+  }
+
+  /**
+   * Set the max size of a class path resource held in memory when the class path is indexed.
+   *
+   * @param classPathIndexMemoryMaxSize the max size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileSystemOptions setClassPathIndexMemoryMaxSize(int classPathIndexMemoryMaxSize) {
+    if (classPathIndexMemoryMaxSize < 0) {
+      throw new IllegalArgumentException("classPathIndexMemoryMaxSize must be >= 0");
+    }
+    this.classPathIndexMemoryMaxSize = classPathIndexMemoryMaxSize;
+    return this;
+  }
+
+  /**
+   * @return the max total size of the class path resources held in memory
+   */
+  public long getClassPathIndexMemoryTotalSize() {
+    return classPathIndexMemoryTotalSize;
+  }
+
+  /**
+   * Set the max total size of the class path resources held in memory when the class path is indexed, the least
+   * recently used resources are evicted when it is exceeded.
+   *
+   * @param classPathIndexMemoryTotalSize the max total size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileSystemOptions setClassPathIndexMemoryTotalSize(long classPathIndexMemoryTotalSize) {
+    if (classPathIndexMemoryTotalSize < 0) {
+      throw new IllegalArgumentException("classPathIndexMemoryTotalSize must be >= 0");
+    }
+    this.classPathIndexMemoryTotalSize = classPathIndexMemoryTotalSize;
+    return this;
+  }
+
 
   @Override
   public String toString() {
@@ -157,6 +302,11 @@ public class FileSystemOptions {
     "classPathResolvingEnabled=" + classPathResolvingEnabled +
     ", fileCachingEnabled=" + fileCachingEnabled +
     ", fileCacheDir=" + fileCacheDir +
+    ", sendFileCacheMaxSize=" + sendFileCacheMaxSize +
+    ", sendFileCacheMaxAge=" + sendFileCacheMaxAge +
+    ", classPathIndexEnabled=" + classPathIndexEnabled +
+    ", classPathIndexMemoryMaxSize=" + classPathIndexMemoryMaxSize +
+    ", classPathIndexMemoryTotalSize=" + classPathIndexMemoryTotalSize +
     '}';
   }
 }
@@ -38,6 +38,26 @@ public class OpenOptions {
    */
   public static final boolean DEFAULT_APPEND = false;
 
+  /**
+   * Whether the file uses adaptive I/O by default = false.
+   */
+  public static final boolean DEFAULT_ADAPTIVE_IO = false;
+
+  /**
+   * The default max size of the buffers used by adaptive I/O = 256 KiB.
+   */
+  public static final int DEFAULT_ADAPTIVE_IO_MAX_BUFFER_SIZE = 256 * 1024;
+
+  /**
+   * Whether the file is memory mapped by default = false.
+   */
+  public static final boolean DEFAULT_MEMORY_MAPPED = false;
+
+  /**
+   * The default size of the windows of a memory mapped file = 64 MiB.
+   */
+  public static final int DEFAULT_MEMORY_MAP_WINDOW_SIZE = 64 * 1024 * 1024;
+
   private String perms = DEFAULT_PERMS;
   private boolean read = DEFAULT_READ;
   private boolean write = DEFAULT_WRITE;
@@ -49,6 +69,10 @@ public class OpenOptions {
   private boolean truncateExisting = DEFAULT_TRUNCATEEXISTING;
   private boolean sparse = DEFAULT_SPARSE;
   private boolean append = DEFAULT_APPEND;
+  private boolean adaptiveIo = DEFAULT_ADAPTIVE_IO;
+  private int adaptiveIoMaxBufferSize = DEFAULT_ADAPTIVE_IO_MAX_BUFFER_SIZE;
+  private boolean memoryMapped = DEFAULT_MEMORY_MAPPED;
+  private int memoryMapWindowSize = DEFAULT_MEMORY_MAP_WINDOW_SIZE;
 
   /**
    * Default constructor
@@ -74,6 +98,10 @@ public class OpenOptions {
     this.truncateExisting = other.truncateExisting;
     this.sparse = other.sparse;
     this.append = other.append;
+    this.adaptiveIo = other.adaptiveIo;
+    this.adaptiveIoMaxBufferSize = other.adaptiveIoMaxBufferSize;
+    this.memoryMapped = other.memoryMapped;
+    this.memoryMapWindowSize = other.memoryMapWindowSize;
   }
 
   /**
@@ -300,4 +328,94 @@ public class OpenOptions {
     this.append = append;
     return this;
   }
+
+  /**
+   * @return true if the file uses adaptive I/O, false otherwise
+   */
+  public boolean isAdaptiveIo() {
+    return adaptiveIo;
+  }
+
+  /**
+   * Whether the file uses adaptive I/O. Defaults to {@code false}.
+   * <p>
+   * When reading the file as a stream, the read size starts at the read buffer size and doubles while the reads fill
+   * their buffer and the stream has demand, up to {@link #setAdaptiveIoMaxBufferSize(int) the max buffer size}, it shrinks
+   * back when the stream is paused. Each read fills the buffer emitted by the stream, without copy. Writes are performed
+   * one at a time in pooled direct buffers, the writes submitted in the meantime at contiguous positions are coalesced into a single write.
+   *
+   * @param adaptiveIo true to use adaptive I/O, false otherwise
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OpenOptions setAdaptiveIo(boolean adaptiveIo) {
+    this.adaptiveIo = adaptiveIo;
+    return this;
+  }
+
+  /**
+   * @return the max size of the buffers used by adaptive I/O
+   */
+  public int getAdaptiveIoMaxBufferSize() {
+    return adaptiveIoMaxBufferSize;
+  }
+
+  /**
+   * Set the max size of the reads and of the coalesced writes performed by adaptive I/O. Defaults to {@code 256 KiB}.
+   *
+   * @param adaptiveIoMaxBufferSize the max size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OpenOptions setAdaptiveIoMaxBufferSize(int adaptiveIoMaxBufferSize) {
+    if (adaptiveIoMaxBufferSize < 1) {
+      throw new IllegalArgumentException("adaptiveIoMaxBufferSize must be > 0");
+    }
+    this.adaptiveIoMaxBufferSize = adaptiveIoMaxBufferSize;
+    return this;
+  }
+
+  /**
+   * @return true if the file is memory mapped for reading, false otherwise
+   */
+  public boolean isMemoryMapped() {
+    return memoryMapped;
+  }
+
+  /**
+   * Whether the file is memory mapped for reading. Defaults to {@code false}.
+   * <p>
+   * The file is mapped in read-only windows of {@link #setMemoryMapWindowSize(int) the window size}, mapped when they
+   * are first read. Reads are served from the mapping on the calling thread instead of the worker pool, so this mode
+   * suits large files whose content resides in the page cache, reading a page that is not resident blocks the thread
+   * until the page is loaded. The buffers emitted by the read stream are read-only views of the mapping. Writes are not
+   * affected. The windows are unmapped when the file is closed, except the windows viewed by buffers emitted by the read
+   * stream, which are unmapped when these buffers are garbage collected.
+   *
+   * @param memoryMapped true to memory map the file, false otherwise
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OpenOptions setMemoryMapped(boolean memoryMapped) {
+    this.memoryMapped = memoryMapped;
+    return this;
+  }
+
+  /**
+   * @return the size of the windows of a memory mapped file
+   */
+  public int getMemoryMapWindowSize() {
+    return memoryMapWindowSize;
+  }
+
+  /**
+   * Set the size of the windows of a memory mapped file. Defaults to {@code 64 MiB}.
+   *
+   * @param memoryMapWindowSize the window size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OpenOptions setMemoryMapWindowSize(int memoryMapWindowSize) {
+    if (memoryMapWindowSize < 1) {
+      throw new IllegalArgumentException("memoryMapWindowSize must be > 0");
+    }
+    this.memoryMapWindowSize = memoryMapWindowSize;
+    return this;
+  }
 }
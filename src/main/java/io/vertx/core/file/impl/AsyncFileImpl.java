@@ -12,6 +12,8 @@
 package io.vertx.core.file.impl;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.impl.VertxByteBufAllocator;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -25,18 +27,23 @@ import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
+import io.vertx.core.net.impl.PartialPooledByteBufAllocator;
 import io.vertx.core.streams.impl.InboundBuffer;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.FileChannel;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.FileAttribute;
 import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -76,11 +83,24 @@ public class AsyncFileImpl implements AsyncFile {
   private long readPos;
   private long readLength = Long.MAX_VALUE;
 
+  // Adaptive I/O
+  private final boolean adaptive;
+  private final int maxBufferSize;
+  private int adaptiveReadSize = DEFAULT_READ_BUFFER_SIZE;
+  private final ArrayDeque<WriteBatch> writeBatches;
+  private boolean writing;
+
+  // Memory mapped reads
+  private final MappedFile mapped;
+
   AsyncFileImpl(VertxInternal vertx, String path, OpenOptions options, ContextInternal context) {
     if (!options.isRead() && !options.isWrite()) {
       throw new FileSystemException("Cannot open file for neither reading nor writing");
     }
     this.vertx = vertx;
+    this.adaptive = options.isAdaptiveIo();
+    this.maxBufferSize = options.getAdaptiveIoMaxBufferSize();
+    this.writeBatches = adaptive ? new ArrayDeque<>() : null;
     Path file = Paths.get(path);
     HashSet<OpenOption> opts = new HashSet<>();
     if (options.isRead()) opts.add(StandardOpenOption.READ);
@@ -92,6 +112,9 @@ public class AsyncFileImpl implements AsyncFile {
     if (options.isDeleteOnClose()) opts.add(StandardOpenOption.DELETE_ON_CLOSE);
     if (options.isSparse()) opts.add(StandardOpenOption.SPARSE);
     if (options.isTruncateExisting()) opts.add(StandardOpenOption.TRUNCATE_EXISTING);
+    if (options.isMemoryMapped() && !options.isRead()) {
+      throw new FileSystemException("Cannot memory map a file not opened for reading");
+    }
     try {
       if (options.getPerms() != null) {
         FileAttribute<?> attrs = PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(options.getPerms()));
@@ -103,6 +126,19 @@ public class AsyncFileImpl implements AsyncFile {
     } catch (IOException e) {
       throw new FileSystemException(e);
     }
+    if (options.isMemoryMapped()) {
+      try {
+        mapped = new MappedFile(FileChannel.open(file, StandardOpenOption.READ), options.getMemoryMapWindowSize(), vertx.fileSystemMetrics());
+      } catch (IOException e) {
+        try {
+          ch.close();
+        } catch (IOException ignore) {
+        }
+        throw new FileSystemException(e);
+      }
+    } else {
+      mapped = null;
+    }
     this.context = context;
     this.queue = new InboundBuffer<>(context, 0);
     queue.handler(buff -> {
@@ -156,8 +192,12 @@ public class AsyncFileImpl implements AsyncFile {
     Arguments.require(position >= 0, "position must be >= 0");
     Arguments.require(length >= 0, "length must be >= 0");
     check();
-    ByteBuffer bb = ByteBuffer.allocate(length);
-    doRead(buffer, offset, bb, position, promise);
+    if (mapped != null) {
+      doMappedRead(buffer, offset, position, length, promise);
+    } else {
+      ByteBuffer bb = ByteBuffer.allocate(length);
+      doRead(buffer, offset, bb, position, promise);
+    }
     return promise.future();
   }
 
@@ -190,6 +230,7 @@ public class AsyncFileImpl implements AsyncFile {
       synchronized (AsyncFileImpl.this) {
         if (writesOutstanding == 0 && closedDeferred != null) {
           action = closedDeferred;
+          closedDeferred = null;
         } else {
           if (overflow && writesOutstanding <= lwm) {
             overflow = false;
@@ -223,7 +264,9 @@ public class AsyncFileImpl implements AsyncFile {
       }
     };
     ByteBuf buf = buffer.getByteBuf();
-    if (buf.nioBufferCount() > 1) {
+    if (adaptive) {
+      doAdaptiveWrite(buf, position, wrapped);
+    } else if (buf.nioBufferCount() > 1) {
       doWrite(buf.nioBuffers(), position, wrapped);
     } else {
       ByteBuffer bb = buf.nioBuffer();
@@ -257,6 +300,7 @@ public class AsyncFileImpl implements AsyncFile {
   @Override
   public synchronized AsyncFile setReadBufferSize(int readBufferSize) {
     this.readBufferSize = readBufferSize;
+    this.adaptiveReadSize = readBufferSize;
     return this;
   }
 
@@ -390,7 +434,84 @@ public class AsyncFileImpl implements AsyncFile {
   }
 
   private void doRead() {
-    doRead(ByteBuffer.allocate(readBufferSize));
+    if (mapped != null) {
+      context.runOnContext(v -> doMappedRead());
+    } else if (adaptive) {
+      doAdaptiveRead();
+    } else {
+      doRead(ByteBuffer.allocate(readBufferSize));
+    }
+  }
+
+  /**
+   * Read the next chunk of the stream into the buffer emitted by the stream, the read size grows while the reads fill
+   * their buffer and the stream has demand.
+   */
+  private synchronized void doAdaptiveRead() {
+    int readSize = (int) Math.min((long) adaptiveReadSize, readLength);
+    // The stream owns the emitted buffer, a pooled buffer would have to be copied
+    ByteBuf buf = VertxByteBufAllocator.DEFAULT.heapBuffer(readSize, Integer.MAX_VALUE);
+    Promise<Buffer> promise = context.promise();
+    promise.future().onComplete(ar -> {
+      if (ar.succeeded()) {
+        Buffer buffer = ar.result();
+        readPos += buffer.length();
+        readLength -= buffer.length();
+        // Empty buffer represents end of file
+        boolean demand = queue.write(buffer);
+        adaptReadSize(demand, buffer.length() == readSize);
+        if (demand && buffer.length() > 0) {
+          doAdaptiveRead();
+        }
+      } else {
+        handleException(ar.cause());
+      }
+    });
+    doRead(buf, buf.nioBuffer(0, readSize), readPos, promise);
+  }
+
+  /**
+   * Emit views of the mapping to the stream until it has no demand, without leaving the context thread.
+   */
+  private void doMappedRead() {
+    while (true) {
+      Buffer buffer;
+      try {
+        synchronized (this) {
+          if (closed) {
+            return;
+          }
+          int readSize = (int) Math.min((long) readBufferSize, readLength);
+          buffer = Buffer.buffer(Unpooled.wrappedBuffer(mapped.slice(readPos, readSize)));
+          readPos += buffer.length();
+          readLength -= buffer.length();
+        }
+      } catch (IOException e) {
+        handleException(e);
+        return;
+      }
+      // Empty buffer represents end of file
+      if (!queue.write(buffer) || buffer.length() == 0) {
+        return;
+      }
+    }
+  }
+
+  private void doMappedRead(Buffer writeBuff, int offset, long position, int length, Promise<Buffer> promise) {
+    try {
+      mapped.read(position, writeBuff, offset, length);
+      promise.complete(writeBuff);
+    } catch (IOException e) {
+      promise.fail(e);
+    }
+  }
+
+  private synchronized void adaptReadSize(boolean demand, boolean filled) {
+    if (!demand) {
+      adaptiveReadSize = Math.max(readBufferSize, adaptiveReadSize / 2);
+    } else if (filled) {
+      adaptiveReadSize = (int) Math.min(Math.max(readBufferSize, maxBufferSize), adaptiveReadSize * 2L);
+    }
   }
 
   private synchronized void doRead(ByteBuffer bb) {
@@ -501,6 +622,79 @@ public class AsyncFileImpl implements AsyncFile {
     });
   }
 
+  private void doRead(ByteBuf buf, ByteBuffer buff, long position, Promise<Buffer> promise) {
+
+    ch.read(buff, position, null, new java.nio.channels.CompletionHandler<Integer, Object>() {
+
+      public void completed(Integer bytesRead, Object attachment) {
+        if (bytesRead != -1 && buff.hasRemaining()) {
+          // partial read
+          doRead(buf, buff, position + bytesRead, promise);
+        } else {
+          buf.writerIndex(buff.position());
+          promise.complete(Buffer.buffer(buf));
+        }
+      }
+
+      public void failed(Throwable t, Object attachment) {
+        promise.fail(t);
+      }
+    });
+  }
+
+  /**
+   * Queue a write, the writes at contiguous positions queued while a write is in progress are coalesced
+   * in a single pooled direct buffer.
+   */
+  private synchronized void doAdaptiveWrite(ByteBuf buf, long position, Handler<AsyncResult<Void>> handler) {
+    int length = buf.readableBytes();
+    if (length == 0) {
+      handler.handle(Future.succeededFuture());
+      return;
+    }
+    writesOutstanding += length;
+    overflow |= writesOutstanding >= maxWrites;
+    WriteBatch last = writeBatches.peekLast();
+    if (last != null && last.position + last.buffer.readableBytes() == position && last.buffer.readableBytes() + length <= maxBufferSize) {
+      last.buffer.writeBytes(buf, buf.readerIndex(), length);
+      last.handlers.add(handler);
+    } else {
+      WriteBatch batch = new WriteBatch(position, PartialPooledByteBufAllocator.INSTANCE.directBuffer(length));
+      batch.buffer.writeBytes(buf, buf.readerIndex(), length);
+      batch.handlers.add(handler);
+      writeBatches.add(batch);
+    }
+    if (!writing) {
+      writeNextBatch();
+    }
+  }
+
+  private synchronized void writeNextBatch() {
+    WriteBatch batch = writeBatches.poll();
+    writing = batch != null;
+    if (batch != null) {
+      writeInternal(batch.buffer.nioBuffer(), batch.position, ar -> {
+        batch.buffer.release();
+        writeNextBatch();
+        for (Handler<AsyncResult<Void>> handler : batch.handlers) {
+          handler.handle(ar);
+        }
+      });
+    }
+  }
+
+  private static class WriteBatch {
+
+    private final long position;
+    private final ByteBuf buffer;
+    private final List<Handler<AsyncResult<Void>>> handlers = new ArrayList<>(1);
+
+    WriteBatch(long position, ByteBuf buffer) {
+      this.position = position;
+      this.buffer = buffer;
+    }
+  }
+
   private void doRead(Buffer writeBuff, int offset, ByteBuffer buff, long position, Promise<Buffer> promise) {
 
     ch.read(buff, position, null, new java.nio.channels.CompletionHandler<Integer, Object>() {
@@ -556,6 +750,9 @@ public class AsyncFileImpl implements AsyncFile {
     context.executeBlockingInternal(res -> {
       try {
         ch.close();
+        if (mapped != null) {
+          mapped.close();
+        }
         res.complete(null);
       } catch (IOException e) {
         res.fail(e);
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.file.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static io.vertx.core.net.impl.URIDecoder.decodeURIComponent;
+
+/**
+ * An index of the resources of the jar files and directories of a class loader, class files are not indexed.
+ *
+ * <p> The roots are the URLs of the {@link URLClassLoader}s of the class loader hierarchy and the
+ * {@code java.class.path} of the system class loader, parents first, including the jars of the {@code Class-Path}
+ * manifest attribute. A resource present in several roots is indexed from the first root, like a class loader
+ * delegating to its parent first would find it. Roots that are not jar files or directories, e.g nested jars,
+ * are not indexed, so a resource missing from the index must still be looked up with the class loader.
+ *
+ * <p> The indexed jar files are opened when the index is built and stay opened until the index is closed, so reading
+ * a jar resource does not open the jar file.
+ */
+class ClassPathIndex {
+
+  /**
+   * Build the index of a class loader, this is a blocking operation.
+   *
+   * @return the index or {@code null} when the class loader hierarchy cannot be indexed
+   */
+  static ClassPathIndex build(ClassLoader cl) throws IOException {
+    List<File> roots = roots(cl);
+    if (roots == null) {
+      return null;
+    }
+    ClassPathIndex index = new ClassPathIndex(cl);
+    Set<File> visited = new HashSet<>();
+    try {
+      for (File root : roots) {
+        index.indexRoot(root, visited);
+      }
+    } catch (IOException e) {
+      index.close();
+      throw e;
+    }
+    return index;
+  }
+
+  private static List<File> roots(ClassLoader cl) {
+    List<ClassLoader> hierarchy = new ArrayList<>();
+    for (ClassLoader loader = cl; loader != null; loader = loader.getParent()) {
+      hierarchy.add(loader);
+    }
+    Collections.reverse(hierarchy);
+    ClassLoader system = ClassLoader.getSystemClassLoader();
+    List<File> roots = new ArrayList<>();
+    for (ClassLoader loader : hierarchy) {
+      if (loader instanceof URLClassLoader) {
+        for (URL url : ((URLClassLoader) loader).getURLs()) {
+          if ("file".equals(url.getProtocol())) {
+            roots.add(new File(decodeURIComponent(url.getPath(), false)));
+          }
+        }
+      } else if (loader == system) {
+        for (String path : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+          if (!path.isEmpty()) {
+            roots.add(new File(path));
+          }
+        }
+      } else if (loader != system.getParent()) {
+        // Unknown class loader
+        return null;
+      }
+    }
+    return roots;
+  }
+
+  /**
+   * An indexed resource.
+   */
+  static class Entry {
+
+    final String name;
+    final File root;
+    final boolean jar;
+    final boolean directory;
+    final long size;
+
+    private Entry(String name, File root, boolean jar, boolean directory, long size) {
+      this.name = name;
+      this.root = root;
+      this.jar = jar;
+      this.directory = directory;
+      this.size = size;
+    }
+  }
+
+  private final ClassLoader classLoader;
+  private final Map<String, Entry> entries = new HashMap<>();
+  private final Map<File, ZipFile> jars = new HashMap<>();
+
+  private ClassPathIndex(ClassLoader classLoader) {
+    this.classLoader = classLoader;
+  }
+
+  /**
+   * @return the indexed class loader
+   */
+  ClassLoader classLoader() {
+    return classLoader;
+  }
+
+  /**
+   * @return the entry of a resource or {@code null} when the resource is not indexed
+   */
+  Entry get(String name) {
+    return entries.get(name);
+  }
+
+  /**
+   * Read the content of a file entry, this is a blocking operation.
+   */
+  byte[] read(Entry entry) throws IOException {
+    if (entry.jar) {
+      try (InputStream is = open(jars.get(entry.root), entry)) {
+        return readAll(is, entry.size);
+      }
+    } else {
+      return Files.readAllBytes(new File(entry.root, entry.name).toPath());
+    }
+  }
+
+  /**
+   * Close the indexed jar files.
+   */
+  void close() {
+    for (ZipFile jar : jars.values()) {
+      try {
+        jar.close();
+      } catch (IOException ignore) {
+      }
+    }
+  }
+
+  /**
+   * Open a stream reading the content of a jar file entry from an opened jar file.
+   */
+  InputStream open(ZipFile zip, Entry entry) throws IOException {
+    ZipEntry zipEntry = zip.getEntry(entry.name);
+    if (zipEntry == null) {
+      throw new IOException("Missing entry " + entry.name + " in " + entry.root);
+    }
+    return zip.getInputStream(zipEntry);
+  }
+
+  private static byte[] readAll(InputStream is, long size) throws IOException {
+    byte[] bytes = new byte[(int) size];
+    int read = 0;
+    while (read < bytes.length) {
+      int amount = is.read(bytes, read, bytes.length - read);
+      if (amount == -1) {
+        throw new IOException("Truncated entry");
+      }
+      read += amount;
+    }
+    return bytes;
+  }
+
+  private void indexRoot(File root, Set<File> visited) throws IOException {
+    if (!visited.add(root.getAbsoluteFile())) {
+      return;
+    }
+    if (root.isDirectory()) {
+      Path base = root.toPath();
+      try (Stream<Path> stream = Files.walk(base)) {
+        stream.forEach(path -> {
+          if (path != base) {
+            String name = base.relativize(path).toString().replace(File.separatorChar, '/');
+            File file = path.toFile();
+            boolean directory = file.isDirectory();
+            add(new Entry(name, root, false, directory, directory ? 0L : file.length()));
+          }
+        });
+      }
+    } else if (root.isFile()) {
+      List<File> classPath = new ArrayList<>();
+      JarFile jar = new JarFile(root);
+      jars.put(root, jar);
+      Manifest manifest = jar.getManifest();
+      String value = manifest != null ? manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH) : null;
+      if (value != null) {
+        for (String path : value.trim().split("\\s+")) {
+          try {
+            URL url = new URL(root.toURI().toURL(), path);
+            if ("file".equals(url.getProtocol())) {
+              classPath.add(new File(decodeURIComponent(url.getPath(), false)));
+            }
+          } catch (IOException ignore) {
+            // Invalid entry
+          }
+        }
+      }
+      jar.stream().forEach(zipEntry -> {
+        String name = zipEntry.getName();
+        boolean directory = name.endsWith("/");
+        if (directory) {
+          name = name.substring(0, name.length() - 1);
+        }
+        // Entries of unknown size are left to the class loader
+        if (!name.isEmpty() && (directory || zipEntry.getSize() >= 0)) {
+          add(new Entry(name, root, true, directory, directory ? 0L : zipEntry.getSize()));
+        }
+      });
+      for (File file : classPath) {
+        indexRoot(file, visited);
+      }
+    }
+  }
+
+  private void add(Entry entry) {
+    if (!entry.name.endsWith(".class")) {
+      entries.putIfAbsent(entry.name, entry);
+    }
+  }
+}
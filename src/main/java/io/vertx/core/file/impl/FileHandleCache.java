@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.file.impl;
+
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.FileRegion;
+import io.netty.handler.stream.ChunkedInput;
+import io.netty.handler.stream.ChunkedNioFile;
+import io.vertx.core.http.impl.MimeMapping;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A cache of files sent with {@code sendFile}: it keeps the resolved file, its metadata and a read-only
+ * {@link FileChannel} shared by the transfers of the same file, avoiding to stat and open the file for each transfer.
+ *
+ * <p> A cached handle is trusted during {@code maxAge} ms, afterwards the file is checked again and the handle
+ * is replaced when the file has been modified. The cache holds a reference on each handle and each transfer holds
+ * a reference until the file region or chunked input sending the file is released, the channel is closed when
+ * the last reference is released. The least recently used handles are evicted when the cache is full.
+ *
+ * <p> The siblings of a cached file, e.g. its pre-compressed representations, are looked up next to the resolved file
+ * and a missing sibling is remembered during {@code maxAge} ms as well.
+ */
+public class FileHandleCache {
+
+  private final Function<String, File> resolver;
+  private final long maxAge;
+  private final Map<String, Handle> handles;
+  private final Map<String, Long> missingSiblings;
+  private boolean closed;
+
+  public FileHandleCache(Function<String, File> resolver, int maxSize, long maxAge) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("maxSize must be > 0");
+    }
+    this.resolver = resolver;
+    this.maxAge = TimeUnit.MILLISECONDS.toNanos(maxAge);
+    this.handles = new LinkedHashMap<String, Handle>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Handle> eldest) {
+        if (size() > maxSize) {
+          eldest.getValue().release();
+          return true;
+        }
+        return false;
+      }
+    };
+    this.missingSiblings = new LinkedHashMap<String, Long>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  /**
+   * Acquire a handle of the file, the caller must {@link Handle#release() release} the handle when it is done.
+   *
+   * @param filename the name of the file to send
+   * @return the handle
+   * @throws FileNotFoundException when the file does not exist or is not a regular file
+   * @throws IOException when the file cannot be opened
+   */
+  public Handle acquire(String filename) throws IOException {
+    return acquire(filename, resolver);
+  }
+
+  /**
+   * Acquire a handle of the file named after a resolved file with a suffix, the file is not resolved again.
+   *
+   * @param handle the handle of the resolved file
+   * @param suffix the suffix of the sibling file name, e.g. {@code .gz}
+   * @return the handle or {@code null} when the sibling file does not exist
+   * @throws IOException when the file cannot be opened
+   */
+  public Handle acquireSibling(Handle handle, String suffix) throws IOException {
+    String path = handle.file().getPath() + suffix;
+    long now = System.nanoTime();
+    synchronized (this) {
+      Long checked = missingSiblings.get(path);
+      if (checked != null && now - checked < maxAge) {
+        return null;
+      }
+    }
+    try {
+      return acquire(path, File::new);
+    } catch (FileNotFoundException e) {
+      synchronized (this) {
+        if (!closed) {
+          missingSiblings.put(path, now);
+        }
+      }
+      return null;
+    }
+  }
+
+  private Handle acquire(String filename, Function<String, File> resolver) throws IOException {
+    Handle handle;
+    synchronized (this) {
+      handle = handles.get(filename);
+    }
+    if (handle != null) {
+      long now = System.nanoTime();
+      if (now - handle.verified < maxAge || handle.verify(now)) {
+        if (handle.tryRetain()) {
+          return handle;
+        }
+      } else {
+        evict(filename, handle);
+      }
+    }
+    handle = open(resolver.apply(filename), filename);
+    handle.retain();
+    Handle prev;
+    synchronized (this) {
+      if (closed) {
+        prev = null;
+        handle.release();
+      } else {
+        prev = handles.put(filename, handle);
+      }
+    }
+    if (prev != null) {
+      prev.release();
+    }
+    return handle;
+  }
+
+  /**
+   * @return the number of cached handles
+   */
+  public synchronized int size() {
+    return handles.size();
+  }
+
+  /**
+   * Release the handles held by the cache, in-flight transfers keep their handle open until they are done.
+   */
+  public void close() {
+    List<Handle> list;
+    synchronized (this) {
+      closed = true;
+      list = new ArrayList<>(handles.values());
+      handles.clear();
+      missingSiblings.clear();
+    }
+    list.forEach(Handle::release);
+  }
+
+  private void evict(String filename, Handle handle) {
+    boolean removed;
+    synchronized (this) {
+      removed = handles.remove(filename, handle);
+    }
+    if (removed) {
+      handle.release();
+    }
+  }
+
+  private static Handle open(File file, String filename) throws IOException {
+    if (!file.exists()) {
+      throw new FileNotFoundException(filename);
+    }
+    // Fails with a FileNotFoundException for directories
+    RandomAccessFile raf = new RandomAccessFile(file, "r");
+    return new Handle(file, raf.getChannel(), MimeMapping.getMimeTypeForFilename(filename));
+  }
+
+  /**
+   * A reference counted handle on a file.
+   */
+  public static class Handle {
+
+    private final File file;
+    private final FileChannel channel;
+    private final String contentType;
+    private final long length;
+    private final long lastModified;
+    private final AtomicInteger refCount = new AtomicInteger(1);
+    private volatile long verified;
+
+    private Handle(File file, FileChannel channel, String contentType) throws IOException {
+      this.file = file;
+      this.channel = channel;
+      this.contentType = contentType;
+      this.length = channel.size();
+      this.lastModified = file.lastModified();
+      this.verified = System.nanoTime();
+    }
+
+    /**
+     * @return the resolved file
+     */
+    public File file() {
+      return file;
+    }
+
+    /**
+     * @return the file length when it was opened
+     */
+    public long length() {
+      return length;
+    }
+
+    /**
+     * @return the file last modification time when it was opened
+     */
+    public long lastModified() {
+      return lastModified;
+    }
+
+    /**
+     * @return the MIME type of the file name or {@code null}
+     */
+    public String contentType() {
+      return contentType;
+    }
+
+    /**
+     * @return the shared channel, reads must use absolute positions
+     */
+    public FileChannel channel() {
+      return channel;
+    }
+
+    /**
+     * Retain a handle the caller already holds a reference on.
+     */
+    public void retain() {
+      refCount.incrementAndGet();
+    }
+
+    private boolean tryRetain() {
+      while (true) {
+        int count = refCount.get();
+        if (count == 0) {
+          return false;
+        }
+        if (refCount.compareAndSet(count, count + 1)) {
+          return true;
+        }
+      }
+    }
+
+    /**
+     * Release a reference, the channel is closed when the last reference is released.
+     */
+    public void release() {
+      if (refCount.decrementAndGet() == 0) {
+        try {
+          channel.close();
+        } catch (IOException ignore) {
+        }
+      }
+    }
+
+    private boolean verify(long now) {
+      if (file.lastModified() == lastModified && file.length() == length) {
+        verified = now;
+        return true;
+      }
+      return false;
+    }
+
+    /**
+     * Create a file region transferring a part of the file, the region holds a reference on this handle.
+     */
+    public FileRegion region(long offset, long length) {
+      retain();
+      return new DefaultFileRegion(channel, offset, length) {
+        @Override
+        protected void deallocate() {
+          // Do not close the shared channel
+          Handle.this.release();
+        }
+      };
+    }
+
+    /**
+     * Create a chunked input reading a part of the file, the input holds a reference on this handle.
+     */
+    public ChunkedInput<?> chunkedInput(long offset, long length, int chunkSize) throws IOException {
+      ChunkedNioFile input = new ChunkedNioFile(channel, offset, length, chunkSize) {
+        private boolean closed;
+        @Override
+        public void close() {
+          // Do not close the shared channel
+          if (!closed) {
+            closed = true;
+            Handle.this.release();
+          }
+        }
+      };
+      retain();
+      return input;
+    }
+  }
+}
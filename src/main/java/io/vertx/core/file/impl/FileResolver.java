@@ -13,7 +13,10 @@ package io.vertx.core.file.impl;
 
 import io.netty.util.internal.PlatformDependent;
 import io.vertx.core.VertxException;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.FileSystemOptions;
+import io.vertx.core.impl.logging.Logger;
+import io.vertx.core.impl.logging.LoggerFactory;
 
 import java.io.Closeable;
 import java.io.File;
@@ -21,6 +24,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -37,11 +45,18 @@ import static io.vertx.core.net.impl.URIDecoder.decodeURIComponent;
  *
  * There is one cache dir per Vert.x instance and they are deleted on Vert.x shutdown.
  *
+ * When the class path index is enabled, the resources of the class path are indexed on a worker by {@link #buildIndex()}.
+ * Small jar resources are then read from the class path into memory instead of being extracted, see
+ * {@link #resolveResource}, the large resources are still extracted to the cache dir when they are first resolved.
+ * The resources held in memory are bounded by a total size, the least recently used are evicted.
+ *
  * @author <a href="http://tfox.org">Tim Fox</a>
  * @author <a href="https://github.com/rworsnop/">Rob Worsnop</a>
  */
 public class FileResolver {
 
+  private static final Logger log = LoggerFactory.getLogger(FileResolver.class);
+
   public static final String DISABLE_FILE_CACHING_PROP_NAME = "vertx.disableFileCaching";
   public static final String DISABLE_CP_RESOLVING_PROP_NAME = "vertx.disableFileCPResolving";
   public static final String CACHE_DIR_BASE_PROP_NAME = "vertx.cacheDirBase";
@@ -53,6 +68,15 @@ public class FileResolver {
   private final boolean enableCaching;
   private final boolean closeCache;
   private final FileCache cache;
+  // Access ordered, guarded by itself
+  private final LinkedHashMap<String, Buffer> resources = new LinkedHashMap<>(16, 0.75f, true);
+  private final CountDownLatch indexLatch = new CountDownLatch(1);
+  private volatile ClassPathIndex index;
+  private ClassLoader indexClassLoader;
+  private int memoryMaxSize;
+  private long memoryTotalSize;
+  private long memorySize;
+  private boolean closed;
 
   public FileResolver() {
     this(new FileSystemOptions());
@@ -63,6 +87,13 @@ public class FileResolver {
       fileSystemOptions.isFileCachingEnabled(),
       fileSystemOptions.isClassPathResolvingEnabled() ? FileCache.setupCache(fileSystemOptions.getFileCacheDir()) : null,
       fileSystemOptions.isClassPathResolvingEnabled());
+    if (cache != null && fileSystemOptions.isClassPathIndexEnabled()) {
+      memoryMaxSize = fileSystemOptions.getClassPathIndexMemoryMaxSize();
+      memoryTotalSize = fileSystemOptions.getClassPathIndexMemoryTotalSize();
+      indexClassLoader = getClassLoader();
+    } else {
+      indexLatch.countDown();
+    }
   }
 
   public FileResolver(boolean enableCaching, FileCache cache, boolean closeCache) {
@@ -82,11 +113,123 @@ public class FileResolver {
    * Close this file resolver, this is a blocking operation.
    */
   public void close() throws IOException {
+    ClassPathIndex idx;
+    synchronized (resources) {
+      closed = true;
+      idx = index;
+      index = null;
+      resources.clear();
+      memorySize = 0;
+    }
+    if (idx != null) {
+      idx.close();
+    }
     if (closeCache) {
       cache.close();
     }
   }
 
+  /**
+   * @return whether the class path index shall be built with {@link #buildIndex()}
+   */
+  public boolean isIndexEnabled() {
+    return indexClassLoader != null;
+  }
+
+  /**
+   * Build the index of the class path resources, this is a blocking operation that should be executed on a worker.
+   */
+  public void buildIndex() {
+    if (indexClassLoader == null || indexLatch.getCount() == 0) {
+      return;
+    }
+    try {
+      ClassPathIndex idx = ClassPathIndex.build(indexClassLoader);
+      if (idx != null) {
+        synchronized (resources) {
+          if (!closed) {
+            index = idx;
+            idx = null;
+          }
+        }
+        if (idx != null) {
+          idx.close();
+        }
+      }
+    } catch (IOException e) {
+      log.debug("Could not index the class path", e);
+    } finally {
+      indexLatch.countDown();
+    }
+  }
+
+  /**
+   * Wait until the class path index is built, visible for testing.
+   *
+   * @return {@code true} if the index is built
+   */
+  public boolean awaitIndex(long timeout, TimeUnit unit) throws InterruptedException {
+    return indexLatch.await(timeout, unit);
+  }
+
+  /**
+   * Resolve the content of a class path resource held in memory, this requires the class path index and file caching
+   * and only applies to jar resources that do not exist on the file system and whose size does not exceed the memory
+   * max size.
+   *
+   * <p> The returned buffer is shared and must not be modified.
+   *
+   * @param fileName the resource name
+   * @return the content or {@code null} when the resource is not served from memory
+   */
+  public Buffer resolveResource(String fileName) {
+    ClassPathIndex idx = index;
+    if (idx == null || !enableCaching || idx.classLoader() != getClassLoader()) {
+      return null;
+    }
+    File file = new File(fileName);
+    if (cwd != null && !file.isAbsolute()) {
+      file = new File(cwd, fileName);
+    }
+    if (file.exists()) {
+      return null;
+    }
+    Buffer content;
+    synchronized (resources) {
+      content = resources.get(fileName);
+    }
+    if (content != null) {
+      return content;
+    }
+    ClassPathIndex.Entry entry = idx.get(NON_UNIX_FILE_SEP ? fileName.replace(FILE_SEP, "/") : fileName);
+    // Directory roots resources exist on the file system and are resolved as files
+    if (entry == null || !entry.jar || entry.directory || entry.size > memoryMaxSize || entry.size > memoryTotalSize) {
+      return null;
+    }
+    try {
+      content = Buffer.buffer(idx.read(entry));
+    } catch (IOException e) {
+      throw new VertxException(e);
+    }
+    synchronized (resources) {
+      if (closed) {
+        return content;
+      }
+      Buffer prev = resources.putIfAbsent(fileName, content);
+      if (prev != null) {
+        return prev;
+      }
+      memorySize += content.length();
+      Iterator<Buffer> it = resources.values().iterator();
+      while (memorySize > memoryTotalSize) {
+        // Evict the least recently used resources
+        memorySize -= it.next().length();
+        it.remove();
+      }
+    }
+    return content;
+  }
+
   public File resolveFile(String fileName) {
     // First look for file with that name on disk
     File file = new File(fileName);
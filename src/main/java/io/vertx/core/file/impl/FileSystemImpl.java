@@ -21,6 +21,7 @@ import io.vertx.core.file.AsyncFile;
 import io.vertx.core.file.CopyOptions;
 import io.vertx.core.file.FileProps;
 import io.vertx.core.file.FileSystem;
+import io.vertx.core.file.FileSystemBatch;
 import io.vertx.core.file.FileSystemException;
 import io.vertx.core.file.FileSystemProps;
 import io.vertx.core.file.OpenOptions;
@@ -602,6 +603,11 @@ public class FileSystemImpl implements FileSystem {
     return createTempFileInternal(dir, prefix, suffix, perms).perform();
   }
 
+  @Override
+  public FileSystemBatch batch() {
+    return new Batch();
+  }
+
   private BlockingAction<Void> copyInternal(String from, String to, CopyOptions options) {
     Objects.requireNonNull(from);
     Objects.requireNonNull(to);
@@ -1036,6 +1042,10 @@ public class FileSystemImpl implements FileSystem {
     Objects.requireNonNull(path);
     return new BlockingAction<Buffer>() {
       public Buffer perform() {
+        Buffer resource = vertx.resolveResource(path);
+        if (resource != null) {
+          return resource.copy();
+        }
         try {
           Path target = vertx.resolveFile(path).toPath();
           byte[] bytes = Files.readAllBytes(target);
@@ -1128,6 +1138,147 @@ public class FileSystemImpl implements FileSystem {
     };
   }
 
+  /**
+   * Collects blocking actions and performs them in a single blocking task, the futures of the actions are completed
+   * together when the task is done.
+   */
+  private class Batch implements FileSystemBatch {
+
+    private final ContextInternal context = vertx.getOrCreateContext();
+    private final List<BatchOp<?>> ops = new ArrayList<>();
+    private boolean submitted;
+
+    private <T> Future<T> add(BlockingAction<T> action) {
+      if (submitted) {
+        throw new IllegalStateException("Batch already submitted");
+      }
+      BatchOp<T> op = new BatchOp<>(action, context.promise());
+      ops.add(op);
+      return op.promise.future();
+    }
+
+    @Override
+    public Future<FileProps> props(String path) {
+      return add(propsInternal(path));
+    }
+
+    @Override
+    public Future<FileProps> lprops(String path) {
+      return add(lpropsInternal(path));
+    }
+
+    @Override
+    public Future<Boolean> exists(String path) {
+      return add(existsInternal(path));
+    }
+
+    @Override
+    public Future<List<String>> readDir(String path) {
+      return add(readDirInternal(path));
+    }
+
+    @Override
+    public Future<List<String>> readDir(String path, String filter) {
+      return add(readDirInternal(path, filter));
+    }
+
+    @Override
+    public Future<Buffer> readFile(String path) {
+      return add(readFileInternal(path));
+    }
+
+    @Override
+    public Future<String> readSymlink(String link) {
+      return add(readSymlinkInternal(link));
+    }
+
+    @Override
+    public Future<Void> writeFile(String path, Buffer data) {
+      return add(writeFileInternal(path, data));
+    }
+
+    @Override
+    public Future<Void> mkdirs(String path) {
+      return add(mkdirInternal(path, true));
+    }
+
+    @Override
+    public Future<Void> delete(String path) {
+      return add(deleteInternal(path));
+    }
+
+    @Override
+    public int size() {
+      return ops.size();
+    }
+
+    @Override
+    public Future<Void> submit() {
+      if (submitted) {
+        throw new IllegalStateException("Batch already submitted");
+      }
+      submitted = true;
+      Promise<Void> promise = context.promise();
+      if (ops.isEmpty()) {
+        promise.complete();
+        return promise.future();
+      }
+      context.<Void>executeBlockingInternal(fut -> {
+        for (BatchOp<?> op : ops) {
+          op.perform();
+        }
+        fut.complete();
+      }).onComplete(ar -> {
+        Throwable failure = ar.cause();
+        for (BatchOp<?> op : ops) {
+          if (ar.succeeded()) {
+            op.complete();
+            if (failure == null) {
+              failure = op.failure;
+            }
+          } else {
+            op.promise.fail(ar.cause());
+          }
+        }
+        if (failure == null) {
+          promise.complete();
+        } else {
+          promise.fail(failure);
+        }
+      });
+      return promise.future();
+    }
+  }
+
+  private static class BatchOp<T> {
+
+    private final BlockingAction<T> action;
+    private final Promise<T> promise;
+    private T result;
+    private Exception failure;
+
+    BatchOp(BlockingAction<T> action, Promise<T> promise) {
+      this.action = action;
+      this.promise = promise;
+    }
+
+    void perform() {
+      try {
+        result = action.perform();
+      } catch (Exception e) {
+        failure = e;
+      }
+    }
+
+    void complete() {
+      if (failure == null) {
+        promise.complete(result);
+      } else {
+        promise.fail(failure);
+      }
+    }
+  }
+
   protected abstract class BlockingAction<T> implements Handler<Promise<T>> {
 
     protected final ContextInternal context;
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.file.impl;
+
+import io.netty.util.internal.PlatformDependent;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.spi.metrics.FileSystemMetrics;
+
+import java.io.IOException;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A file mapped in read-only windows of a fixed size, a window is mapped when it is first read.
+ *
+ * <p> A window is unmapped when the file is closed, unless a view of the window has escaped, since accessing an
+ * unmapped region crashes the JVM. An escaped window is unmapped when the garbage collector reclaims it, which
+ * is reported to the metrics the next time a mapped file maps a window or is closed.
+ * A window is remapped when the file has grown past the end of a window that was mapped when the file was shorter.
+ */
+class MappedFile {
+
+  private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+  private static final ReferenceQueue<MappedByteBuffer> RECLAIMED = new ReferenceQueue<>();
+  private static final Set<EscapedWindow> ESCAPED = ConcurrentHashMap.newKeySet();
+
+  private final FileChannel channel;
+  private final int windowSize;
+  private final FileSystemMetrics metrics;
+  private final Map<Long, Window> windows = new HashMap<>();
+  private boolean closed;
+
+  MappedFile(FileChannel channel, int windowSize, FileSystemMetrics metrics) {
+    this.channel = channel;
+    this.windowSize = windowSize;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Get a read-only view of a region of the file, the view ends at the end of the window containing
+   * {@code position}, so it can be shorter than {@code length}. The view outlives this call, so its window is
+   * not unmapped when the file is closed.
+   *
+   * @param position the region position
+   * @param length the max region length
+   * @return the view, empty at the end of the file
+   */
+  synchronized ByteBuffer slice(long position, int length) throws IOException {
+    return view(position, length, true);
+  }
+
+  /**
+   * Copy a region of the file to a buffer. The copy happens under the file lock, so the windows it reads from
+   * cannot be unmapped concurrently by {@link #close()} or a remap.
+   *
+   * @param position the region position
+   * @param dst the destination buffer
+   * @param offset the destination offset
+   * @param length the max region length
+   * @return the number of bytes copied, less than {@code length} at the end of the file
+   */
+  synchronized int read(long position, Buffer dst, int offset, int length) throws IOException {
+    int read = 0;
+    while (read < length) {
+      ByteBuffer view = view(position + read, length - read, false);
+      if (!view.hasRemaining()) {
+        break;
+      }
+      int len = view.remaining();
+      dst.setBytes(offset + read, view);
+      read += len;
+    }
+    return read;
+  }
+
+  private ByteBuffer view(long position, int length, boolean escape) throws IOException {
+    if (closed) {
+      throw new ClosedChannelException();
+    }
+    long index = position / windowSize;
+    long start = index * windowSize;
+    int offset = (int) (position - start);
+    Window window = windows.get(index);
+    if (window == null || (long) offset + length > window.buffer.capacity()) {
+      long end = Math.min(channel.size(), start + windowSize);
+      if (end <= position) {
+        return EMPTY;
+      }
+      if (window == null || end - start > window.buffer.capacity()) {
+        if (window != null) {
+          windows.remove(index);
+          unmap(window);
+        }
+        window = new Window(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start));
+        windows.put(index, window);
+        if (metrics != null) {
+          reportReclaimed();
+          metrics.mapped(end - start);
+        }
+      }
+    }
+    int len = Math.min(length, window.buffer.capacity() - offset);
+    if (len <= 0) {
+      return EMPTY;
+    }
+    ByteBuffer view = window.buffer.duplicate();
+    view.position(offset);
+    view.limit(offset + len);
+    window.escaped |= escape;
+    return view.slice();
+  }
+
+  /**
+   * Unmap the windows and close the channel.
+   */
+  void close() throws IOException {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      windows.values().forEach(this::unmap);
+      windows.clear();
+    }
+    if (metrics != null) {
+      reportReclaimed();
+    }
+    channel.close();
+  }
+
+  private void unmap(Window window) {
+    if (!window.escaped) {
+      PlatformDependent.freeDirectBuffer(window.buffer);
+      if (metrics != null) {
+        metrics.unmapped(window.buffer.capacity());
+      }
+    } else if (metrics != null) {
+      // The escaped views reference the window buffer, it becomes phantom reachable once they are all reclaimed
+      ESCAPED.add(new EscapedWindow(window.buffer, metrics));
+    }
+  }
+
+  private static void reportReclaimed() {
+    EscapedWindow reclaimed;
+    while ((reclaimed = (EscapedWindow) RECLAIMED.poll()) != null) {
+      ESCAPED.remove(reclaimed);
+      reclaimed.metrics.unmapped(reclaimed.size);
+    }
+  }
+
+  private static class EscapedWindow extends PhantomReference<MappedByteBuffer> {
+
+    private final long size;
+    private final FileSystemMetrics metrics;
+
+    EscapedWindow(MappedByteBuffer buffer, FileSystemMetrics metrics) {
+      super(buffer, RECLAIMED);
+      this.size = buffer.capacity();
+      this.metrics = metrics;
+    }
+  }
+
+  private static class Window {
+
+    private final MappedByteBuffer buffer;
+    private boolean escaped;
+
+    Window(MappedByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+  }
+}
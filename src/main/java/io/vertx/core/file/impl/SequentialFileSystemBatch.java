@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.file.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileProps;
+import io.vertx.core.file.FileSystem;
+import io.vertx.core.file.FileSystemBatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A batch performing each operation with the asynchronous method of a {@link FileSystem}, one after the other,
+ * used by file system implementations that do not provide their own batch.
+ */
+public class SequentialFileSystemBatch implements FileSystemBatch {
+
+  private final FileSystem fs;
+  private final List<Op<?>> ops = new ArrayList<>();
+  private boolean submitted;
+
+  public SequentialFileSystemBatch(FileSystem fs) {
+    this.fs = fs;
+  }
+
+  private <T> Future<T> add(Supplier<Future<T>> action) {
+    if (submitted) {
+      throw new IllegalStateException("Batch already submitted");
+    }
+    Op<T> op = new Op<>(action);
+    ops.add(op);
+    return op.promise.future();
+  }
+
+  @Override
+  public Future<FileProps> props(String path) {
+    return add(() -> fs.props(path));
+  }
+
+  @Override
+  public Future<FileProps> lprops(String path) {
+    return add(() -> fs.lprops(path));
+  }
+
+  @Override
+  public Future<Boolean> exists(String path) {
+    return add(() -> fs.exists(path));
+  }
+
+  @Override
+  public Future<List<String>> readDir(String path) {
+    return add(() -> fs.readDir(path));
+  }
+
+  @Override
+  public Future<List<String>> readDir(String path, String filter) {
+    return add(() -> fs.readDir(path, filter));
+  }
+
+  @Override
+  public Future<Buffer> readFile(String path) {
+    return add(() -> fs.readFile(path));
+  }
+
+  @Override
+  public Future<String> readSymlink(String link) {
+    return add(() -> fs.readSymlink(link));
+  }
+
+  @Override
+  public Future<Void> writeFile(String path, Buffer data) {
+    return add(() -> fs.writeFile(path, data));
+  }
+
+  @Override
+  public Future<Void> mkdirs(String path) {
+    return add(() -> fs.mkdirs(path));
+  }
+
+  @Override
+  public Future<Void> delete(String path) {
+    return add(() -> fs.delete(path));
+  }
+
+  @Override
+  public int size() {
+    return ops.size();
+  }
+
+  @Override
+  public Future<Void> submit() {
+    if (submitted) {
+      throw new IllegalStateException("Batch already submitted");
+    }
+    submitted = true;
+    Promise<Void> promise = Promise.promise();
+    perform(0, null, promise);
+    return promise.future();
+  }
+
+  private void perform(int index, Throwable failure, Promise<Void> promise) {
+    if (index == ops.size()) {
+      if (failure == null) {
+        promise.complete();
+      } else {
+        promise.fail(failure);
+      }
+      return;
+    }
+    Future<?> fut = ops.get(index).perform();
+    fut.onComplete(ar -> perform(index + 1, failure == null ? ar.cause() : failure, promise));
+  }
+
+  private static class Op<T> {
+
+    private final Supplier<Future<T>> action;
+    private final Promise<T> promise = Promise.promise();
+
+    Op(Supplier<Future<T>> action) {
+      this.action = action;
+    }
+
+    Future<T> perform() {
+      Future<T> fut;
+      try {
+        fut = action.get();
+      } catch (Exception e) {
+        fut = Future.failedFuture(e);
+      }
+      fut.onComplete(promise);
+      return fut;
+    }
+  }
+}
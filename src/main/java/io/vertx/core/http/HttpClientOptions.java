@@ -198,6 +198,11 @@ public class HttpClientOptions extends ClientOptionsBase {
    */
   public static final int DEFAULT_POOL_CLEANER_PERIOD = 1000;
 
+  /**
+   * Default pool event loop affinity = {@code false}
+   */
+  public static final boolean DEFAULT_POOL_EVENT_LOOP_AFFINITY = false;
+
   /**
    * Default WebSocket closing timeout = 10 second
    */
@@ -219,6 +224,7 @@ public class HttpClientOptions extends ClientOptionsBase {
   private int http2ConnectionWindowSize;
   private int http2KeepAliveTimeout;
   private int poolCleanerPeriod;
+  private boolean poolEventLoopAffinity;
 
   private boolean tryUseCompression;
   private int maxWebSocketFrameSize;
@@ -292,6 +298,7 @@ public class HttpClientOptions extends ClientOptionsBase {
     this.forceSni = other.forceSni;
     this.decoderInitialBufferSize = other.getDecoderInitialBufferSize();
     this.poolCleanerPeriod = other.getPoolCleanerPeriod();
+    this.poolEventLoopAffinity = other.poolEventLoopAffinity;
     this.tryUsePerFrameWebSocketCompression = other.tryUsePerFrameWebSocketCompression;
     this.tryUsePerMessageWebSocketCompression = other.tryUsePerMessageWebSocketCompression;
     this.webSocketAllowClientNoContext = other.webSocketAllowClientNoContext;
@@ -359,6 +366,7 @@ public class HttpClientOptions extends ClientOptionsBase {
     webSocketRequestServerNoContext = DEFAULT_WEBSOCKET_REQUEST_SERVER_NO_CONTEXT;
     webSocketClosingTimeout = DEFAULT_WEBSOCKET_CLOSING_TIMEOUT;
     poolCleanerPeriod = DEFAULT_POOL_CLEANER_PERIOD;
+    poolEventLoopAffinity = DEFAULT_POOL_EVENT_LOOP_AFFINITY;
     tracingPolicy = DEFAULT_TRACING_POLICY;
   }
 
@@ -1313,6 +1321,26 @@ public class HttpClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  /**
+   * @return whether the connection pool prefers connections of the requester event loop
+   */
+  public boolean isPoolEventLoopAffinity() {
+    return poolEventLoopAffinity;
+  }
+
+  /**
+   * Set whether the connection pool prefers connections bound to the event loop of the requester, so the response
+   * is handled without a thread hop. When no such connection is available, the pool creates a new connection
+   * or uses a connection of another event loop. When disabled, the pool prefers the most recently used connection.
+   *
+   * @param poolEventLoopAffinity {@code true} to prefer connections of the requester event loop
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setPoolEventLoopAffinity(boolean poolEventLoopAffinity) {
+    this.poolEventLoopAffinity = poolEventLoopAffinity;
+    return this;
+  }
+
   /**
    * @return the tracing policy
    */
@@ -101,6 +101,16 @@ public class HttpServerOptions extends NetServerOptions {
    */
   public static final boolean DEFAULT_DECOMPRESSION_SUPPORTED = false;
 
+  /**
+   * Default value of whether pre-compressed files are served = {@code false}
+   */
+  public static final boolean DEFAULT_PRECOMPRESSED_FILES_SUPPORTED = false;
+
+  /**
+   * Default max size in bytes of the cache of compressed files = {@code 0} (disabled)
+   */
+  public static final long DEFAULT_COMPRESSED_FILE_CACHE_MAX_SIZE = 0;
+
   /**
    * Default WebSocket Masked bit is true as depicted by RFC = {@code false}
    */
@@ -160,6 +170,8 @@ public class HttpServerOptions extends NetServerOptions {
   private List<HttpVersion> alpnVersions;
   private int http2ConnectionWindowSize;
   private boolean decompressionSupported;
+  private boolean precompressedFilesSupported;
+  private long compressedFileCacheMaxSize;
   private boolean acceptUnmaskedFrames;
   private int decoderInitialBufferSize;
   private boolean perFrameWebSocketCompressionSupported;
@@ -200,6 +212,8 @@ public class HttpServerOptions extends NetServerOptions {
     this.alpnVersions = other.alpnVersions != null ? new ArrayList<>(other.alpnVersions) : null;
     this.http2ConnectionWindowSize = other.http2ConnectionWindowSize;
     this.decompressionSupported = other.isDecompressionSupported();
+    this.precompressedFilesSupported = other.isPrecompressedFilesSupported();
+    this.compressedFileCacheMaxSize = other.getCompressedFileCacheMaxSize();
     this.acceptUnmaskedFrames = other.isAcceptUnmaskedFrames();
     this.decoderInitialBufferSize = other.getDecoderInitialBufferSize();
     this.perFrameWebSocketCompressionSupported = other.perFrameWebSocketCompressionSupported;
@@ -248,6 +262,8 @@ public class HttpServerOptions extends NetServerOptions {
     alpnVersions = new ArrayList<>(DEFAULT_ALPN_VERSIONS);
     http2ConnectionWindowSize = DEFAULT_HTTP2_CONNECTION_WINDOW_SIZE;
     decompressionSupported = DEFAULT_DECOMPRESSION_SUPPORTED;
+    precompressedFilesSupported = DEFAULT_PRECOMPRESSED_FILES_SUPPORTED;
+    compressedFileCacheMaxSize = DEFAULT_COMPRESSED_FILE_CACHE_MAX_SIZE;
     acceptUnmaskedFrames = DEFAULT_ACCEPT_UNMASKED_FRAMES;
     decoderInitialBufferSize = DEFAULT_DECODER_INITIAL_BUFFER_SIZE;
     perFrameWebSocketCompressionSupported = DEFAULT_PER_FRAME_WEBSOCKET_COMPRESSION_SUPPORTED;
@@ -530,6 +546,57 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  /**
+   * @return {@code true} if the server serves pre-compressed files
+   */
+  public boolean isPrecompressedFilesSupported() {
+    return precompressedFilesSupported;
+  }
+
+  /**
+   * Set whether the server should serve pre-compressed files with HTTP/1.x.
+   * <p/>
+   * When a whole file is sent with {@link HttpServerResponse#sendFile} and the client advertises support for
+   * {@code br} or {@code gzip} in the {@code Accept-Encoding} header, the server sends the {@code <file>.br} or the
+   * {@code <file>.gz} sibling file instead when it exists, with the corresponding {@code Content-Encoding}. The file is
+   * sent as is, bypassing the server compression.
+   *
+   * @param precompressedFilesSupported {@code true} to serve pre-compressed files
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setPrecompressedFilesSupported(boolean precompressedFilesSupported) {
+    this.precompressedFilesSupported = precompressedFilesSupported;
+    return this;
+  }
+
+  /**
+   * @return the max size in bytes of the cache of compressed files
+   */
+  public long getCompressedFileCacheMaxSize() {
+    return compressedFileCacheMaxSize;
+  }
+
+  /**
+   * Set the max size in bytes of the cache of compressed files, {@code 0} disables the cache.
+   * <p/>
+   * When compression is supported, the gzip/deflate representations of the files sent whole with
+   * {@link HttpServerResponse#sendFile} over HTTP/1.x are kept in memory, so the same file is compressed once instead
+   * of once per response. Files larger than the cache are compressed per response.
+   * <p/>
+   * Each server instance holds its own cache, e.g. a server deployed with several verticle instances holds up to
+   * the number of instances times this size.
+   *
+   * @param compressedFileCacheMaxSize the max size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setCompressedFileCacheMaxSize(long compressedFileCacheMaxSize) {
+    if (compressedFileCacheMaxSize < 0) {
+      throw new IllegalArgumentException("compressedFileCacheMaxSize must be >= 0");
+    }
+    this.compressedFileCacheMaxSize = compressedFileCacheMaxSize;
+    return this;
+  }
+
   public boolean isAcceptUnmaskedFrames() {
     return acceptUnmaskedFrames;
   }
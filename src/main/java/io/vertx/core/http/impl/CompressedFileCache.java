@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.impl.logging.Logger;
+import io.vertx.core.impl.logging.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A bounded cache of the compressed representations of the files sent by the server, so a file sent many times
+ * is compressed once instead of once per response.
+ *
+ * <p> Entries are keyed by file and encoding, an entry is valid as long as the file length and last modification
+ * time are unchanged. The least recently used entries are evicted when the total size of the compressed
+ * representations exceeds the max size.
+ *
+ * <p> The cache is read from the event loop, a missing entry is compressed on a worker and the file is sent as
+ * usual until the entry is available.
+ */
+final class CompressedFileCache {
+
+  private static final Logger log = LoggerFactory.getLogger(CompressedFileCache.class);
+
+  private final VertxInternal vertx;
+  private final long maxSize;
+  private final int compressionLevel;
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final Set<String> loading = new HashSet<>();
+  private long size;
+
+  CompressedFileCache(VertxInternal vertx, long maxSize, int compressionLevel) {
+    this.vertx = vertx;
+    this.maxSize = maxSize;
+    this.compressionLevel = compressionLevel;
+  }
+
+  /**
+   * Get the compressed representation of a file, when it is not cached or the file has changed the file is
+   * compressed on a worker and {@code null} is returned.
+   *
+   * @param file the file
+   * @param length the file length
+   * @param lastModified the file last modification time
+   * @param encoding {@code gzip} or {@code deflate}
+   * @return the compressed bytes or {@code null} when they are not available
+   */
+  byte[] get(File file, long length, long lastModified, String encoding) {
+    if (length > maxSize || length > Integer.MAX_VALUE - 8) {
+      return null;
+    }
+    String key = encoding + ':' + file.getAbsolutePath();
+    synchronized (this) {
+      Entry entry = entries.get(key);
+      if (entry != null && entry.length == length && entry.lastModified == lastModified) {
+        return entry.data;
+      }
+      if (!loading.add(key)) {
+        return null;
+      }
+    }
+    vertx.<Void>executeBlockingInternal(promise -> {
+      try {
+        load(key, file, length, lastModified, encoding);
+        promise.complete();
+      } catch (IOException e) {
+        promise.fail(e);
+      } finally {
+        synchronized (this) {
+          loading.remove(key);
+        }
+      }
+    }, ar -> {
+      if (ar.failed()) {
+        log.debug("Could not compress " + file, ar.cause());
+      }
+    });
+    return null;
+  }
+
+  private void load(String key, File file, long length, long lastModified, String encoding) throws IOException {
+    byte[] data = compress(Files.readAllBytes(file.toPath()), encoding);
+    if (data.length > maxSize) {
+      return;
+    }
+    synchronized (this) {
+      Entry prev = entries.put(key, new Entry(length, lastModified, data));
+      if (prev != null) {
+        size -= prev.data.length;
+      }
+      size += data.length;
+      Iterator<Entry> it = entries.values().iterator();
+      while (size > maxSize) {
+        size -= it.next().data.length;
+        it.remove();
+      }
+    }
+  }
+
+  /**
+   * @return the total size of the cached representations
+   */
+  synchronized long size() {
+    return size;
+  }
+
+  private byte[] compress(byte[] bytes, String encoding) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(32, bytes.length / 2));
+    Deflater deflater;
+    OutputStream out;
+    if ("gzip".equals(encoding)) {
+      deflater = null;
+      out = new GZIPOutputStream(buffer) {
+        {
+          def.setLevel(compressionLevel);
+        }
+      };
+    } else {
+      // zlib wrapper, as the deflate encoding of the server compressor
+      deflater = new Deflater(compressionLevel);
+      out = new DeflaterOutputStream(buffer, deflater);
+    }
+    try {
+      out.write(bytes);
+      out.close();
+    } finally {
+      if (deflater != null) {
+        deflater.end();
+      }
+    }
+    return buffer.toByteArray();
+  }
+
+  private static class Entry {
+
+    private final long length;
+    private final long lastModified;
+    private final byte[] data;
+
+    Entry(long length, long lastModified, byte[] data) {
+      this.length = length;
+      this.lastModified = lastModified;
+      this.data = data;
+    }
+  }
+}
@@ -25,6 +25,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.impl.FileHandleCache;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.ServerWebSocket;
@@ -41,6 +42,8 @@ import io.vertx.core.spi.tracing.SpanKind;
 import io.vertx.core.spi.tracing.VertxTracer;
 import io.vertx.core.tracing.TracingPolicy;
 
+import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.util.function.Supplier;
 
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
@@ -91,6 +94,7 @@ public class Http1xServerConnection extends Http1xConnectionBase<ServerWebSocket
   final HttpServerMetrics metrics;
   final boolean handle100ContinueAutomatically;
   final HttpServerOptions options;
+  final CompressedFileCache compressedFileCache;
 
   public Http1xServerConnection(Supplier<ContextInternal> streamContextSupplier,
                                 SSLHelper sslHelper,
@@ -98,13 +102,15 @@ public class Http1xServerConnection extends Http1xConnectionBase<ServerWebSocket
                                 ChannelHandlerContext chctx,
                                 ContextInternal context,
                                 String serverOrigin,
-                                HttpServerMetrics metrics) {
+                                HttpServerMetrics metrics,
+                                CompressedFileCache compressedFileCache) {
     super(context, chctx);
     this.serverOrigin = serverOrigin;
     this.streamContextSupplier = streamContextSupplier;
     this.options = options;
     this.sslHelper = sslHelper;
     this.metrics = metrics;
+    this.compressedFileCache = compressedFileCache;
     this.handle100ContinueAutomatically = options.isHandle100ContinueAutomatically();
     this.tracingPolicy = options.getTracingPolicy();
   }
@@ -511,6 +517,21 @@ public class Http1xServerConnection extends Http1xConnectionBase<ServerWebSocket
     return super.supportsFileRegion() && chctx.pipeline().get(HttpChunkContentCompressor.class) == null;
   }
 
+  /**
+   * Send a file already encoded with the response {@code Content-Encoding}, the compressor lets such a response
+   * pass through so the file can be sent with zero-copy.
+   */
+  ChannelFuture sendEncodedFile(RandomAccessFile raf, long offset, long length) throws IOException {
+    return sendFile(raf, offset, length, super.supportsFileRegion());
+  }
+
+  /**
+   * Like {@link #sendEncodedFile(RandomAccessFile, long, long)} with a cached file handle.
+   */
+  ChannelFuture sendEncodedFile(FileHandleCache.Handle handle, long offset, long length) throws IOException {
+    return sendFile(handle, offset, length, super.supportsFileRegion());
+  }
+
   private void handleError(HttpObject obj) {
     DecoderResult result = obj.decoderResult();
     ReferenceCountUtil.release(obj);
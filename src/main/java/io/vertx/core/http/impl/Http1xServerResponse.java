@@ -28,7 +28,9 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
+import io.vertx.core.VertxException;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.impl.FileHandleCache;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
@@ -70,6 +72,11 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
   private static final Logger log = LoggerFactory.getLogger(Http1xServerResponse.class);
   private static final String RESPONSE_WRITTEN = "Response has already been written";
 
+  /**
+   * The encodings of the pre-compressed files in preference order, followed by the file name extension.
+   */
+  private static final String[] PRECOMPRESSED_ENCODINGS = { "br", ".br", "gzip", ".gz" };
+
   private final VertxInternal vertx;
   private final HttpRequest request;
   private final Http1xServerConnection conn;
@@ -519,9 +526,33 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
       if (headWritten) {
         throw new IllegalStateException("Head already written");
       }
-      File file = vertx.resolveFile(filename);
+      // Small class path resources are served from memory instead of being extracted to the file cache dir
+      Buffer resource;
+      try {
+        resource = vertx.resolveResource(filename);
+      } catch (VertxException e) {
+        sendFileFailed(e, resultHandler);
+        return;
+      }
+      FileHandleCache cache = vertx.sendFileCache();
+      FileHandleCache.Handle handle = null;
+      File file = null;
+      if (resource != null) {
+        // Served from memory
+      } else if (cache != null) {
+        try {
+          handle = cache.acquire(filename);
+        } catch (FileNotFoundException e) {
+          // Handled below as a missing file
+        } catch (IOException e) {
+          sendFileFailed(e, resultHandler);
+          return;
+        }
+      } else {
+        file = vertx.resolveFile(filename);
+      }
 
-      if (!file.exists()) {
+      if (resource == null && handle == null && (file == null || !file.exists())) {
         if (resultHandler != null) {
           ContextInternal ctx = vertx.getOrCreateContext();
           ctx.runOnContext((v) -> resultHandler.handle(Future.failedFuture(new FileNotFoundException())));
@@ -531,36 +562,135 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
         return;
       }
 
-      long contentLength = Math.min(length, file.length() - offset);
-      bytesWritten = contentLength;
+      String contentType = null;
       if (!headers.contains(HttpHeaders.CONTENT_TYPE)) {
-        String contentType = MimeMapping.getMimeTypeForFilename(filename);
-        if (contentType != null) {
-          headers.set(HttpHeaders.CONTENT_TYPE, contentType);
+        contentType = handle != null ? handle.contentType() : MimeMapping.getMimeTypeForFilename(filename);
+      }
+      String contentEncoding = null;
+      String acceptEncoding = null;
+      if (offset == 0 && length == Long.MAX_VALUE && !headers.contains(HttpHeaders.CONTENT_ENCODING)) {
+        // Only whole files can be sent with another representation
+        acceptEncoding = request.headers().get(HttpHeaders.ACCEPT_ENCODING);
+      }
+      if (acceptEncoding != null && conn.options.isPrecompressedFilesSupported()) {
+        // The pre-compressed file is looked up next to the resolved file
+        for (int i = 0; i < PRECOMPRESSED_ENCODINGS.length && contentEncoding == null; i += 2) {
+          String encoding = PRECOMPRESSED_ENCODINGS[i];
+          String suffix = PRECOMPRESSED_ENCODINGS[i + 1];
+          if (!HttpUtils.acceptsEncoding(acceptEncoding, encoding)) {
+            continue;
+          }
+          if (resource != null) {
+            Buffer precompressed;
+            try {
+              precompressed = vertx.resolveResource(filename + suffix);
+            } catch (VertxException e) {
+              precompressed = null;
+            }
+            if (precompressed != null) {
+              resource = precompressed;
+              contentEncoding = encoding;
+            }
+          } else if (handle != null) {
+            FileHandleCache.Handle precompressed;
+            try {
+              precompressed = cache.acquireSibling(handle, suffix);
+            } catch (IOException e) {
+              precompressed = null;
+            }
+            if (precompressed != null) {
+              handle.release();
+              handle = precompressed;
+              contentEncoding = encoding;
+            }
+          } else {
+            File precompressed = new File(file.getPath() + suffix);
+            if (precompressed.isFile()) {
+              file = precompressed;
+              contentEncoding = encoding;
+            }
+          }
+        }
+      }
+
+      long fileLength = resource != null ? resource.length() : handle != null ? handle.length() : file.length();
+      byte[] compressed = null;
+      if (resource == null && acceptEncoding != null && contentEncoding == null && conn.compressedFileCache != null) {
+        String encoding = HttpUtils.determineContentEncoding(acceptEncoding);
+        if (encoding != null) {
+          // A file missing from the cache is compressed in the background and sent as usual meanwhile
+          if (handle != null) {
+            compressed = conn.compressedFileCache.get(handle.file(), fileLength, handle.lastModified(), encoding);
+          } else if (file.isFile()) {
+            compressed = conn.compressedFileCache.get(file, fileLength, file.lastModified(), encoding);
+          }
+          if (compressed != null) {
+            contentEncoding = encoding;
+          }
+        }
+      }
+
+      long contentLength = compressed != null ? compressed.length : Math.min(length, fileLength - offset);
+      bytesWritten = contentLength;
+      if (contentType != null) {
+        headers.set(HttpHeaders.CONTENT_TYPE, contentType);
+      }
+      if (contentEncoding != null) {
+        // The compressor does not encode a response with a content encoding
+        headers.set(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+        if (!headers.contains(HttpHeaders.VARY)) {
+          headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
         }
       }
       prepareHeaders(bytesWritten);
 
       ChannelFuture channelFuture;
-      RandomAccessFile raf = null;
-      try {
-        raf = new RandomAccessFile(file, "r");
+      if (compressed != null) {
+        if (handle != null) {
+          handle.release();
+        }
+        ChannelPromise promise = conn.channelHandlerContext().newPromise();
+        conn.writeToChannel(new AssembledHttpResponse(head, version, status, headers));
+        conn.writeToChannel(Unpooled.wrappedBuffer(compressed), promise);
+        channelFuture = promise;
+      } else if (resource != null) {
+        int start = (int) Math.min(offset, fileLength);
+        ChannelPromise promise = conn.channelHandlerContext().newPromise();
         conn.writeToChannel(new AssembledHttpResponse(head, version, status, headers));
-        channelFuture = conn.sendFile(raf, Math.min(offset, file.length()), contentLength);
-      } catch (IOException e) {
+        conn.writeToChannel(resource.getByteBuf().slice(start, (int) Math.max(0, contentLength)), promise);
+        channelFuture = promise;
+      } else if (handle != null) {
         try {
-          if (raf != null) {
-            raf.close();
+          conn.writeToChannel(new AssembledHttpResponse(head, version, status, headers));
+          if (contentEncoding != null) {
+            channelFuture = conn.sendEncodedFile(handle, Math.min(offset, fileLength), contentLength);
+          } else {
+            channelFuture = conn.sendFile(handle, Math.min(offset, fileLength), contentLength);
           }
-        } catch (IOException ignore) {
+        } catch (IOException e) {
+          sendFileFailed(e, resultHandler);
+          return;
         }
-        if (resultHandler != null) {
-          ContextInternal ctx = vertx.getOrCreateContext();
-          ctx.runOnContext((v) -> resultHandler.handle(Future.failedFuture(e)));
-        } else {
-          log.error("Failed to send file", e);
+      } else {
+        RandomAccessFile raf = null;
+        try {
+          raf = new RandomAccessFile(file, "r");
+          conn.writeToChannel(new AssembledHttpResponse(head, version, status, headers));
+          if (contentEncoding != null) {
+            channelFuture = conn.sendEncodedFile(raf, Math.min(offset, fileLength), contentLength);
+          } else {
+            channelFuture = conn.sendFile(raf, Math.min(offset, fileLength), contentLength);
+          }
+        } catch (IOException e) {
+          try {
+            if (raf != null) {
+              raf.close();
+            }
+          } catch (IOException ignore) {
+          }
+          sendFileFailed(e, resultHandler);
+          return;
         }
-        return;
       }
       written = true;
 
@@ -606,6 +736,15 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
     }
   }
 
+  private void sendFileFailed(Throwable e, Handler<AsyncResult<Void>> resultHandler) {
+    if (resultHandler != null) {
+      ContextInternal ctx = vertx.getOrCreateContext();
+      ctx.runOnContext((v) -> resultHandler.handle(Future.failedFuture(e)));
+    } else {
+      log.error("Failed to send file", e);
+    }
+  }
+
   private void closeConnAfterWrite() {
     ChannelPromise channelFuture = conn.channelFuture();
     conn.writeToChannel(Unpooled.EMPTY_BUFFER, channelFuture);
@@ -26,8 +26,9 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
+import io.vertx.core.VertxException;
 import io.vertx.core.buffer.Buffer;
-import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.impl.FileHandleCache;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
@@ -40,6 +41,12 @@ import io.vertx.core.net.impl.ConnectionBase;
 import io.vertx.core.spi.observability.HttpResponse;
 import io.vertx.core.streams.ReadStream;
 
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
 import java.util.Map;
 
 import static io.vertx.core.http.HttpHeaders.SET_COOKIE;
@@ -49,6 +56,12 @@ import static io.vertx.core.http.HttpHeaders.SET_COOKIE;
  */
 public class Http2ServerResponse implements HttpServerResponse, HttpResponse {
 
+  /**
+   * The size of the chunks read by {@link #sendFile}, it matches the default HTTP/2 max frame size so
+   * each chunk is written as a single DATA frame.
+   */
+  static final int SEND_FILE_CHUNK_SIZE = 16 * 1024;
+
   private final Http2ServerStream stream;
   private final ChannelHandlerContext ctx;
   private final Http2ServerConnection conn;
@@ -73,6 +86,7 @@ public class Http2ServerResponse implements HttpServerResponse, HttpResponse {
   private Handler<Void> closeHandler;
   private Handler<Void> endHandler;
   private Future<NetSocket> netSocket;
+  private FileSender fileSender;
 
   public Http2ServerResponse(Http2ServerConnection conn,
                              Http2ServerStream stream,
@@ -109,13 +123,18 @@ public class Http2ServerResponse implements HttpServerResponse, HttpResponse {
     Handler<Throwable> exceptionHandler;
     Handler<Void> endHandler;
     Handler<Void> closeHandler;
+    FileSender sender;
     synchronized (conn) {
       closed = true;
+      sender = fileSender;
       boolean failed = !ended;
       exceptionHandler = failed ? this.exceptionHandler : null;
       endHandler = failed ? this.endHandler : null;
       closeHandler = this.closeHandler;
     }
+    if (sender != null) {
+      sender.complete(Future.failedFuture(ConnectionBase.CLOSED_EXCEPTION));
+    }
     if (exceptionHandler != null) {
       stream.context.emit(ConnectionBase.CLOSED_EXCEPTION, exceptionHandler);
     }
@@ -537,6 +556,16 @@ public class Http2ServerResponse implements HttpServerResponse, HttpResponse {
   }
 
   void handlerWritabilityChanged(boolean writable) {
+    FileSender sender;
+    synchronized (conn) {
+      sender = fileSender;
+    }
+    if (sender != null) {
+      if (writable) {
+        sender.resume();
+      }
+      return;
+    }
     if (!ended && writable && drainHandler != null) {
       drainHandler.handle(null);
     }
@@ -593,31 +622,80 @@ public class Http2ServerResponse implements HttpServerResponse, HttpResponse {
     } else {
       h = ar -> {};
     }
-    HttpUtils.resolveFile(stream.vertx, filename, offset, length, ar -> {
-      if (ar.succeeded()) {
-        AsyncFile file = ar.result();
-        long contentLength = Math.min(length, file.getReadLength());
-        if (headers.get(HttpHeaderNames.CONTENT_LENGTH) == null) {
-          putHeader(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(contentLength));
-        }
-        if (headers.get(HttpHeaderNames.CONTENT_TYPE) == null) {
-          String contentType = MimeMapping.getMimeTypeForFilename(filename);
-          if (contentType != null) {
-            putHeader(HttpHeaderNames.CONTENT_TYPE, contentType);
-          }
+    // Small class path resources are served from memory instead of being extracted to the file cache dir
+    Buffer resource;
+    try {
+      resource = stream.vertx.resolveResource(filename);
+    } catch (VertxException e) {
+      h.handle(Future.failedFuture(e));
+      return this;
+    }
+    if (resource != null) {
+      int start = (int) Math.min(offset, resource.length());
+      int contentLength = (int) Math.max(0, Math.min(length, resource.length() - start));
+      if (headers.get(HttpHeaderNames.CONTENT_LENGTH) == null) {
+        putHeader(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(contentLength));
+      }
+      if (headers.get(HttpHeaderNames.CONTENT_TYPE) == null) {
+        String contentType = MimeMapping.getMimeTypeForFilename(filename);
+        if (contentType != null) {
+          putHeader(HttpHeaderNames.CONTENT_TYPE, contentType);
         }
-        checkSendHeaders(false);
-        file.pipeTo(this, ar1 -> file.close(ar2 -> {
-          Throwable failure = ar1.failed() ? ar1.cause() : ar2.failed() ? ar2.cause() : null;
-          if(failure == null)
-            h.handle(ar1);
-          else
-            h.handle(Future.failedFuture(failure));
-        }));
+      }
+      end(resource.slice(start, start + contentLength), h);
+      return this;
+    }
+    FileChannel channel;
+    long fileLength;
+    String contentType;
+    Runnable release;
+    try {
+      FileHandleCache cache = stream.vertx.sendFileCache();
+      if (cache != null) {
+        FileHandleCache.Handle handle = cache.acquire(filename);
+        channel = handle.channel();
+        fileLength = handle.length();
+        contentType = handle.contentType();
+        release = handle::release;
       } else {
-        h.handle(ar.mapEmpty());
+        File file = stream.vertx.resolveFile(filename);
+        if (!file.exists()) {
+          throw new FileNotFoundException();
+        }
+        // Fails for directories
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        channel = raf.getChannel();
+        fileLength = channel.size();
+        contentType = MimeMapping.getMimeTypeForFilename(filename);
+        release = () -> {
+          try {
+            raf.close();
+          } catch (IOException ignore) {
+          }
+        };
+      }
+    } catch (IOException e) {
+      h.handle(Future.failedFuture(e));
+      return this;
+    }
+    long contentLength = Math.min(length, fileLength - offset);
+    if (headers.get(HttpHeaderNames.CONTENT_LENGTH) == null) {
+      putHeader(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(contentLength));
+    }
+    if (headers.get(HttpHeaderNames.CONTENT_TYPE) == null) {
+      if (contentType != null) {
+        putHeader(HttpHeaderNames.CONTENT_TYPE, contentType);
+      }
+    }
+    FileSender sender = new FileSender(channel, Math.min(offset, fileLength), contentLength, release, h);
+    synchronized (conn) {
+      if (fileSender != null) {
+        release.run();
+        throw new IllegalStateException("A file is already being sent");
       }
-    });
+      fileSender = sender;
+    }
+    sender.resume();
     return this;
   }
 
@@ -626,6 +704,104 @@ public class Http2ServerResponse implements HttpServerResponse, HttpResponse {
     conn.close();
   }
 
+  /**
+   * Sends a file region as DATA frames: chunks are read with positional reads from the file channel into
+   * direct buffers on the event loop while the stream is writable and the transfer resumes when the stream
+   * becomes writable again, so the stream flow control window is respected without going through a worker.
+   * <p>
+   * Each event loop task reads a single chunk of {@link #SEND_FILE_CHUNK_SIZE} bytes, a read of a file in the
+   * page cache is a copy, a read from the storage blocks the event loop for the duration of one chunk read.
+   */
+  private class FileSender {
+
+    private final FileChannel channel;
+    private final Runnable release;
+    private final Handler<AsyncResult<Void>> handler;
+    private long position;
+    private long remaining;
+    private boolean completed;
+    private boolean scheduled;
+
+    FileSender(FileChannel channel, long position, long length, Runnable release, Handler<AsyncResult<Void>> handler) {
+      this.channel = channel;
+      this.position = position;
+      this.remaining = Math.max(0, length);
+      this.release = release;
+      this.handler = handler;
+    }
+
+    void resume() {
+      synchronized (conn) {
+        if (scheduled) {
+          return;
+        }
+        scheduled = true;
+      }
+      ctx.executor().execute(this::send);
+    }
+
+    private void send() {
+      synchronized (conn) {
+        scheduled = false;
+        if (completed || fileSender != this) {
+          return;
+        }
+      }
+      // The writability emitted on a worker context lags behind, the flow controller is checked instead
+      if (remaining > 0 && !stream.isFlowControllerWritable()) {
+        return;
+      }
+      int len = (int) Math.min(remaining, SEND_FILE_CHUNK_SIZE);
+      ByteBuf chunk = ctx.alloc().directBuffer(len);
+      try {
+        while (chunk.readableBytes() < len) {
+          int amount = chunk.writeBytes(channel, position + chunk.readableBytes(), len - chunk.readableBytes());
+          if (amount < 0) {
+            throw new EOFException("File truncated during transfer");
+          }
+        }
+      } catch (IOException e) {
+        chunk.release();
+        complete(Future.failedFuture(e));
+        return;
+      }
+      position += len;
+      remaining -= len;
+      boolean last = remaining == 0;
+      try {
+        write(chunk, last, last ? this::complete : null);
+      } catch (IllegalStateException e) {
+        chunk.release();
+        complete(Future.failedFuture(e));
+        return;
+      }
+      if (last) {
+        synchronized (conn) {
+          if (fileSender == this) {
+            fileSender = null;
+          }
+        }
+      } else {
+        // Let the other channels of the event loop run between chunks
+        resume();
+      }
+    }
+
+    void complete(AsyncResult<Void> result) {
+      synchronized (conn) {
+        if (completed) {
+          return;
+        }
+        completed = true;
+        if (fileSender == this) {
+          fileSender = null;
+        }
+      }
+      release.run();
+      handler.handle(result);
+    }
+  }
+
   @Override
   public boolean ended() {
     synchronized (conn) {
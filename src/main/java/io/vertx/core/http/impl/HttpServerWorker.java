@@ -57,6 +57,7 @@ public class HttpServerWorker implements Handler<Channel> {
   private final boolean disableH2C;
   final Handler<HttpServerConnection> connectionHandler;
   private final Handler<Throwable> exceptionHandler;
+  private final CompressedFileCache compressedFileCache;
 
   public HttpServerWorker(EventLoopContext context,
                           Supplier<ContextInternal> streamContextSupplier,
@@ -79,6 +80,9 @@ public class HttpServerWorker implements Handler<Channel> {
     this.disableH2C = disableH2C;
     this.connectionHandler = connectionHandler;
     this.exceptionHandler = exceptionHandler;
+    this.compressedFileCache = options.isCompressionSupported() && options.getCompressedFileCacheMaxSize() > 0
+      ? new CompressedFileCache(vertx, options.getCompressedFileCacheMaxSize(), options.getCompressionLevel())
+      : null;
   }
 
   @Override
@@ -285,7 +289,8 @@ public class HttpServerWorker implements Handler<Channel> {
         chctx,
         context,
         serverOrigin,
-        metrics);
+        metrics,
+        compressedFileCache);
       return conn;
     });
     pipeline.addLast("handler", handler);
@@ -31,6 +31,7 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.AsyncFile;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.file.OpenOptions;
+import io.vertx.core.file.impl.FileHandleCache;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.http.StreamPriority;
@@ -692,6 +693,14 @@ public final class HttpUtils {
 
   static String determineContentEncoding(Http2Headers headers) {
     String acceptEncoding = headers.get(HttpHeaderNames.ACCEPT_ENCODING) != null ? headers.get(HttpHeaderNames.ACCEPT_ENCODING).toString() : null;
+    return determineContentEncoding(acceptEncoding);
+  }
+
+  /**
+   * @return the encoding the server compressor uses for the {@code acceptEncoding} header value, {@code gzip},
+   * {@code deflate} or {@code null}
+   */
+  static String determineContentEncoding(String acceptEncoding) {
     if (acceptEncoding != null) {
       ZlibWrapper wrapper = compressor.determineWrapper(acceptEncoding);
       if (wrapper != null) {
@@ -706,6 +715,34 @@ public final class HttpUtils {
     return null;
   }
 
+  /**
+   * @return whether the {@code acceptEncoding} header value accepts the {@code encoding} with a non zero quality value
+   */
+  static boolean acceptsEncoding(String acceptEncoding, String encoding) {
+    float wildcard = 0f;
+    for (String part : acceptEncoding.split(",")) {
+      int idx = part.indexOf(';');
+      String name = (idx == -1 ? part : part.substring(0, idx)).trim();
+      float q = 1f;
+      if (idx != -1) {
+        String param = part.substring(idx + 1).trim();
+        if (param.startsWith("q=")) {
+          try {
+            q = Float.parseFloat(param.substring(2));
+          } catch (NumberFormatException e) {
+            q = 0f;
+          }
+        }
+      }
+      if (name.equalsIgnoreCase(encoding)) {
+        return q > 0f;
+      } else if (name.equals("*")) {
+        wildcard = q;
+      }
+    }
+    return wildcard > 0f;
+  }
+
   static HttpVersion toNettyHttpVersion(io.vertx.core.http.HttpVersion version) {
     switch (version) {
       case HTTP_1_0: {
@@ -886,27 +923,43 @@ public final class HttpUtils {
   }
 
   static void resolveFile(VertxInternal vertx, String filename, long offset, long length, Handler<AsyncResult<AsyncFile>> resultHandler) {
-    File file_ = vertx.resolveFile(filename);
-    if (!file_.exists()) {
-      resultHandler.handle(Future.failedFuture(new FileNotFoundException()));
-      return;
-    }
-
-    //We open the fileName using a RandomAccessFile to make sure that this is an actual file that can be read.
-    //i.e is not a directory
-    try(RandomAccessFile raf = new RandomAccessFile(file_, "r")) {
-      FileSystem fs = vertx.fileSystem();
-      fs.open(filename, new OpenOptions().setCreate(false).setWrite(false), ar -> {
-        if (ar.succeeded()) {
-          AsyncFile file = ar.result();
-          long contentLength = Math.min(length, file_.length() - offset);
-          file.setReadPos(offset);
-          file.setReadLength(contentLength);
-        }
-        resultHandler.handle(ar);
-      });
-    } catch (IOException e) {
-      resultHandler.handle(Future.failedFuture(e));
-    }
+    long fileLength;
+    FileHandleCache cache = vertx.sendFileCache();
+    if (cache != null) {
+      // The cached handle checks the file is an actual file that can be read
+      try {
+        FileHandleCache.Handle handle = cache.acquire(filename);
+        fileLength = handle.length();
+        handle.release();
+      } catch (IOException e) {
+        resultHandler.handle(Future.failedFuture(e));
+        return;
+      }
+    } else {
+      File file_ = vertx.resolveFile(filename);
+      if (!file_.exists()) {
+        resultHandler.handle(Future.failedFuture(new FileNotFoundException()));
+        return;
+      }
+
+      //We open the fileName using a RandomAccessFile to make sure that this is an actual file that can be read.
+      //i.e is not a directory
+      try(RandomAccessFile raf = new RandomAccessFile(file_, "r")) {
+        fileLength = file_.length();
+      } catch (IOException e) {
+        resultHandler.handle(Future.failedFuture(e));
+        return;
+      }
+    }
+    FileSystem fs = vertx.fileSystem();
+    fs.open(filename, new OpenOptions().setCreate(false).setWrite(false), ar -> {
+      if (ar.succeeded()) {
+        AsyncFile file = ar.result();
+        long contentLength = Math.min(length, fileLength - offset);
+        file.setReadPos(offset);
+        file.setReadLength(contentLength);
+      }
+      resultHandler.handle(ar);
+    });
   }
 }
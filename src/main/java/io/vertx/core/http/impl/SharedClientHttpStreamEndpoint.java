@@ -71,7 +71,8 @@ class SharedClientHttpStreamEndpoint extends ClientHttpEndpointBase<Lease<HttpCl
     this.client = client;
     this.connector = connector;
     this.pool = ConnectionPool.pool(this, new int[] { http1MaxSize, http2MaxSize }, queueMaxSize)
-      .connectionSelector(LIFO_SELECTOR);
+      .connectionSelector(client.getOptions().isPoolEventLoopAffinity() ? ConnectionPool.<HttpClientConnection>eventLoopSelector() : LIFO_SELECTOR)
+      .metrics(metrics);
   }
 
   @Override
@@ -161,6 +161,16 @@ abstract class VertxHttp2Stream<C extends Http2ConnectionBase> {
     return !writable;
   }
 
+  /**
+   * Unlike {@link #isNotWritable()}, which follows the changes emitted on the stream context and can lag behind
+   * on a worker context, this checks the flow controller and must be called from the event loop.
+   *
+   * @return whether the stream is writable according to the flow controller
+   */
+  final boolean isFlowControllerWritable() {
+    return conn.handler.encoder().flowController().isWritable(stream);
+  }
+
   public final void writeFrame(int type, int flags, ByteBuf payload) {
     EventLoop eventLoop = conn.getContext().nettyEventLoop();
     if (eventLoop.inEventLoop()) {
@@ -61,18 +61,18 @@ abstract class AbstractContext implements ContextInternal {
 
   public final ContextInternal beginDispatch() {
     ContextInternal prev;
-    VertxThread th = (VertxThread) Thread.currentThread();
+    VertxThread th = VertxThread.current();
     prev = th.beginEmission(this);
     if (!DISABLE_TCCL) {
-      th.setContextClassLoader(classLoader());
+      Thread.currentThread().setContextClassLoader(classLoader());
     }
     return prev;
   }
 
   public final void endDispatch(ContextInternal previous) {
-    VertxThread th = (VertxThread) Thread.currentThread();
+    VertxThread th = VertxThread.current();
     if (!DISABLE_TCCL) {
-      th.setContextClassLoader(previous != null ? previous.classLoader() : null);
+      Thread.currentThread().setContextClassLoader(previous != null ? previous.classLoader() : null);
     }
     th.endEmission(previous);
   }
@@ -54,12 +54,20 @@ public class BlockedThreadChecker {
             TimeUnit maxExecTimeUnit = entry.getValue().maxExecTimeUnit();
             long val = maxExecTimeUnit.convert(dur, TimeUnit.NANOSECONDS);
             if (execStart != 0 && val >= timeLimit) {
-              final String message = "Thread " + entry.getKey() + " has been blocked for " + (dur / 1_000_000) + " ms, time limit is " + TimeUnit.MILLISECONDS.convert(timeLimit, maxExecTimeUnit) + " ms";
+              Thread thread = entry.getKey();
+              if (thread instanceof VertxThread) {
+                // The unstarted state of a virtual thread, report the thread running with it
+                Thread runner = ((VertxThread) thread).runner();
+                if (runner != null) {
+                  thread = runner;
+                }
+              }
+              final String message = "Thread " + thread + " has been blocked for " + (dur / 1_000_000) + " ms, time limit is " + TimeUnit.MILLISECONDS.convert(timeLimit, maxExecTimeUnit) + " ms";
               if (warningExceptionTimeUnit.convert(dur, TimeUnit.NANOSECONDS) <= warningExceptionTime) {
                 log.warn(message);
               } else {
                 VertxException stackTrace = new VertxException("Thread blocked");
-                stackTrace.setStackTrace(entry.getKey().getStackTrace());
+                stackTrace.setStackTrace(thread.getStackTrace());
                 log.warn(message, stackTrace);
               }
             }
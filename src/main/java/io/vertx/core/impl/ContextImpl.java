@@ -16,6 +16,7 @@ import io.vertx.core.*;
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.spi.context.ContextLocal;
 import io.vertx.core.spi.metrics.PoolMetrics;
 import io.vertx.core.spi.tracing.VertxTracer;
 
@@ -36,9 +37,8 @@ abstract class ContextImpl extends AbstractContext {
    * @throws IllegalStateException if the current thread is not a Vertx thread
    */
   static void executeIsolated(Handler<Void> task) {
-    Thread currentThread = Thread.currentThread();
-    if (currentThread instanceof VertxThread) {
-      VertxThread vertxThread = (VertxThread) currentThread;
+    VertxThread vertxThread = VertxThread.current();
+    if (vertxThread != null) {
       ContextInternal prev = vertxThread.beginEmission(null);
       try {
         task.handle(null);
@@ -63,6 +63,7 @@ abstract class ContextImpl extends AbstractContext {
   private final EventLoop eventLoop;
   private ConcurrentMap<Object, Object> data;
   private ConcurrentMap<Object, Object> localData;
+  private volatile Object[] locals;
   private volatile Handler<Throwable> exceptionHandler;
   final TaskQueue internalOrderedTasks;
   final WorkerPool internalBlockingPool;
@@ -213,6 +214,16 @@ abstract class ContextImpl extends AbstractContext {
     return localData;
   }
 
+  @Override
+  public final <T> T getLocal(ContextLocal<T> key) {
+    return ContextLocalImpl.get(locals, key);
+  }
+
+  @Override
+  public final synchronized <T> void putLocal(ContextLocal<T> key, T value) {
+    locals = ContextLocalImpl.put(locals, key, value);
+  }
+
   public void reportException(Throwable t) {
     Handler<Throwable> handler = exceptionHandler;
     if (handler == null) {
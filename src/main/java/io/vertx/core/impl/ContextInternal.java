@@ -15,6 +15,7 @@ import io.netty.channel.EventLoop;
 import io.netty.util.concurrent.FastThreadLocalThread;
 import io.vertx.core.*;
 import io.vertx.core.impl.future.PromiseInternal;
+import io.vertx.core.spi.context.ContextLocal;
 import io.vertx.core.spi.tracing.VertxTracer;
 
 import java.util.concurrent.ConcurrentMap;
@@ -32,11 +33,8 @@ public interface ContextInternal extends Context {
    * @return the current context
    */
   static ContextInternal current() {
-    Thread current = Thread.currentThread();
-    if (current instanceof VertxThread) {
-      return ((VertxThread) current).context();
-    }
-    return null;
+    VertxThread current = VertxThread.current();
+    return current != null ? current.context() : null;
   }
 
   /**
@@ -229,6 +227,24 @@ public interface ContextInternal extends Context {
    */
   ConcurrentMap<Object, Object> localContextData();
 
+  /**
+   * Get the value of a key in the local storage of this context.
+   *
+   * @param key the key
+   * @return the value or {@code null} when there is none
+   * @see ContextLocal#get(Context)
+   */
+  <T> T getLocal(ContextLocal<T> key);
+
+  /**
+   * Put the value of a key in the local storage of this context, the storage is allocated on the first put.
+   *
+   * @param key the key
+   * @param value the value, {@code null} removes the value
+   * @see ContextLocal#put(Context, Object)
+   */
+  <T> void putLocal(ContextLocal<T> key, T value);
+
   /**
    * @return the classloader associated with this context
    */
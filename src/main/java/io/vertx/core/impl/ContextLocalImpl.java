@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.impl;
+
+import io.vertx.core.spi.context.ContextLocal;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A context local key with its index in the local storage of the contexts.
+ */
+public final class ContextLocalImpl<T> implements ContextLocal<T> {
+
+  /**
+   * The maximum number of keys, indexes are never reused so the storage of a context can only grow.
+   */
+  static final int MAX_KEYS = 1024;
+
+  private static final AtomicInteger COUNT = new AtomicInteger();
+
+  final int index;
+  private final Class<T> type;
+
+  public ContextLocalImpl(Class<T> type) {
+    int index;
+    do {
+      index = COUNT.get();
+      if (index == MAX_KEYS) {
+        throw new IllegalStateException("Too many context local keys registered: " + MAX_KEYS);
+      }
+    } while (!COUNT.compareAndSet(index, index + 1));
+    this.type = type;
+    this.index = index;
+  }
+
+  /**
+   * @return the value of {@code key} in {@code locals}
+   */
+  @SuppressWarnings("unchecked")
+  static <T> T get(Object[] locals, ContextLocal<T> key) {
+    int index = ((ContextLocalImpl<T>) key).index;
+    return locals != null && index < locals.length ? (T) locals[index] : null;
+  }
+
+  /**
+   * Put the value of {@code key} in a copy of {@code locals}, the copy is sized to hold all the keys registered so far.
+   * The storage is read without synchronization, it is never modified once published, the caller publishes the copy
+   * with a volatile write.
+   *
+   * @return the updated storage
+   */
+  static Object[] put(Object[] locals, ContextLocal<?> key, Object value) {
+    int index = ((ContextLocalImpl<?>) key).index;
+    if (locals == null || index >= locals.length) {
+      if (value == null) {
+        return locals;
+      }
+      int size = Math.max(COUNT.get(), index + 1);
+      locals = locals == null ? new Object[size] : Arrays.copyOf(locals, size);
+    } else {
+      locals = locals.clone();
+    }
+    locals[index] = value;
+    return locals;
+  }
+
+  @Override
+  public String toString() {
+    return "ContextLocal[" + type.getName() + "]";
+  }
+}
@@ -16,6 +16,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.spi.context.ContextLocal;
 import io.vertx.core.spi.tracing.VertxTracer;
 
 import java.util.concurrent.ConcurrentHashMap;
@@ -36,6 +37,7 @@ class DuplicatedContext extends AbstractContext {
 
   protected final ContextImpl delegate;
   private ConcurrentMap<Object, Object> localData;
+  private volatile Object[] locals;
 
   DuplicatedContext(ContextImpl delegate) {
     this.delegate = delegate;
@@ -132,6 +134,16 @@ class DuplicatedContext extends AbstractContext {
     }
   }
 
+  @Override
+  public final <T> T getLocal(ContextLocal<T> key) {
+    return ContextLocalImpl.get(locals, key);
+  }
+
+  @Override
+  public final synchronized <T> void putLocal(ContextLocal<T> key, T value) {
+    locals = ContextLocalImpl.put(locals, key, value);
+  }
+
   @Override
   public final <T> Future<T> executeBlockingInternal(Handler<Promise<T>> action) {
     return ContextImpl.executeBlocking(this, action, delegate.internalBlockingPool, delegate.internalOrderedTasks);
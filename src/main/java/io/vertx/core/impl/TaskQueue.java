@@ -11,11 +11,13 @@
 
 package io.vertx.core.impl;
 
+import io.netty.util.internal.PlatformDependent;
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
 
-import java.util.LinkedList;
+import java.util.Queue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A task queue that always run all tasks in order. The executor to run the tasks is passed
@@ -25,6 +27,10 @@ import java.util.concurrent.Executor;
  * More specifically, any call B to the {@link #execute(Runnable, Executor)} method that happens-after another call A to the
  * same method, will result in B's task running after A's.
  *
+ * The queue is lock free: tasks are added to a multi producer / single consumer queue and the thread that transitions
+ * the queue from idle to running dispatches the runner, which is the only consumer of the queue until it becomes
+ * idle again.
+ *
  * @author <a href="david.lloyd@jboss.com">David Lloyd</a>
  * @author <a href="mailto:tim.fox@jboss.com">Tim Fox</a>
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -33,6 +39,9 @@ public class TaskQueue {
 
   static final Logger log = LoggerFactory.getLogger(TaskQueue.class);
 
+  private static final int IDLE = 0;
+  private static final int RUNNING = 1;
+
   private static class Task {
 
     private final Runnable runnable;
@@ -44,10 +53,10 @@ public class TaskQueue {
     }
   }
 
-  // @protectedby tasks
-  private final LinkedList<Task> tasks = new LinkedList<>();
+  private final Queue<Task> tasks = PlatformDependent.newMpscQueue();
+  private final AtomicInteger state = new AtomicInteger();
 
-  // @protectedby tasks
+  // @protectedby state
   private Executor current;
 
   private final Runnable runner;
@@ -58,20 +67,24 @@ public class TaskQueue {
 
   private void run() {
     for (; ; ) {
-      final Task task;
-      synchronized (tasks) {
-        task = tasks.poll();
-        if (task == null) {
-          current = null;
-          return;
-        }
-        if (task.exec != current) {
-          tasks.addFirst(task);
-          task.exec.execute(runner);
-          current = task.exec;
+      final Task task = tasks.peek();
+      if (task == null) {
+        Executor exec = current;
+        current = null;
+        state.set(IDLE);
+        // A task might have been added after the peek and before the state was set to idle
+        if (tasks.isEmpty() || !state.compareAndSet(IDLE, RUNNING)) {
           return;
         }
+        current = exec;
+        continue;
+      }
+      if (task.exec != current) {
+        current = task.exec;
+        task.exec.execute(runner);
+        return;
       }
+      tasks.poll();
       try {
         task.runnable.run();
       } catch (Throwable t) {
@@ -86,12 +99,10 @@ public class TaskQueue {
    * @param task the task to run.
    */
   public void execute(Runnable task, Executor executor) {
-    synchronized (tasks) {
-      tasks.add(new Task(task, executor));
-      if (current == null) {
-        current = executor;
-        executor.execute(runner);
-      }
+    tasks.add(new Task(task, executor));
+    if (state.get() == IDLE && state.compareAndSet(IDLE, RUNNING)) {
+      current = executor;
+      executor.execute(runner);
     }
   }
 }
@@ -15,10 +15,12 @@ import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.resolver.AddressResolverGroup;
 import io.netty.util.ResourceLeakDetector;
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.GenericFutureListener;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.Future;
 import io.vertx.core.*;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.datagram.DatagramSocket;
 import io.vertx.core.datagram.DatagramSocketOptions;
 import io.vertx.core.datagram.impl.DatagramSocketImpl;
@@ -31,6 +33,8 @@ import io.vertx.core.eventbus.impl.EventBusImpl;
 import io.vertx.core.eventbus.impl.EventBusInternal;
 import io.vertx.core.eventbus.impl.clustered.ClusteredEventBus;
 import io.vertx.core.file.FileSystem;
+import io.vertx.core.file.FileSystemOptions;
+import io.vertx.core.file.impl.FileHandleCache;
 import io.vertx.core.file.impl.FileResolver;
 import io.vertx.core.file.impl.FileSystemImpl;
 import io.vertx.core.file.impl.WindowsFileSystem;
@@ -60,6 +64,7 @@ import io.vertx.core.spi.VerticleFactory;
 import io.vertx.core.spi.VertxThreadFactory;
 import io.vertx.core.spi.cluster.ClusterManager;
 import io.vertx.core.spi.cluster.NodeSelector;
+import io.vertx.core.spi.metrics.FileSystemMetrics;
 import io.vertx.core.spi.metrics.Metrics;
 import io.vertx.core.spi.metrics.MetricsProvider;
 import io.vertx.core.spi.metrics.PoolMetrics;
@@ -100,13 +105,16 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   private final FileSystem fileSystem = getFileSystem();
   private final SharedData sharedData;
   private final VertxMetrics metrics;
-  private final ConcurrentMap<Long, InternalTimerHandler> timeouts = new ConcurrentHashMap<>();
-  private final AtomicLong timeoutCounter = new AtomicLong(0);
+  private final TimerShard[] timerShards;
+  private final Map<EventExecutor, TimerShard> timerShardsByEventLoop;
+  private final int timerShardBits;
   private final ClusterManager clusterManager;
   private final NodeSelector nodeSelector;
   private final DeploymentManager deploymentManager;
   private final VerticleManager verticleManager;
   private final FileResolver fileResolver;
+  private final FileHandleCache sendFileCache;
+  private final FileSystemMetrics fileSystemMetrics;
   private final Map<ServerID, HttpServerImpl> sharedHttpServers = new HashMap<>();
   private final Map<ServerID, NetServerImpl> sharedNetServers = new HashMap<>();
   final WorkerPool workerPool;
@@ -152,9 +160,31 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     // under a lot of load
     acceptorEventLoopGroup = transport.eventLoopGroup(Transport.ACCEPTOR_EVENT_LOOP_GROUP, 1, acceptorEventLoopThreadFactory, 100);
 
+    // One timer shard per event loop, the first shard is used for event loops not belonging to the group
+    List<TimerShard> shards = new ArrayList<>();
+    shards.add(new TimerShard(0));
+    Map<EventExecutor, TimerShard> shardsByEventLoop = new IdentityHashMap<>();
+    for (EventExecutor executor : eventLoopGroup) {
+      TimerShard shard = new TimerShard(shards.size());
+      shards.add(shard);
+      shardsByEventLoop.put(executor, shard);
+    }
+    timerShards = shards.toArray(new TimerShard[0]);
+    timerShardsByEventLoop = shardsByEventLoop;
+    timerShardBits = 32 - Integer.numberOfLeadingZeros(timerShards.length - 1);
+
     int workerPoolSize = options.getWorkerPoolSize();
-    ThreadFactory workerThreadFactory = createThreadFactory(options.getMaxWorkerExecuteTime(), options.getMaxWorkerExecuteTimeUnit(), "vert.x-worker-thread-", true);
-    ExecutorService workerExec = executorServiceFactory.createExecutor(workerThreadFactory, workerPoolSize, workerPoolSize);
+    ExecutorService workerExec;
+    if (options.getPreferVirtualThreadWorkers() && VirtualThreads.isSupported()) {
+      ThreadFactory workerThreadFactory = createVirtualThreadFactory(options.getMaxWorkerExecuteTime(), options.getMaxWorkerExecuteTimeUnit(), "vert.x-virtual-worker-thread-");
+      workerExec = VirtualThreads.newThreadPerTaskExecutor(workerThreadFactory);
+    } else {
+      if (options.getPreferVirtualThreadWorkers()) {
+        log.warn("Virtual threads are not supported by this JVM, using a worker pool of " + workerPoolSize + " threads");
+      }
+      ThreadFactory workerThreadFactory = createThreadFactory(options.getMaxWorkerExecuteTime(), options.getMaxWorkerExecuteTimeUnit(), "vert.x-worker-thread-", true);
+      workerExec = executorServiceFactory.createExecutor(workerThreadFactory, workerPoolSize, workerPoolSize);
+    }
     PoolMetrics workerPoolMetrics = metrics != null ? metrics.createPoolMetrics("worker", "vert.x-worker-thread", options.getWorkerPoolSize()) : null;
     ThreadFactory internalWorkerThreadFactory = createThreadFactory(options.getMaxWorkerExecuteTime(), options.getMaxWorkerExecuteTimeUnit(), "vert.x-internal-blocking-", true);
     ExecutorService internalWorkerExec = executorServiceFactory.createExecutor(internalWorkerThreadFactory, options.getInternalBlockingPoolSize(), options.getInternalBlockingPoolSize());
@@ -169,17 +199,31 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     this.executorServiceFactory = executorServiceFactory;
     this.threadFactory = threadFactory;
     this.metrics = metrics;
+    this.fileSystemMetrics = metrics != null ? metrics.createFileSystemMetrics() : null;
+    if (metrics != null) {
+      metrics.timerGauge(this::timerCount);
+    }
     this.transport = transport;
     this.fileResolver = fileResolver;
+    FileSystemOptions fileSystemOptions = options.getFileSystemOptions();
+    this.sendFileCache = fileSystemOptions != null && fileSystemOptions.getSendFileCacheMaxSize() > 0 ?
+      new FileHandleCache(fileResolver::resolveFile, fileSystemOptions.getSendFileCacheMaxSize(), fileSystemOptions.getSendFileCacheMaxAge()) : null;
     this.addressResolverOptions = options.getAddressResolverOptions();
     this.addressResolver = new AddressResolver(this, options.getAddressResolverOptions());
     this.tracer = tracer == VertxTracer.NOOP ? null : tracer;
     this.clusterManager = clusterManager;
     this.nodeSelector = nodeSelector;
-    this.eventBus = clusterManager != null ? new ClusteredEventBus(this, options, clusterManager, nodeSelector) : new EventBusImpl(this);
+    this.eventBus = clusterManager != null ? new ClusteredEventBus(this, options, clusterManager, nodeSelector) : new EventBusImpl(this, options.getEventBusOptions());
     this.sharedData = new SharedDataImpl(this, clusterManager);
     this.deploymentManager = new DeploymentManager(this);
     this.verticleManager = new VerticleManager(this, deploymentManager);
+    if (fileResolver.isIndexEnabled()) {
+      // Index the class path resources in the background
+      createEventLoopContext().executeBlockingInternal(p -> {
+        fileResolver.buildIndex();
+        p.complete();
+      });
+    }
   }
 
   void init() {
@@ -460,7 +504,14 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   }
 
   public boolean cancelTimer(long id) {
-    InternalTimerHandler handler = timeouts.remove(id);
+    if (id < 0) {
+      return false;
+    }
+    int index = (int) (id & ((1L << timerShardBits) - 1));
+    if (index >= timerShards.length) {
+      return false;
+    }
+    InternalTimerHandler handler = timerShards[index].timers.remove(id);
     if (handler != null) {
       handler.cancel();
       return true;
@@ -523,15 +574,28 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     if (delay < 1) {
       throw new IllegalArgumentException("Cannot schedule a timer with delay < 1 ms");
     }
-    long timerId = timeoutCounter.getAndIncrement();
-    InternalTimerHandler task = new InternalTimerHandler(timerId, handler, periodic, delay, context);
-    timeouts.put(timerId, task);
+    TimerShard shard = timerShardsByEventLoop.get(context.nettyEventLoop());
+    if (shard == null) {
+      shard = timerShards[0];
+    }
+    long timerId = (shard.counter.getAndIncrement() << timerShardBits) | shard.index;
+    InternalTimerHandler task = new InternalTimerHandler(shard, timerId, handler, periodic, delay, context);
+    shard.timers.put(timerId, task);
     if (context.isDeployment()) {
       context.addCloseHook(task);
     }
     return timerId;
   }
 
+  @Override
+  public long timerCount() {
+    long count = 0;
+    for (TimerShard shard : timerShards) {
+      count += shard.timers.size();
+    }
+    return count;
+  }
+
   public AbstractContext getContext() {
     AbstractContext context = (AbstractContext) ContextInternal.current();
     if (context != null && context.owner() == this) {
@@ -838,6 +902,21 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     return fileResolver.resolveFile(fileName);
   }
 
+  @Override
+  public Buffer resolveResource(String fileName) {
+    return fileResolver.resolveResource(fileName);
+  }
+
+  @Override
+  public FileHandleCache sendFileCache() {
+    return sendFileCache;
+  }
+
+  @Override
+  public FileSystemMetrics fileSystemMetrics() {
+    return fileSystemMetrics;
+  }
+
   @Override
   public void resolveAddress(String hostname, Handler<AsyncResult<InetAddress>> resultHandler) {
     addressResolver.resolveHostname(hostname, resultHandler);
@@ -862,6 +941,9 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   private void deleteCacheDirAndShutdown(Handler<AsyncResult<Void>> completionHandler) {
     executeBlockingInternal(fut -> {
       try {
+        if (sendFileCache != null) {
+          sendFileCache.close();
+        }
         fileResolver.close();
         fut.complete();
       } catch (IOException e) {
@@ -911,9 +993,24 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   }
 
   /**
-   * Timers are stored in the {@link #timeouts} map at creation time.
+   * The timers scheduled on an event loop, timer identifiers embed the index of their shard in their lowest
+   * {@link #timerShardBits} bits so a timer can be found without a global map.
+   */
+  private static class TimerShard {
+
+    private final int index;
+    private final AtomicLong counter = new AtomicLong();
+    private final ConcurrentMap<Long, InternalTimerHandler> timers = new ConcurrentHashMap<>();
+
+    TimerShard(int index) {
+      this.index = index;
+    }
+  }
+
+  /**
+   * Timers are stored in the {@link TimerShard#timers} map of the event loop shard at creation time.
    * <p/>
-   * Timers are removed from the {@link #timeouts} map when they are cancelled or are fired. The thread
+   * Timers are removed from the {@link TimerShard#timers} map when they are cancelled or are fired. The thread
    * removing the timer successfully owns the timer termination (i.e cancel or timer) to avoid race conditions
    * between timeout and cancellation.
    * <p/>
@@ -922,13 +1019,15 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
    */
   private class InternalTimerHandler implements Handler<Void>, Closeable, Runnable {
 
+    private final Map<Long, InternalTimerHandler> timeouts;
     private final Handler<Long> handler;
     private final boolean periodic;
     private final long timerID;
     private final ContextInternal context;
     private final java.util.concurrent.Future<?> future;
 
-    InternalTimerHandler(long timerID, Handler<Long> runnable, boolean periodic, long delay, ContextInternal context) {
+    InternalTimerHandler(TimerShard shard, long timerID, Handler<Long> runnable, boolean periodic, long delay, ContextInternal context) {
+      this.timeouts = shard.timers;
       this.context = context;
       this.timerID = timerID;
       this.handler = runnable;
@@ -1146,6 +1245,29 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     };
   }
 
+  /**
+   * Virtual threads cannot extend {@link VertxThread}, instead each virtual thread runs its task bound to an unstarted
+   * {@code VertxThread} that holds its context state. States are recycled across tasks, a state is registered to the
+   * blocked thread checker once when it is created, so there are only as many states as concurrently running tasks.
+   */
+  private ThreadFactory createVirtualThreadFactory(long maxExecuteTime, TimeUnit maxExecuteTimeUnit, String prefix) {
+    ThreadFactory factory = VirtualThreads.factory(prefix);
+    Queue<VertxThread> states = new ConcurrentLinkedQueue<>();
+    AtomicInteger stateCount = new AtomicInteger(0);
+    return runnable -> factory.newThread(() -> {
+      VertxThread state = states.poll();
+      if (state == null) {
+        state = new VertxThread(null, prefix + "state-" + stateCount.getAndIncrement(), true, maxExecuteTime, maxExecuteTimeUnit);
+        checker.registerThread(state, state);
+      }
+      try {
+        VertxThread.runBound(state, runnable);
+      } finally {
+        states.offer(state);
+      }
+    });
+  }
+
   @Override
   public Vertx exceptionHandler(Handler<Throwable> handler) {
     exceptionHandler = handler;
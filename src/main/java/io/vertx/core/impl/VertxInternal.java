@@ -16,6 +16,8 @@ import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.resolver.AddressResolverGroup;
 import io.vertx.core.*;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.impl.FileHandleCache;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.impl.HttpServerImpl;
@@ -27,6 +29,7 @@ import io.vertx.core.net.impl.ServerID;
 import io.vertx.core.net.impl.TCPServerBase;
 import io.vertx.core.net.impl.transport.Transport;
 import io.vertx.core.spi.cluster.ClusterManager;
+import io.vertx.core.spi.metrics.FileSystemMetrics;
 import io.vertx.core.spi.metrics.VertxMetrics;
 import io.vertx.core.spi.tracing.VertxTracer;
 
@@ -78,6 +81,11 @@ public interface VertxInternal extends Vertx {
 
   VertxMetrics metricsSPI();
 
+  /**
+   * @return the number of timers currently scheduled, metrics implementations sample it through {@link VertxMetrics#timerGauge}
+   */
+  long timerCount();
+
   Transport transport();
 
   /**
@@ -146,6 +154,21 @@ public interface VertxInternal extends Vertx {
 
   File resolveFile(String fileName);
 
+  /**
+   * @return the content of a class path resource served from memory or {@code null}, the buffer must not be modified
+   */
+  Buffer resolveResource(String fileName);
+
+  /**
+   * @return the cache of files sent by servers and sockets or {@code null} when it is disabled
+   */
+  FileHandleCache sendFileCache();
+
+  /**
+   * @return the file system metrics or {@code null} when metrics are disabled
+   */
+  FileSystemMetrics fileSystemMetrics();
+
   /**
    * Like {@link #executeBlocking(Handler, Handler)} but using the internal worker thread pool.
    */
@@ -23,10 +23,17 @@ public class VertxThread extends FastThreadLocalThread implements BlockedThreadC
   static final String DISABLE_TCCL_PROP_NAME = "vertx.disableTCCL";
   static final boolean DISABLE_TCCL = Boolean.getBoolean(DISABLE_TCCL_PROP_NAME);
 
+  /**
+   * Holds the Vert.x thread state of threads that cannot extend {@code VertxThread}, i.e virtual threads.
+   */
+  private static final ThreadLocal<VertxThread> BOUND = new ThreadLocal<>();
+  private static volatile boolean bindingEnabled;
+
   private final boolean worker;
   private final long maxExecTime;
   private final TimeUnit maxExecTimeUnit;
   private long execStart;
+  private volatile Thread runner;
   private ContextInternal context;
   private ClassLoader topLevelTCCL;
 
@@ -37,6 +44,43 @@ public class VertxThread extends FastThreadLocalThread implements BlockedThreadC
     this.maxExecTimeUnit = maxExecTimeUnit;
   }
 
+  /**
+   * @return the Vert.x thread state of the current thread or {@code null} when the current thread is not a Vert.x thread
+   */
+  public static VertxThread current() {
+    Thread thread = Thread.currentThread();
+    if (thread instanceof VertxThread) {
+      return (VertxThread) thread;
+    }
+    // Avoid creating a thread local map on every foreign thread when no binding can exist
+    return bindingEnabled ? BOUND.get() : null;
+  }
+
+  /**
+   * Run {@code task} on the current thread, using {@code state} as the Vert.x thread state of the current thread
+   * for the duration of the task. The {@code state} thread is never started.
+   */
+  static void runBound(VertxThread state, Runnable task) {
+    if (!bindingEnabled) {
+      bindingEnabled = true;
+    }
+    BOUND.set(state);
+    state.runner = Thread.currentThread();
+    try {
+      task.run();
+    } finally {
+      state.runner = null;
+      BOUND.remove();
+    }
+  }
+
+  /**
+   * @return the thread currently running with this state bound or {@code null}
+   */
+  Thread runner() {
+    return runner;
+  }
+
   /**
    * @return the current context of this thread, this method must be called from the current thread
    */
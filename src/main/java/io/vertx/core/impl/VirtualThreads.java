@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to JDK virtual threads, resolved reflectively so Vert.x keeps running on JVMs that do not provide them.
+ */
+final class VirtualThreads {
+
+  private static final Method OF_VIRTUAL;
+  private static final Method BUILDER_NAME;
+  private static final Method BUILDER_FACTORY;
+  private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+  static {
+    Method ofVirtual;
+    Method builderName;
+    Method builderFactory;
+    Method newThreadPerTaskExecutor;
+    try {
+      ofVirtual = Thread.class.getMethod("ofVirtual");
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      builderName = builderClass.getMethod("name", String.class, long.class);
+      builderFactory = builderClass.getMethod("factory");
+      newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+      // Fails when preview features are not enabled
+      builderFactory.invoke(ofVirtual.invoke(null));
+    } catch (Throwable ignore) {
+      // Not available or preview features not enabled
+      ofVirtual = null;
+      builderName = null;
+      builderFactory = null;
+      newThreadPerTaskExecutor = null;
+    }
+    OF_VIRTUAL = ofVirtual;
+    BUILDER_NAME = builderName;
+    BUILDER_FACTORY = builderFactory;
+    NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+  }
+
+  private VirtualThreads() {
+  }
+
+  /**
+   * @return whether the JVM supports virtual threads
+   */
+  static boolean isSupported() {
+    return OF_VIRTUAL != null;
+  }
+
+  /**
+   * @return a factory of unstarted virtual threads named {@code prefix} followed by a counter
+   */
+  static ThreadFactory factory(String prefix) {
+    if (OF_VIRTUAL == null) {
+      throw new IllegalStateException("Virtual threads are not supported");
+    }
+    try {
+      Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), prefix, 0L);
+      return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * @return an executor starting a new thread from {@code factory} for each task
+   */
+  static ExecutorService newThreadPerTaskExecutor(ThreadFactory factory) {
+    if (NEW_THREAD_PER_TASK_EXECUTOR == null) {
+      throw new IllegalStateException("Virtual threads are not supported");
+    }
+    try {
+      return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, factory);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -17,20 +17,31 @@ import io.vertx.core.Handler;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.NoStackTraceThrowable;
 
-import java.util.ArrayList;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * Future implementation.
  *
+ * <p> The state of the future is a single field updated with compare-and-set:
+ * <ul>
+ *   <li>{@code null}: the future is not completed and has no listener</li>
+ *   <li>a {@link Listener}: the future is not completed, the listener is either the single listener or a
+ *   {@link ListenerStack} of listeners</li>
+ *   <li>otherwise the future is completed: {@code NULL_VALUE}, a {@link CauseHolder} or the result, wrapped in a
+ *   {@link ValueHolder} when the result is itself a {@link Listener}</li>
+ * </ul>
+ *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
 class FutureImpl<T> extends FutureBase<T> {
 
   private static final Object NULL_VALUE = new Object();
 
-  private Object value;
-  private Listener<T> listener;
+  @SuppressWarnings("rawtypes")
+  private static final AtomicReferenceFieldUpdater<FutureImpl, Object> STATE = AtomicReferenceFieldUpdater.newUpdater(FutureImpl.class, Object.class, "state");
+
+  private volatile Object state;
 
   /**
    * Create a future that hasn't completed yet
@@ -46,39 +57,49 @@ class FutureImpl<T> extends FutureBase<T> {
     super(context);
   }
 
+  private static boolean isCompleted(Object s) {
+    return s != null && !(s instanceof Listener);
+  }
+
   /**
    * The result of the operation. This will be null if the operation failed.
    */
-  public synchronized T result() {
-    return value instanceof CauseHolder ? null : value == NULL_VALUE ? null : (T) value;
+  public T result() {
+    Object s = state;
+    if (!isCompleted(s) || s instanceof CauseHolder || s == NULL_VALUE) {
+      return null;
+    }
+    return s instanceof ValueHolder ? (T) ((ValueHolder) s).value : (T) s;
   }
 
   /**
    * An exception describing failure. This will be null if the operation succeeded.
    */
-  public synchronized Throwable cause() {
-    return value instanceof CauseHolder ? ((CauseHolder)value).cause : null;
+  public Throwable cause() {
+    Object s = state;
+    return s instanceof CauseHolder ? ((CauseHolder)s).cause : null;
   }
 
   /**
    * Did it succeed?
    */
-  public synchronized boolean succeeded() {
-    return value != null && !(value instanceof CauseHolder);
+  public boolean succeeded() {
+    Object s = state;
+    return isCompleted(s) && !(s instanceof CauseHolder);
   }
 
   /**
    * Did it fail?
    */
-  public synchronized boolean failed() {
-    return value instanceof CauseHolder;
+  public boolean failed() {
+    return state instanceof CauseHolder;
   }
 
   /**
    * Has it completed?
    */
-  public synchronized boolean isComplete() {
-    return value != null;
+  public boolean isComplete() {
+    return isCompleted(state);
   }
 
   @Override
@@ -135,47 +156,46 @@ class FutureImpl<T> extends FutureBase<T> {
 
   @Override
   public void addListener(Listener<T> listener) {
-    Object v;
-    synchronized (this) {
-      v = value;
-      if (v == null) {
-        if (this.listener == null) {
-          this.listener = listener;
-        } else {
-          ListenerArray<T> listeners;
-          if (this.listener instanceof FutureImpl.ListenerArray) {
-            listeners = (ListenerArray<T>) this.listener;
-          } else {
-            listeners = new ListenerArray<>();
-            listeners.add(this.listener);
-            this.listener = listeners;
-          }
-          listeners.add(listener);
-        }
+    Object s;
+    while (true) {
+      s = state;
+      if (isCompleted(s)) {
+        break;
+      }
+      Object next = s == null ? listener : new ListenerStack<>(listener, (Listener<T>) s);
+      if (STATE.compareAndSet(this, s, next)) {
         return;
       }
     }
-    if (v instanceof CauseHolder) {
-      emitFailure(((CauseHolder)v).cause, listener);
+    if (s instanceof CauseHolder) {
+      emitFailure(((CauseHolder)s).cause, listener);
     } else {
-      if (v == NULL_VALUE) {
-        v = null;
-      }
-      emitSuccess((T) v, listener);
+      emitSuccess(valueOf(s), listener);
+    }
+  }
+
+  private T valueOf(Object s) {
+    if (s == NULL_VALUE) {
+      return null;
     }
+    return s instanceof ValueHolder ? (T) ((ValueHolder) s).value : (T) s;
   }
 
   public boolean tryComplete(T result) {
-    Listener<T> l;
-    synchronized (this) {
-      if (value != null) {
-        return false;
-      }
-      value = result == null ? NULL_VALUE : result;
-      l = listener;
-      listener = null;
+    Object v;
+    if (result == null) {
+      v = NULL_VALUE;
+    } else if (result instanceof Listener) {
+      // Distinguish a listener result from a listener of an uncompleted future
+      v = new ValueHolder(result);
+    } else {
+      v = result;
     }
-    if (l != null) {
+    Listener<T> l = complete(v);
+    if (l == null) {
+      return false;
+    }
+    if (l != NO_LISTENER) {
       emitSuccess(result, l);
     }
     return true;
@@ -185,54 +205,105 @@ class FutureImpl<T> extends FutureBase<T> {
     if (cause == null) {
       cause = new NoStackTraceThrowable(null);
     }
-    Listener<T> l;
-    synchronized (this) {
-      if (value != null) {
-        return false;
-      }
-      value = new CauseHolder(cause);
-      l = listener;
-      listener = null;
+    Listener<T> l = complete(new CauseHolder(cause));
+    if (l == null) {
+      return false;
     }
-    if (l != null) {
+    if (l != NO_LISTENER) {
       emitFailure(cause, l);
     }
     return true;
   }
 
+  /**
+   * Complete the state of this future.
+   *
+   * @return the listener to signal, {@code NO_LISTENER} when there is none or {@code null} when the future is
+   *         already completed
+   */
+  private Listener<T> complete(Object v) {
+    while (true) {
+      Object s = state;
+      if (isCompleted(s)) {
+        return null;
+      }
+      if (STATE.compareAndSet(this, s, v)) {
+        return s == null ? NO_LISTENER : (Listener<T>) s;
+      }
+    }
+  }
+
   @Override
   public String toString() {
-    synchronized (this) {
-      if (value instanceof CauseHolder) {
-        return "Future{cause=" + ((CauseHolder)value).cause.getMessage() + "}";
-      }
-      if (value != null) {
-        if (value == NULL_VALUE) {
-          return "Future{result=null}";
-        }
-        StringBuilder sb = new StringBuilder("Future{result=");
-        formatValue(value, sb);
-        sb.append("}");
-        return sb.toString();
+    Object s = state;
+    if (s instanceof CauseHolder) {
+      return "Future{cause=" + ((CauseHolder)s).cause.getMessage() + "}";
+    }
+    if (isCompleted(s)) {
+      if (s == NULL_VALUE) {
+        return "Future{result=null}";
       }
-      return "Future{unresolved}";
+      StringBuilder sb = new StringBuilder("Future{result=");
+      formatValue(valueOf(s), sb);
+      sb.append("}");
+      return sb.toString();
     }
+    return "Future{unresolved}";
   }
 
   protected void formatValue(Object value, StringBuilder sb) {
     sb.append(value);
   }
 
-  private static class ListenerArray<T> extends ArrayList<Listener<T>> implements Listener<T> {
+  @SuppressWarnings("rawtypes")
+  private static final Listener NO_LISTENER = new Listener() {
+    @Override
+    public void onSuccess(Object value) {
+    }
+    @Override
+    public void onFailure(Throwable failure) {
+    }
+  };
+
+  /**
+   * A stack of listeners, the top of the stack is the last added listener and the bottom is a single listener,
+   * the listeners are signaled in the order they were added.
+   */
+  private static final class ListenerStack<T> implements Listener<T> {
+
+    private final Listener<T> listener;
+    private final Listener<T> next;
+    private final int size;
+
+    ListenerStack(Listener<T> listener, Listener<T> next) {
+      this.listener = listener;
+      this.next = next;
+      this.size = next instanceof ListenerStack ? ((ListenerStack<T>) next).size + 1 : 2;
+    }
+
+    private Listener<T>[] listeners() {
+      Listener<T>[] listeners = new Listener[size];
+      Listener<T> l = this;
+      int i = size;
+      while (l instanceof ListenerStack) {
+        ListenerStack<T> stack = (ListenerStack<T>) l;
+        listeners[--i] = stack.listener;
+        l = stack.next;
+      }
+      listeners[0] = l;
+      return listeners;
+    }
+
     @Override
     public void onSuccess(T value) {
-      for (Listener<T> handler : this) {
+      for (Listener<T> handler : listeners()) {
         handler.onSuccess(value);
       }
     }
+
     @Override
     public void onFailure(Throwable failure) {
-      for (Listener<T> handler : this) {
+      for (Listener<T> handler : listeners()) {
         handler.onFailure(failure);
       }
     }
@@ -246,4 +317,13 @@ class FutureImpl<T> extends FutureBase<T> {
       this.cause = cause;
     }
   }
+
+  private static class ValueHolder {
+
+    private final Object value;
+
+    ValueHolder(Object value) {
+      this.value = value;
+    }
+  }
 }
@@ -12,6 +12,8 @@
 package io.vertx.core.json;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.impl.JsonUtil;
+import io.vertx.core.json.jackson.LazyJsonList;
 import io.vertx.core.shareddata.Shareable;
 import io.vertx.core.shareddata.impl.ClusterSerializable;
 
@@ -39,6 +41,7 @@ import static java.time.format.DateTimeFormatter.ISO_INSTANT;
 public class JsonArray implements Iterable<Object>, ClusterSerializable, Shareable {
 
   private List<Object> list;
+  private boolean frozen;
 
   /**
    * Create an instance from a String of JSON, this string must be a valid array otherwise an exception will be thrown.
@@ -92,6 +95,23 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable, Shareab
     }
   }
 
+  /**
+   * Create a lazy instance from a buffer.
+   * <p/>
+   * The buffer is not decoded: the elements are indexed when the array is first accessed and the elements are decoded
+   * when they are first read, nested objects and arrays are lazy as well. As long as the array is not modified,
+   * it is encoded as the original bytes. This is efficient when a few elements of a large document are read.
+   * <p/>
+   * The bytes of the buffer are copied, a {@link DecodeException} is thrown when the array is first accessed
+   * if the buffer is not a valid JSON array.
+   *
+   * @param buf the buffer to create the instance from.
+   * @return the lazy instance
+   */
+  public static JsonArray lazy(Buffer buf) {
+    return new JsonArray(LazyJsonList.create(buf));
+  }
+
   /**
    * Get the String at position {@code pos} in the array,
    *
@@ -533,6 +553,12 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable, Shareab
    * @return the string encoding
    */
   public String encode() {
+    if (list instanceof LazyJsonList) {
+      String encoded = ((LazyJsonList) list).encode();
+      if (encoded != null) {
+        return encoded;
+      }
+    }
     return Json.CODEC.toString(this, false);
   }
 
@@ -542,6 +568,12 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable, Shareab
    * @return the buffer encoding.
    */
   public Buffer toBuffer() {
+    if (list instanceof LazyJsonList) {
+      Buffer encoded = ((LazyJsonList) list).toBuffer();
+      if (encoded != null) {
+        return encoded;
+      }
+    }
     return Json.CODEC.toBuffer(this, false);
   }
 
@@ -575,6 +607,12 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable, Shareab
    * @return a copy where all elements have been copied recursively
    */
   public JsonArray copy(Function<Object, ?> cloner) {
+    if (list instanceof LazyJsonList) {
+      LazyJsonList copiedList = ((LazyJsonList) list).copy();
+      if (copiedList != null) {
+        return new JsonArray(copiedList);
+      }
+    }
     List<Object> copiedList = new ArrayList<>(list.size());
     for (Object val : list) {
       copiedList.add(deepCopy(val, cloner));
@@ -582,6 +620,38 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable, Shareab
     return new JsonArray(copiedList);
   }
 
+  /**
+   * Frozen copy of this JSON array, this array when it is already frozen.
+   *
+   * <p> A frozen array and its nested objects and arrays cannot be modified, modifications throw an
+   * {@link UnsupportedOperationException}. Binary values are held as read-only buffers.
+   *
+   * <p> A frozen array sent or published on the event bus is delivered as is to the consumers instead of being
+   * copied, all the consumers of a published message share the same instance.
+   *
+   * @return the frozen array
+   * @throws IllegalStateException when a nested element cannot be copied
+   */
+  public JsonArray freeze() {
+    if (frozen) {
+      return this;
+    }
+    List<Object> frozenList = new ArrayList<>(list.size());
+    for (Object val : list) {
+      frozenList.add(JsonUtil.freeze(val));
+    }
+    JsonArray copy = new JsonArray(Collections.unmodifiableList(frozenList));
+    copy.frozen = true;
+    return copy;
+  }
+
+  /**
+   * @return whether this array has been created by {@link #freeze()}
+   */
+  public boolean isFrozen() {
+    return frozen;
+  }
+
   /**
    * Get a Stream over the entries in the JSON array. The values in the stream will follow
    * the same rules as defined in {@link #getValue(int)}, respecting the JSON requirements.
@@ -11,6 +11,8 @@
 package io.vertx.core.json;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.impl.JsonUtil;
+import io.vertx.core.json.jackson.LazyJsonMap;
 import io.vertx.core.shareddata.Shareable;
 import io.vertx.core.shareddata.impl.ClusterSerializable;
 
@@ -38,6 +40,7 @@ import static java.time.format.DateTimeFormatter.ISO_INSTANT;
 public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterSerializable, Shareable {
 
   private Map<String, Object> map;
+  private boolean frozen;
 
   /**
    * Create an instance from a string of JSON
@@ -88,6 +91,23 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
     }
   }
 
+  /**
+   * Create a lazy instance from a buffer.
+   * <p/>
+   * The buffer is not decoded: the fields are indexed when the object is first accessed and the values are decoded
+   * when they are first read, nested objects and arrays are lazy as well. As long as the object is not modified,
+   * it is encoded as the original bytes. This is efficient when a few fields of a large document are read.
+   * <p/>
+   * The bytes of the buffer are copied, a {@link DecodeException} is thrown when the object is first accessed
+   * if the buffer is not a valid JSON object.
+   *
+   * @param buf the buffer to create the instance from.
+   * @return the lazy instance
+   */
+  public static JsonObject lazy(Buffer buf) {
+    return new JsonObject(LazyJsonMap.create(buf));
+  }
+
   /**
    * Create a JsonObject from the fields of a Java object.
    * Faster than calling `new JsonObject(Json.encode(obj))`.
@@ -725,6 +745,12 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return the string encoding.
    */
   public String encode() {
+    if (map instanceof LazyJsonMap) {
+      String encoded = ((LazyJsonMap) map).encode();
+      if (encoded != null) {
+        return encoded;
+      }
+    }
     return Json.CODEC.toString(this, false);
   }
 
@@ -744,6 +770,12 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return the buffer encoding.
    */
   public Buffer toBuffer() {
+    if (map instanceof LazyJsonMap) {
+      Buffer encoded = ((LazyJsonMap) map).toBuffer();
+      if (encoded != null) {
+        return encoded;
+      }
+    }
     return Json.CODEC.toBuffer(this, false);
   }
 
@@ -768,8 +800,14 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return a copy where all elements have been copied recursively
    */
   public JsonObject copy(Function<Object, ?> cloner) {
+    if (map instanceof LazyJsonMap) {
+      LazyJsonMap copiedMap = ((LazyJsonMap) map).copy();
+      if (copiedMap != null) {
+        return new JsonObject(copiedMap);
+      }
+    }
     Map<String, Object> copiedMap;
-    if (map instanceof LinkedHashMap) {
+    if (map instanceof LinkedHashMap || map instanceof LazyJsonMap || frozen) {
       copiedMap = new LinkedHashMap<>(map.size());
     } else {
       copiedMap = new HashMap<>(map.size());
@@ -781,6 +819,38 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
     return new JsonObject(copiedMap);
   }
 
+  /**
+   * Frozen copy of this JSON object, this object when it is already frozen.
+   *
+   * <p> A frozen object and its nested objects and arrays cannot be modified, modifications throw an
+   * {@link UnsupportedOperationException}. Binary values are held as read-only buffers.
+   *
+   * <p> A frozen object sent or published on the event bus is delivered as is to the consumers instead of being
+   * copied, all the consumers of a published message share the same instance.
+   *
+   * @return the frozen object
+   * @throws IllegalStateException when a nested element cannot be copied
+   */
+  public JsonObject freeze() {
+    if (frozen) {
+      return this;
+    }
+    Map<String, Object> frozenMap = new LinkedHashMap<>(Math.max(2, (int) (map.size() / 0.75f) + 1));
+    for (Map.Entry<String, Object> entry : map.entrySet()) {
+      frozenMap.put(entry.getKey(), JsonUtil.freeze(entry.getValue()));
+    }
+    JsonObject copy = new JsonObject(Collections.unmodifiableMap(frozenMap));
+    copy.frozen = true;
+    return copy;
+  }
+
+  /**
+   * @return whether this object has been created by {@link #freeze()}
+   */
+  public boolean isFrozen() {
+    return frozen;
+  }
+
   /**
    * Get the underlying {@code Map} as is.
    *
@@ -126,6 +126,38 @@ public final class JsonUtil {
     return val;
   }
 
+  /**
+   * Freeze a value of a frozen JSON object or array.
+   * <ul>
+   *   <li>{@code JsonObject} and {@code Map} are frozen as a frozen {@code JsonObject}</li>
+   *   <li>{@code JsonArray} and {@code List} are frozen as a frozen {@code JsonArray}</li>
+   *   <li>{@code Buffer} and {@code byte[]} are copied to a read-only {@code Buffer}</li>
+   *   <li>other values are copied as by {@link #deepCopy}</li>
+   * </ul>
+   *
+   * @param val the value
+   * @return the frozen value
+   */
+  @SuppressWarnings("unchecked")
+  public static Object freeze(Object val) {
+    if (val instanceof JsonObject) {
+      val = ((JsonObject) val).freeze();
+    } else if (val instanceof JsonArray) {
+      val = ((JsonArray) val).freeze();
+    } else if (val instanceof Map) {
+      val = new JsonObject((Map) val).freeze();
+    } else if (val instanceof List) {
+      val = new JsonArray((List) val).freeze();
+    } else if (val instanceof Buffer) {
+      val = ((Buffer) val).copy().asReadOnly();
+    } else if (val instanceof byte[]) {
+      val = Buffer.buffer((byte[]) val).asReadOnly();
+    } else {
+      val = deepCopy(val, DEFAULT_CLONER);
+    }
+    return val;
+  }
+
   public static <T> Stream<T> asStream(Iterator<T> sourceIterator) {
     Iterable<T> iterable = () -> sourceIterator;
     return StreamSupport.stream(iterable.spliterator(), false);
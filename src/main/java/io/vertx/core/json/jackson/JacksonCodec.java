@@ -126,6 +126,14 @@ public class JacksonCodec implements JsonCodec {
     }
   }
 
+  static JsonParser createParser(byte[] data, int offset, int len) {
+    try {
+      return factory.createParser(data, offset, len);
+    } catch (IOException e) {
+      throw new DecodeException("Failed to decode:" + e.getMessage(), e);
+    }
+  }
+
   public static JsonParser createParser(Buffer buf) {
     try {
       return factory.createParser((InputStream) new ByteBufInputStream(buf.getByteBuf()));
@@ -184,7 +192,7 @@ public class JacksonCodec implements JsonCodec {
     return cast(res, type);
   }
 
-  private static Object parseAny(JsonParser parser) throws IOException, DecodeException {
+  static Object parseAny(JsonParser parser) throws IOException, DecodeException {
     switch (parser.getCurrentTokenId()) {
       case JsonTokenId.ID_START_OBJECT:
         return parseObject(parser);
@@ -271,6 +279,11 @@ public class JacksonCodec implements JsonCodec {
       } else if (json instanceof JsonArray) {
         json = ((JsonArray)json).getList();
       }
+      if (json instanceof LazyJsonMap && ((LazyJsonMap) json).writeRaw(generator)) {
+        return;
+      } else if (json instanceof LazyJsonList && ((LazyJsonList) json).writeRaw(generator)) {
+        return;
+      }
       if (json instanceof Map) {
         generator.writeStartObject();
         for (Map.Entry<String, ?> e : ((Map<String, ?>)json).entrySet()) {
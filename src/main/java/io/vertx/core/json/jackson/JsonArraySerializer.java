@@ -21,6 +21,9 @@ import java.io.IOException;
 class JsonArraySerializer extends JsonSerializer<JsonArray> {
   @Override
   public void serialize(JsonArray value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
-    jgen.writeObject(value.getList());
+    Object list = value.getList();
+    if (!(list instanceof LazyJsonList) || !((LazyJsonList) list).writeRaw(jgen)) {
+      jgen.writeObject(list);
+    }
   }
 }
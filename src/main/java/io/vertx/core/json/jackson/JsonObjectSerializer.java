@@ -20,6 +20,9 @@ import java.io.IOException;
 class JsonObjectSerializer extends JsonSerializer<JsonObject> {
   @Override
   public void serialize(JsonObject value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
-    jgen.writeObject(value.getMap());
+    Object map = value.getMap();
+    if (!(map instanceof LazyJsonMap) || !((LazyJsonMap) map).writeRaw(jgen)) {
+      jgen.writeObject(map);
+    }
   }
 }
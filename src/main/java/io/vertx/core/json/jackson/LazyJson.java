@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.json.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The range of a json document holding a lazy json object or array.
+ *
+ * <p> The document bytes are never modified, a range is <i>dirty</i> when the structure or one of its descendants
+ * has been modified, the bytes of a clean range are the encoding of the structure.
+ */
+final class LazyJson {
+
+  final LazyJson parent;
+  final byte[] data;
+  int start;
+  int end;
+  private boolean dirty;
+
+  LazyJson(LazyJson parent, byte[] data, int start, int end) {
+    this.parent = parent;
+    this.data = data;
+    this.start = start;
+    this.end = end;
+  }
+
+  /**
+   * @return a parser of the range starting at {@code offset}
+   */
+  JsonParser parser(int offset) {
+    return JacksonCodec.createParser(data, offset, end - offset);
+  }
+
+  /**
+   * @return the absolute offset of the current token of a parser created at {@code offset}
+   */
+  static int tokenOffset(JsonParser parser, int offset) {
+    return offset + (int) parser.getTokenLocation().getByteOffset();
+  }
+
+  /**
+   * Decode the value starting at {@code offset}, objects and arrays are decoded as lazy structures.
+   *
+   * @param offset the value offset
+   * @param valueEnd the value end returned by {@link #skip}
+   */
+  Object decode(int offset, int valueEnd) {
+    byte b = data[offset];
+    if (b == '{' || b == '[') {
+      LazyJson range = new LazyJson(this, data, offset, valueEnd);
+      return b == '{' ? new LazyJsonMap(range) : new LazyJsonList(range);
+    }
+    // A number must be bounded, the parser expects a number at the root to be followed by a space
+    JsonParser parser = JacksonCodec.createParser(data, offset, (valueEnd >= 0 ? valueEnd : end) - offset);
+    try {
+      parser.nextToken();
+      return JacksonCodec.parseAny(parser);
+    } catch (IOException e) {
+      throw new DecodeException(e.getMessage(), e);
+    } finally {
+      JacksonCodec.close(parser);
+    }
+  }
+
+  /**
+   * Skip the value of the current token.
+   *
+   * @return the end of the value when it is an object, an array or a number, otherwise {@code -1}
+   */
+  static int skip(JsonParser parser, JsonToken token, int offset) throws IOException {
+    if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return tokenOffset(parser, offset) + 1;
+    } else if (token.isNumeric()) {
+      return offset + (int) parser.getCurrentLocation().getByteOffset();
+    }
+    return -1;
+  }
+
+  /**
+   * Set the start of the range to the first token of a parser created at {@code base}, skipping the leading
+   * spaces of a document.
+   */
+  void begin(JsonParser parser, int base) {
+    start = tokenOffset(parser, base);
+  }
+
+  /**
+   * Set the end of the range after its structure has been parsed by a parser created at {@code base},
+   * checking a document has no trailing tokens.
+   */
+  void terminate(JsonParser parser, int base) throws IOException {
+    end = tokenOffset(parser, base) + 1;
+    if (parent == null && parser.nextToken() != null) {
+      throw new DecodeException("Unexpected trailing token");
+    }
+  }
+
+  /**
+   * Mark this range and its ancestors as dirty.
+   */
+  void modified() {
+    for (LazyJson range = this;range != null && !range.dirty;range = range.parent) {
+      range.dirty = true;
+    }
+  }
+
+  boolean isDirty() {
+    return dirty;
+  }
+
+  /**
+   * @return a copy of the bytes of a clean range
+   */
+  Buffer toBuffer() {
+    return Buffer.buffer().appendBytes(data, start, end - start);
+  }
+
+  /**
+   * @return the string of a clean range
+   */
+  String encode() {
+    return new String(data, start, end - start, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Write the bytes of a clean range as is when the generator encodes json without pretty printing.
+   *
+   * @return whether the range has been written
+   */
+  boolean writeRaw(JsonGenerator generator) throws IOException {
+    // Other generators, e.g. token buffers, do not expect raw values
+    if (dirty || !(generator instanceof JsonGeneratorImpl) || generator.getPrettyPrinter() != null) {
+      return false;
+    }
+    generator.writeRawValue(encode());
+    return true;
+  }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.json.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A json array list decoding its content from the bytes of a json document on demand.
+ *
+ * <p> The elements are indexed when the list is first accessed: the index holds the offset of each element,
+ * elements are decoded when they are first read, nested objects and arrays are decoded as lazy structures.
+ * The list is converted to an {@link ArrayList} holding all its elements when it is modified.
+ *
+ * <p> As long as the list and its descendants are not modified, the list is encoded as the original bytes.
+ *
+ * <p> An unmodified list can be read by concurrent threads, like an {@link ArrayList} it must not be modified
+ * concurrently.
+ */
+public final class LazyJsonList extends AbstractList<Object> implements RandomAccess {
+
+  private static final Object UNDECODED = new Object();
+
+  /**
+   * Create a lazy list of a json array document.
+   *
+   * @param buf the document, its bytes are copied
+   */
+  public static LazyJsonList create(Buffer buf) {
+    byte[] data = buf.getBytes();
+    return new LazyJsonList(new LazyJson(null, data, 0, data.length));
+  }
+
+  private final LazyJson range;
+  private volatile Index index;
+  private volatile ArrayList<Object> list;
+
+  LazyJsonList(LazyJson range) {
+    this.range = range;
+  }
+
+  /**
+   * Build the index in local variables and publish it with a single volatile write, concurrent readers
+   * never see a partial index.
+   */
+  private Index index() {
+    Index idx = index;
+    if (idx != null) {
+      return idx;
+    }
+    int[] offsets = new int[8];
+    int[] ends = new int[8];
+    int count = 0;
+    int base = range.start;
+    JsonParser parser = range.parser(base);
+    try {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        throw new DecodeException("Invalid JSON array");
+      }
+      range.begin(parser, base);
+      JsonToken token;
+      while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+        if (token == null) {
+          throw new DecodeException("Unexpected end of input");
+        }
+        if (count == offsets.length) {
+          offsets = Arrays.copyOf(offsets, count * 2);
+          ends = Arrays.copyOf(ends, count * 2);
+        }
+        offsets[count] = LazyJson.tokenOffset(parser, base);
+        ends[count] = LazyJson.skip(parser, token, base);
+        count++;
+      }
+      range.terminate(parser, base);
+    } catch (IOException e) {
+      throw new DecodeException(e.getMessage(), e);
+    } finally {
+      JacksonCodec.close(parser);
+    }
+    idx = new Index(offsets, ends, count);
+    index = idx;
+    return idx;
+  }
+
+  /**
+   * The offsets of the elements and the elements decoded so far.
+   */
+  private final class Index {
+
+    private final int[] offsets;
+    private final int[] ends;
+    private final int count;
+    private final AtomicReferenceArray<Object> values;
+
+    private Index(int[] offsets, int[] ends, int count) {
+      this.offsets = offsets;
+      this.ends = ends;
+      this.count = count;
+      this.values = new AtomicReferenceArray<>(count);
+      for (int i = 0;i < count;i++) {
+        values.lazySet(i, UNDECODED);
+      }
+    }
+
+    /**
+     * Decode an element once, concurrent readers decoding the same element get the element decoded first.
+     */
+    private Object value(int index) {
+      Object value = values.get(index);
+      if (value == UNDECODED) {
+        value = range.decode(offsets[index], ends[index]);
+        if (!values.compareAndSet(index, UNDECODED, value)) {
+          value = values.get(index);
+        }
+      }
+      return value;
+    }
+  }
+
+  /**
+   * Convert this list to an {@link ArrayList} holding all the elements.
+   */
+  private ArrayList<Object> list() {
+    ArrayList<Object> l = list;
+    if (l == null) {
+      Index idx = index();
+      l = new ArrayList<>(idx.count);
+      for (int i = 0;i < idx.count;i++) {
+        l.add(idx.value(i));
+      }
+      list = l;
+      index = null;
+    }
+    return l;
+  }
+
+  /**
+   * Index the list unless it has been converted, checking the document and setting its range.
+   */
+  private void indexed() {
+    if (list == null) {
+      index();
+    }
+  }
+
+  /**
+   * Encode this list as its original bytes when it has not been modified.
+   *
+   * @return the encoded list or {@code null} when the list has been modified
+   */
+  public Buffer toBuffer() {
+    indexed();
+    return range.isDirty() ? null : range.toBuffer();
+  }
+
+  /**
+   * Encode this list as its original string when it has not been modified.
+   *
+   * @return the encoded list or {@code null} when the list has been modified
+   */
+  public String encode() {
+    indexed();
+    return range.isDirty() ? null : range.encode();
+  }
+
+  /**
+   * Copy this list when it has not been modified, the copy shares the original bytes which are never modified.
+   *
+   * @return the copy or {@code null} when the list has been modified
+   */
+  public LazyJsonList copy() {
+    indexed();
+    return range.isDirty() ? null : new LazyJsonList(new LazyJson(null, range.data, range.start, range.end));
+  }
+
+  boolean writeRaw(JsonGenerator generator) throws IOException {
+    indexed();
+    return range.writeRaw(generator);
+  }
+
+  @Override
+  public int size() {
+    if (list != null) {
+      return list.size();
+    }
+    return index().count;
+  }
+
+  @Override
+  public Object get(int index) {
+    if (list != null) {
+      return list.get(index);
+    }
+    Index idx = index();
+    if (index < 0 || index >= idx.count) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + idx.count);
+    }
+    return idx.value(index);
+  }
+
+  @Override
+  public Object set(int index, Object element) {
+    ArrayList<Object> l = list();
+    Object prev = l.set(index, element);
+    range.modified();
+    return prev;
+  }
+
+  @Override
+  public void add(int index, Object element) {
+    ArrayList<Object> l = list();
+    l.add(index, element);
+    modCount++;
+    range.modified();
+  }
+
+  @Override
+  public Object remove(int index) {
+    ArrayList<Object> l = list();
+    Object prev = l.remove(index);
+    modCount++;
+    range.modified();
+    return prev;
+  }
+
+  @Override
+  public void clear() {
+    list().clear();
+    modCount++;
+    range.modified();
+  }
+}
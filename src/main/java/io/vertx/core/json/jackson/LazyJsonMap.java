@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.json.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A json object map decoding its content from the bytes of a json document on demand.
+ *
+ * <p> The fields are indexed when the map is first accessed: the index holds the name and the offset of each value,
+ * values are decoded when they are first read, nested objects and arrays are decoded as lazy structures.
+ * The map is converted to a {@link LinkedHashMap} holding all its values when it is modified or iterated.
+ *
+ * <p> As long as the map and its descendants are not modified, the map is encoded as the original bytes.
+ *
+ * <p> An unmodified map can be read by concurrent threads, like a {@link LinkedHashMap} it must not be modified
+ * concurrently.
+ */
+public final class LazyJsonMap extends AbstractMap<String, Object> {
+
+  private static final Object UNDECODED = new Object();
+  private static final int SLOTS_THRESHOLD = 8;
+
+  /**
+   * Create a lazy map of a json object document.
+   *
+   * @param buf the document, its bytes are copied
+   */
+  public static LazyJsonMap create(Buffer buf) {
+    byte[] data = buf.getBytes();
+    return new LazyJsonMap(new LazyJson(null, data, 0, data.length));
+  }
+
+  private final LazyJson range;
+  private volatile Index index;
+  private volatile LinkedHashMap<String, Object> map;
+  private EntrySet entrySet;
+
+  LazyJsonMap(LazyJson range) {
+    this.range = range;
+  }
+
+  /**
+   * Build the index in local variables and publish it with a single volatile write, concurrent readers
+   * never see a partial index.
+   */
+  private Index index() {
+    Index idx = index;
+    if (idx != null) {
+      return idx;
+    }
+    idx = new Index();
+    int base = range.start;
+    JsonParser parser = range.parser(base);
+    try {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new DecodeException("Invalid JSON object");
+      }
+      range.begin(parser, base);
+      String name;
+      while ((name = parser.nextFieldName()) != null) {
+        JsonToken token = parser.nextToken();
+        int offset = LazyJson.tokenOffset(parser, base);
+        int end = LazyJson.skip(parser, token, base);
+        int slot = idx.slot(name);
+        if (slot < 0) {
+          idx.add(name, offset, end);
+        } else {
+          // Last value wins
+          idx.offsets[slot] = offset;
+          idx.ends[slot] = end;
+        }
+      }
+      range.terminate(parser, base);
+    } catch (IOException e) {
+      throw new DecodeException(e.getMessage(), e);
+    } finally {
+      JacksonCodec.close(parser);
+    }
+    idx.values = new AtomicReferenceArray<>(idx.count);
+    for (int i = 0;i < idx.count;i++) {
+      idx.values.lazySet(i, UNDECODED);
+    }
+    index = idx;
+    return idx;
+  }
+
+  /**
+   * The fields of the map and the values decoded so far, the fields are only modified before the index is published.
+   */
+  private final class Index {
+
+    private String[] names = new String[SLOTS_THRESHOLD];
+    private int[] offsets = new int[SLOTS_THRESHOLD];
+    private int[] ends = new int[SLOTS_THRESHOLD];
+    private AtomicReferenceArray<Object> values;
+    private int count;
+    private Map<String, Integer> slots;
+
+    private void add(String name, int offset, int end) {
+      if (count == names.length) {
+        names = Arrays.copyOf(names, count * 2);
+        offsets = Arrays.copyOf(offsets, count * 2);
+        ends = Arrays.copyOf(ends, count * 2);
+      }
+      names[count] = name;
+      offsets[count] = offset;
+      ends[count] = end;
+      if (slots != null) {
+        slots.put(name, count);
+      } else if (count == SLOTS_THRESHOLD) {
+        slots = new HashMap<>();
+        for (int i = 0;i <= count;i++) {
+          slots.put(names[i], i);
+        }
+      }
+      count++;
+    }
+
+    private int slot(Object name) {
+      if (slots != null) {
+        Integer slot = slots.get(name);
+        return slot != null ? slot : -1;
+      }
+      for (int i = 0;i < count;i++) {
+        if (names[i].equals(name)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    /**
+     * Decode a value once, concurrent readers decoding the same value get the value decoded first.
+     */
+    private Object value(int slot) {
+      Object value = values.get(slot);
+      if (value == UNDECODED) {
+        value = range.decode(offsets[slot], ends[slot]);
+        if (!values.compareAndSet(slot, UNDECODED, value)) {
+          value = values.get(slot);
+        }
+      }
+      return value;
+    }
+  }
+
+  /**
+   * Convert this map to a {@link LinkedHashMap} holding all the values.
+   */
+  private LinkedHashMap<String, Object> map() {
+    LinkedHashMap<String, Object> m = map;
+    if (m == null) {
+      Index idx = index();
+      m = new LinkedHashMap<>(Math.max(2, (int) (idx.count / 0.75f) + 1));
+      for (int i = 0;i < idx.count;i++) {
+        m.put(idx.names[i], idx.value(i));
+      }
+      map = m;
+      index = null;
+    }
+    return m;
+  }
+
+  /**
+   * Index the map unless it has been converted, checking the document and setting its range.
+   */
+  private void indexed() {
+    if (map == null) {
+      index();
+    }
+  }
+
+  /**
+   * Encode this map as its original bytes when it has not been modified.
+   *
+   * @return the encoded map or {@code null} when the map has been modified
+   */
+  public Buffer toBuffer() {
+    indexed();
+    return range.isDirty() ? null : range.toBuffer();
+  }
+
+  /**
+   * Encode this map as its original string when it has not been modified.
+   *
+   * @return the encoded map or {@code null} when the map has been modified
+   */
+  public String encode() {
+    indexed();
+    return range.isDirty() ? null : range.encode();
+  }
+
+  /**
+   * Copy this map when it has not been modified, the copy shares the original bytes which are never modified.
+   *
+   * @return the copy or {@code null} when the map has been modified
+   */
+  public LazyJsonMap copy() {
+    indexed();
+    return range.isDirty() ? null : new LazyJsonMap(new LazyJson(null, range.data, range.start, range.end));
+  }
+
+  boolean writeRaw(JsonGenerator generator) throws IOException {
+    indexed();
+    return range.writeRaw(generator);
+  }
+
+  @Override
+  public int size() {
+    if (map != null) {
+      return map.size();
+    }
+    return index().count;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    if (map != null) {
+      return map.containsKey(key);
+    }
+    return index().slot(key) >= 0;
+  }
+
+  @Override
+  public Object get(Object key) {
+    if (map != null) {
+      return map.get(key);
+    }
+    Index idx = index();
+    int slot = idx.slot(key);
+    return slot >= 0 ? idx.value(slot) : null;
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    Map<String, Object> m = map();
+    range.modified();
+    return m.put(key, value);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    Map<String, Object> m = map();
+    range.modified();
+    return m.remove(key);
+  }
+
+  @Override
+  public void putAll(Map<? extends String, ?> m) {
+    map().putAll(m);
+    range.modified();
+  }
+
+  @Override
+  public void clear() {
+    map().clear();
+    range.modified();
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    if (entrySet == null) {
+      entrySet = new EntrySet();
+    }
+    return entrySet;
+  }
+
+  /**
+   * A view of the entries of the converted map marking the map as modified on removals and value updates.
+   */
+  private class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+    @Override
+    public int size() {
+      return LazyJsonMap.this.size();
+    }
+
+    @Override
+    public Iterator<Entry<String, Object>> iterator() {
+      Iterator<Entry<String, Object>> it = map().entrySet().iterator();
+      return new Iterator<Entry<String, Object>>() {
+        @Override
+        public boolean hasNext() {
+          return it.hasNext();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+          Entry<String, Object> entry = it.next();
+          return new SimpleEntry<String, Object>(entry) {
+            @Override
+            public Object setValue(Object value) {
+              range.modified();
+              super.setValue(value);
+              return entry.setValue(value);
+            }
+          };
+        }
+
+        @Override
+        public void remove() {
+          it.remove();
+          range.modified();
+        }
+      };
+    }
+  }
+}
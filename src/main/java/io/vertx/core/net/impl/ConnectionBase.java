@@ -20,6 +20,7 @@ import io.netty.util.ReferenceCountUtil;
 import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.FutureListener;
 import io.vertx.core.*;
+import io.vertx.core.file.impl.FileHandleCache;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.future.PromiseInternal;
 import io.vertx.core.impl.VertxInternal;
@@ -496,9 +497,13 @@ public abstract class ConnectionBase {
   }
 
   public final ChannelFuture sendFile(RandomAccessFile raf, long offset, long length) throws IOException {
+    return sendFile(raf, offset, length, supportsFileRegion());
+  }
+
+  protected final ChannelFuture sendFile(RandomAccessFile raf, long offset, long length, boolean fileRegion) throws IOException {
     // Write the content.
     ChannelPromise writeFuture = chctx.newPromise();
-    if (!supportsFileRegion()) {
+    if (!fileRegion) {
       // Cannot use zero-copy
       writeToChannel(new ChunkedFile(raf, offset, length, 8192), writeFuture);
     } else {
@@ -513,6 +518,53 @@ public abstract class ConnectionBase {
     return writeFuture;
   }
 
+  /**
+   * Like {@link #sendFileRegion(RandomAccessFile, long, long, ChannelPromise)} with a cached file handle, each region
+   * holds a reference on the handle instead of owning the file channel.
+   */
+  private void sendFileRegion(FileHandleCache.Handle handle, long offset, long length, ChannelPromise writeFuture) {
+    if (length < MAX_REGION_SIZE) {
+      writeToChannel(handle.region(offset, length), writeFuture);
+    } else {
+      ChannelPromise promise = chctx.newPromise();
+      writeToChannel(handle.region(offset, MAX_REGION_SIZE), promise);
+      promise.addListener(future -> {
+        if (future.isSuccess()) {
+          sendFileRegion(handle, offset + MAX_REGION_SIZE, length - MAX_REGION_SIZE, writeFuture);
+        } else {
+          log.error(future.cause().getMessage(), future.cause());
+          writeFuture.setFailure(future.cause());
+        }
+      });
+    }
+  }
+
+  /**
+   * Send a file from the {@link FileHandleCache}, the reference on the {@code handle} owned by the caller
+   * is released when the transfer is done.
+   */
+  public final ChannelFuture sendFile(FileHandleCache.Handle handle, long offset, long length) throws IOException {
+    return sendFile(handle, offset, length, supportsFileRegion());
+  }
+
+  protected final ChannelFuture sendFile(FileHandleCache.Handle handle, long offset, long length, boolean fileRegion) throws IOException {
+    ChannelPromise writeFuture = chctx.newPromise();
+    try {
+      if (!fileRegion) {
+        // Cannot use zero-copy
+        writeToChannel(handle.chunkedInput(offset, length, 8192), writeFuture);
+      } else {
+        // No encryption - use zero-copy.
+        sendFileRegion(handle, offset, length, writeFuture);
+      }
+    } catch (IOException e) {
+      handle.release();
+      throw e;
+    }
+    writeFuture.addListener(fut -> handle.release());
+    return writeFuture;
+  }
+
   public boolean isSsl() {
     return chctx.pipeline().get(SslHandler.class) != null;
   }
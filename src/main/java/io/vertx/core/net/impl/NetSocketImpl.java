@@ -22,9 +22,11 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
+import io.vertx.core.VertxException;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.file.impl.FileHandleCache;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
@@ -34,6 +36,7 @@ import io.vertx.core.spi.metrics.TCPMetrics;
 import io.vertx.core.streams.impl.InboundBuffer;
 
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.charset.Charset;
@@ -265,14 +268,51 @@ public class NetSocketImpl extends ConnectionBase implements NetSocketInternal {
 
   @Override
   public NetSocket sendFile(String filename, long offset, long length, final Handler<AsyncResult<Void>> resultHandler) {
-    File f = vertx.resolveFile(filename);
-    if (f.isDirectory()) {
-      throw new IllegalArgumentException("filename must point to a file and not to a directory");
+    // Small class path resources are served from memory instead of being extracted to the file cache dir
+    Buffer resource;
+    try {
+      resource = vertx.resolveResource(filename);
+    } catch (VertxException e) {
+      if (resultHandler != null) {
+        vertx.runOnContext(v -> resultHandler.handle(Future.failedFuture(e)));
+      } else {
+        log.error("Failed to send file", e);
+      }
+      return this;
+    }
+    if (resource != null) {
+      int start = (int) Math.min(offset, resource.length());
+      int end = start + (int) Math.max(0, Math.min(length, resource.length() - start));
+      write(resource.slice(start, end), resultHandler);
+      return this;
+    }
+    FileHandleCache cache = vertx.sendFileCache();
+    File f = null;
+    if (cache == null) {
+      f = vertx.resolveFile(filename);
+      if (f.isDirectory()) {
+        throw new IllegalArgumentException("filename must point to a file and not to a directory");
+      }
     }
     RandomAccessFile raf = null;
     try {
-      raf = new RandomAccessFile(f, "r");
-      ChannelFuture future = super.sendFile(raf, Math.min(offset, f.length()), Math.min(length, f.length() - offset));
+      ChannelFuture future;
+      if (cache != null) {
+        FileHandleCache.Handle handle;
+        try {
+          handle = cache.acquire(filename);
+        } catch (FileNotFoundException e) {
+          // Only resolve the file when the cache cannot open it
+          if (vertx.resolveFile(filename).isDirectory()) {
+            throw new IllegalArgumentException("filename must point to a file and not to a directory");
+          }
+          throw e;
+        }
+        future = super.sendFile(handle, Math.min(offset, handle.length()), Math.min(length, handle.length() - offset));
+      } else {
+        raf = new RandomAccessFile(f, "r");
+        future = super.sendFile(raf, Math.min(offset, f.length()), Math.min(length, f.length() - offset));
+      }
       if (resultHandler != null) {
         future.addListener(fut -> {
           final AsyncResult<Void> res;
@@ -48,9 +48,13 @@ public class ConnectionManager<K, C> {
                             K key,
                             long timeout,
                             Handler<AsyncResult<C>> handler) {
-    Runnable dispose = () -> endpointMap.remove(key);
     while (true) {
-      Endpoint<C> endpoint = endpointMap.computeIfAbsent(key, k -> endpointProvider.create(key, ctx, dispose));
+      // Lookup first, computeIfAbsent locks the bin of the key even when the endpoint exists
+      Endpoint<C> endpoint = endpointMap.get(key);
+      if (endpoint == null) {
+        Runnable dispose = () -> endpointMap.remove(key);
+        endpoint = endpointMap.computeIfAbsent(key, k -> endpointProvider.create(key, ctx, dispose));
+      }
       if (endpoint.getConnection(ctx, timeout, handler)) {
         break;
       }
@@ -14,6 +14,7 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.impl.EventLoopContext;
+import io.vertx.core.spi.metrics.ClientMetrics;
 
 import java.util.List;
 import java.util.function.BiFunction;
@@ -32,6 +33,14 @@ public interface ConnectionPool<C> {
     return new SimpleConnectionPool<>(connector, maxSizes, maxWaiters);
   }
 
+  /**
+   * @return a selector choosing an available connection bound to the event loop of the waiter, so the
+   *         connection events are handled without a thread hop
+   */
+  static <C> BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> eventLoopSelector() {
+    return (BiFunction) SimpleConnectionPool.SAME_EVENT_LOOP_SELECTOR;
+  }
+
   /**
    * Set a {@code selector} function that decides the best connection to use.
    *
@@ -46,6 +55,14 @@ public interface ConnectionPool<C> {
    */
   ConnectionPool<C> connectionSelector(BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> selector);
 
+  /**
+   * Set the {@code metrics} reporting the connections leased by the pool.
+   *
+   * @param metrics the metrics
+   * @return a reference to this, so the API can be used fluently
+   */
+  ConnectionPool<C> metrics(ClientMetrics<?, ?, ?, ?> metrics);
+
   /**
    * Acquire a connection from the pool.
    *
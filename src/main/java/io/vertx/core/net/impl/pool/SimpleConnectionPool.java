@@ -10,19 +10,24 @@
  */
 package io.vertx.core.net.impl.pool;
 
+import io.netty.channel.EventLoop;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.http.ConnectionPoolTooBusyException;
+import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.EventLoopContext;
+import io.vertx.core.spi.metrics.ClientMetrics;
 
 import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
@@ -75,6 +80,19 @@ import java.util.function.Predicate;
  * A connection acquisition a {@link PoolWaiter.Listener} can be provided, letting the requester
  * to get a reference on the waiter and later use {@link #cancel(PoolWaiter, Handler)} to cancel
  * a request.
+ *
+ * <h3>Lock-free fast path</h3>
+ *
+ * The concurrency of a connection is updated atomically, the common cases bypass the executor:
+ * <ul>
+ *   <li>when the pool uses the default or the event loop selector and no waiter is queued, an acquisition leases
+ *   a connection of the same context or event loop from a snapshot of the pool connections</li>
+ *   <li>when no waiter is queued, a recycled lease gives back its concurrency to the connection</li>
+ * </ul>
+ * Connections removed from the pool have a negative concurrency so they cannot be leased or recycled anymore. The
+ * snapshot is only published by actions changing the pool connections, i.e when the pool capacity changes. A waiter
+ * is enqueued before the pool looks again for an available connection and a lock-free recycle checks for waiters
+ * after giving back its concurrency, so capacity released concurrently is always handed over to queued waiters.
  */
 public class SimpleConnectionPool<C> implements ConnectionPool<C> {
 
@@ -94,6 +112,21 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     return null;
   };
 
+  /**
+   * Select the first available available connection with the same event loop.
+   */
+  static final BiFunction<PoolWaiter, List<PoolConnection>, PoolConnection> SAME_EVENT_LOOP_SELECTOR = (waiter, list) -> {
+    EventLoop eventLoop = ((ContextInternal) waiter.context()).nettyEventLoop();
+    int size = list.size();
+    for (int i = 0;i < size;i++) {
+      PoolConnection slot = list.get(i);
+      if (((ContextInternal) slot.context()).nettyEventLoop() == eventLoop && slot.concurrency() > 0) {
+        return slot;
+      }
+    }
+    return null;
+  };
+
   /**
    * Select the first available available connection.
    */
@@ -113,13 +146,15 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
    */
   static class Slot<C> implements PoolConnector.Listener, PoolConnection<C> {
 
+    private static final AtomicIntegerFieldUpdater<Slot> CONCURRENCY = AtomicIntegerFieldUpdater.newUpdater(Slot.class, "concurrency");
+
     private final SimpleConnectionPool<C> pool;
     private final EventLoopContext context;
     private final Promise<C> result;
     private PoolWaiter<C> initiator;
     private C connection;    // The actual connection, might be null
     private int index;       // The index in the pool slots array
-    private int concurrency;    // The current concurrency, i.e the number of acquisitions this connection supports
+    private volatile int concurrency; // The current concurrency, i.e the number of acquisitions this connection supports, negative when removed
     private int maxConcurrency; // The connection maximum concurrency
     private int capacity;      // The connection capacity
 
@@ -162,6 +197,49 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     public int maxConcurrency() {
       return maxConcurrency;
     }
+
+    /**
+     * Acquire one unit of concurrency.
+     *
+     * @return whether the connection has been acquired
+     */
+    boolean tryAcquire() {
+      while (true) {
+        int c = concurrency;
+        if (c <= 0) {
+          return false;
+        }
+        if (CONCURRENCY.compareAndSet(this, c, c - 1)) {
+          return true;
+        }
+      }
+    }
+
+    /**
+     * Give back {@code amount} units of concurrency unless the connection has been removed.
+     *
+     * @return whether the concurrency has been given back
+     */
+    boolean tryRelease(int amount) {
+      while (true) {
+        int c = concurrency;
+        if (c < 0) {
+          return false;
+        }
+        if (CONCURRENCY.compareAndSet(this, c, c + amount)) {
+          return true;
+        }
+      }
+    }
+
+    /**
+     * Mark the connection as removed when it is not used.
+     *
+     * @return whether the connection has been marked
+     */
+    boolean tryEvict() {
+      return CONCURRENCY.compareAndSet(this, maxConcurrency, -1);
+    }
   }
 
   private final PoolConnector<C> connector;
@@ -170,6 +248,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
   private final int[] capacityFactors;
   private final Executor<SimpleConnectionPool<C>> sync;
   private final ListImpl list = new ListImpl();
+  private ClientMetrics<?, ?, ?, ?> metrics;
 
   // Whether the pool is closed
   private boolean closed;
@@ -182,6 +261,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
   private final Slot<C>[] slots;    // The pool connections, this array is not sparse
   private int size;                 // The number of non null slots
   private int capacity;             // The pool capacity
+  private volatile Slot<C>[] snapshot; // Copy of the pool connections for the lock-free fast path
 
   // The waiters
   private final Waiters<C> waiters;
@@ -219,6 +299,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     this.selector = (BiFunction) SAME_CONTEXT_SELECTOR;
     this.fallbackSelector = (BiFunction) FIRST_AVAILABLE_SELECTOR;
     this.waiters = new Waiters<>();
+    this.snapshot = new Slot[0];
   }
 
   @Override
@@ -227,10 +308,39 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     return this;
   }
 
+  @Override
+  public ConnectionPool<C> metrics(ClientMetrics<?, ?, ?, ?> metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
   private void execute(Executor.Action<SimpleConnectionPool<C>> action) {
     sync.submit(action);
   }
 
+  /**
+   * Publish the pool connections to the lock-free fast path, this must be called by actions changing the slots.
+   */
+  private void publish() {
+    snapshot = Arrays.copyOf(slots, size);
+  }
+
+  /**
+   * Acquire a connection chosen by the {@code selector}, the selected connection might have been concurrently
+   * acquired by the fast path, so the selection is retried until it fails or returns the same connection.
+   */
+  private Slot<C> select(BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> selector, PoolWaiter<C> waiter) {
+    Slot<C> prev = null;
+    Slot<C> slot;
+    while ((slot = (Slot<C>) selector.apply(waiter, list)) != null && slot != prev) {
+      if (slot.tryAcquire()) {
+        return slot;
+      }
+      prev = slot;
+    }
+    return null;
+  }
+
   public int size() {
       return size;
   }
@@ -268,7 +378,6 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
       slot.connection = result.connection();
       slot.maxConcurrency = (int)result.concurrency();
       slot.capacity = capacity;
-      slot.concurrency = slot.maxConcurrency;
       pool.requests--;
       pool.capacity += (capacity - initialCapacity);
       if (pool.closed) {
@@ -284,36 +393,24 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
           slot.result.complete(slot.connection);
         };
       } else {
-        if (slot.concurrency == 0) {
+        if (slot.maxConcurrency == 0) {
+          slot.concurrency = 0;
           if (!waiter.disposed) {
             pool.waiters.addFirst(waiter);
           }
           return null;
         }
-        int c = 1;
-        LeaseImpl<C>[] extra;
-        int concurrency;
         if (waiter.disposed) {
           waiter = null;
-          concurrency = slot.concurrency;
+          slot.concurrency = slot.maxConcurrency;
         } else {
           waiter.disposed = true;
-          concurrency = slot.concurrency - 1;
+          slot.concurrency = slot.maxConcurrency - 1;
         }
-        int m = Math.min(concurrency, pool.waiters.size());
-        if (m > 0) {
-          c += m;
-          extra = new LeaseImpl[m];
-          for (int i = 0;i < m;i++) {
-            extra[i] = new LeaseImpl<>(slot, pool.waiters.poll().handler);
-          }
-        } else {
-          extra = null;
-        }
-        slot.concurrency -= c;
+        List<LeaseImpl<C>> extra = pool.leaseToWaiters(slot);
         return () -> {
           if (waiter != null) {
-            new LeaseImpl<>(slot, waiter.handler).emit();
+            new LeaseImpl<>(slot, waiter.context, waiter.handler).emit();
           }
           if (extra != null) {
             for (LeaseImpl<C> lease : extra) {
@@ -372,7 +469,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
         return null;
       }
       int w = removed.capacity;
-      removed.concurrency = 0;
+      removed.concurrency = -1;
       removed.maxConcurrency = 0;
       removed.connection = null;
       removed.capacity = 0;
@@ -383,6 +480,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
         pool.capacity += waiter.capacity;
         pool.slots[removed.index] = slot;
         pool.requests++;
+        pool.publish();
         return () -> {
           if (waiter.listener != null) {
             waiter.listener.onConnect(waiter);
@@ -396,11 +494,13 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
         pool.slots[pool.size - 1] = null;
         pool.size--;
         pool.capacity -= w;
+        pool.publish();
         return null;
       } else {
         pool.slots[0] = null;
         pool.size--;
         pool.capacity -= w;
+        pool.publish();
         return null;
       }
     }
@@ -420,17 +520,13 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     public Runnable execute(SimpleConnectionPool<C> pool) {
       if (slot.connection != null) {
         if (slot.maxConcurrency < concurrency) {
-          long diff = concurrency - slot.maxConcurrency;
-          slot.concurrency += diff;
+          int diff = (int)(concurrency - slot.maxConcurrency);
           slot.maxConcurrency += diff;
-          LeaseImpl<C>[] extra;
-          int m = Math.min(slot.concurrency, pool.waiters.size());
-          if (m > 0) {
-            extra = new LeaseImpl[m];
-            for (int i = 0;i < m;i++) {
-              extra[i] = new LeaseImpl<>(slot, pool.waiters.poll().handler);
-            }
-            slot.concurrency -= m;
+          if (!slot.tryRelease(diff)) {
+            return null;
+          }
+          List<LeaseImpl<C>> extra = pool.leaseToWaiters(slot);
+          if (extra != null) {
             return () -> {
               for (LeaseImpl<C> lease : extra) {
                 lease.emit();
@@ -456,6 +552,23 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     execute(new Remove<>(removed));
   }
 
+  /**
+   * Lease the available concurrency of {@code slot} to the queued waiters.
+   *
+   * @return the leases to emit or {@code null}
+   */
+  private List<LeaseImpl<C>> leaseToWaiters(Slot<C> slot) {
+    List<LeaseImpl<C>> leases = null;
+    while (waiters.size() > 0 && slot.tryAcquire()) {
+      if (leases == null) {
+        leases = new ArrayList<>();
+      }
+      PoolWaiter<C> waiter = waiters.poll();
+      leases.add(new LeaseImpl<>(slot, waiter.context, waiter.handler));
+    }
+    return leases;
+  }
+
   private static class Evict<C> implements Executor.Action<SimpleConnectionPool<C>> {
 
     private final Predicate<C> predicate;
@@ -475,7 +588,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
       List<Slot<C>> removed = new ArrayList<>();
       for (int i = pool.size - 1;i >= 0;i--) {
         Slot<C> slot = pool.slots[i];
-        if (slot.connection != null && slot.concurrency == slot.maxConcurrency && predicate.test(slot.connection)) {
+        if (slot.connection != null && slot.concurrency == slot.maxConcurrency && predicate.test(slot.connection) && slot.tryEvict()) {
           removed.add(slot);
           res.add(slot.connection);
         }
@@ -505,11 +618,10 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
       }
 
       // 1. Try reuse a existing connection with the same context
-      Slot<C> slot1 = (Slot<C>) pool.selector.apply(this, pool.list);
+      Slot<C> slot1 = pool.select(pool.selector, this);
       if (slot1 != null) {
-        slot1.concurrency--;
         return () -> {
-          new LeaseImpl<>(slot1, handler).emit();
+          new LeaseImpl<>(slot1, context, handler).emit();
         };
       }
 
@@ -519,6 +631,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
         Slot<C> slot2 = new Slot<>(pool, context, pool.size, capacity);
         pool.slots[pool.size++] = slot2;
         pool.requests++;
+        pool.publish();
         return () -> {
           if (listener != null) {
             listener.onConnect(this);
@@ -528,17 +641,24 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
       }
 
       // 3. Try use another context
-      Slot<C> slot3 = (Slot<C>) pool.fallbackSelector.apply(this, pool.list);
+      Slot<C> slot3 = pool.select(pool.fallbackSelector, this);
       if (slot3 != null) {
-        slot3.concurrency--;
         return () -> {
-          new LeaseImpl<>(slot3, handler).emit();
+          new LeaseImpl<>(slot3, context, handler).emit();
         };
       }
 
       // 4. Fall in waiters list
       if (pool.maxWaiters == -1 || (pool.waiters.size() + pool.requests) < pool.maxWaiters) {
         pool.waiters.addLast(this);
+        // 5. A lock-free recycle might have given back a connection before the waiter was visible
+        Slot<C> slot5 = pool.select(pool.fallbackSelector, this);
+        if (slot5 != null) {
+          pool.waiters.removeFirst(this);
+          return () -> {
+            new LeaseImpl<>(slot5, context, handler).emit();
+          };
+        }
         return () -> {
           if (listener != null) {
             listener.onEnqueue(this);
@@ -552,7 +672,36 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
 
   @Override
   public void acquire(EventLoopContext context, PoolWaiter.Listener<C> listener, int kind, Handler<AsyncResult<Lease<C>>> handler) {
-    execute(new Acquire<>(context, listener, capacityFactors[kind], handler));
+    if (!tryAcquireFast(context, handler)) {
+      execute(new Acquire<>(context, listener, capacityFactors[kind], handler));
+    }
+  }
+
+  /**
+   * Lease a connection of the same {@code context} or event loop without going through the executor, this is only
+   * possible with the default or the event loop selector when no waiter is queued.
+   */
+  private boolean tryAcquireFast(EventLoopContext context, Handler<AsyncResult<Lease<C>>> handler) {
+    BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> selector = this.selector;
+    boolean sameEventLoop;
+    if (selector == (BiFunction) SAME_CONTEXT_SELECTOR) {
+      sameEventLoop = false;
+    } else if (selector == (BiFunction) SAME_EVENT_LOOP_SELECTOR) {
+      sameEventLoop = true;
+    } else {
+      return false;
+    }
+    if (waiters.size() > 0) {
+      return false;
+    }
+    EventLoop eventLoop = context.nettyEventLoop();
+    for (Slot<C> slot : snapshot) {
+      if ((sameEventLoop ? slot.context.nettyEventLoop() == eventLoop : slot.context == context) && slot.tryAcquire()) {
+        new LeaseImpl<>(slot, context, handler).emit();
+        return true;
+      }
+    }
+    return false;
   }
 
   public void acquire(EventLoopContext context, int kind, Handler<AsyncResult<Lease<C>>> handler) {
@@ -601,12 +750,14 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
 
     private final Handler<AsyncResult<Lease<C>>> handler;
     private final Slot<C> slot;
+    private final EventLoopContext context; // The borrower context
     private final C connection;
     private boolean recycled;
 
-    public LeaseImpl(Slot<C> slot, Handler<AsyncResult<Lease<C>>> handler) {
+    public LeaseImpl(Slot<C> slot, EventLoopContext context, Handler<AsyncResult<Lease<C>>> handler) {
       this.handler = handler;
       this.slot = slot;
+      this.context = context;
       this.connection = slot.connection;
     }
 
@@ -621,7 +772,11 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     }
 
     void emit() {
-      slot.context.emit(Future.succeededFuture(new LeaseImpl<>(slot, handler)), handler);
+      ClientMetrics<?, ?, ?, ?> metrics = slot.pool.metrics;
+      if (metrics != null) {
+        metrics.connectionLeased(slot.context.nettyEventLoop() == context.nettyEventLoop());
+      }
+      slot.context.emit(Future.succeededFuture(new LeaseImpl<>(slot, context, handler)), handler);
     }
   }
 
@@ -638,21 +793,58 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
       if (!pool.closed && slot.connection != null) {
         if (pool.waiters.size() > 0) {
           PoolWaiter<C> waiter = pool.waiters.poll();
-          return () -> new LeaseImpl<>(slot, waiter.handler).emit();
+          return () -> new LeaseImpl<>(slot, waiter.context, waiter.handler).emit();
         } else {
-          slot.concurrency++;
+          slot.tryRelease(1);
         }
       }
       return null;
     }
   }
 
+  /**
+   * Hand over the available connections to the queued waiters.
+   */
+  private static class Drain<C> implements Executor.Action<SimpleConnectionPool<C>> {
+
+    @Override
+    public Runnable execute(SimpleConnectionPool<C> pool) {
+      if (pool.closed) {
+        return null;
+      }
+      List<LeaseImpl<C>> leases = new ArrayList<>();
+      PoolWaiter<C> waiter;
+      while ((waiter = pool.waiters.peek()) != null) {
+        Slot<C> slot = pool.select(pool.fallbackSelector, waiter);
+        if (slot == null) {
+          break;
+        }
+        pool.waiters.removeFirst(waiter);
+        leases.add(new LeaseImpl<>(slot, waiter.context, waiter.handler));
+      }
+      if (leases.isEmpty()) {
+        return null;
+      }
+      return () -> {
+        for (LeaseImpl<C> lease : leases) {
+          lease.emit();
+        }
+      };
+    }
+  }
+
   private void recycle(LeaseImpl<C> lease) {
     if (lease.recycled) {
       throw new IllegalStateException("Attempt to recycle more than permitted");
     }
     lease.recycled = true;
-    execute(new Recycle<>(lease.slot));
+    Slot<C> slot = lease.slot;
+    if (waiters.size() > 0) {
+      execute(new Recycle<>(slot));
+    } else if (slot.tryRelease(1) && waiters.size() > 0) {
+      // A waiter has been queued concurrently
+      execute(new Drain<>());
+    }
   }
 
   public int waiters() {
@@ -687,6 +879,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
       for (int i = 0;i < pool.size;i++) {
         Slot<C> slot = pool.slots[i];
         pool.slots[i] = null;
+        slot.concurrency = -1;
         if (slot.initiator != null) {
           waiters.add(slot.initiator);
           slot.initiator = null;
@@ -695,6 +888,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
         list.add(slot.result.future());
       }
       pool.size = 0;
+      pool.publish();
       return () -> {
         waiters.forEach(w -> w.context.emit(POOL_CLOSED, w.handler));
         handler.handle(Future.succeededFuture(list));
@@ -710,7 +904,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
   private static class Waiters<C> implements Iterable<PoolWaiter<C>> {
 
     private final PoolWaiter<C> head;
-    private int size;
+    private volatile int size; // Read by the lock-free fast path
 
     public Waiters() {
       head = new PoolWaiter<>(null, null, 0, null);
@@ -726,6 +920,10 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
       return node;
     }
 
+    PoolWaiter<C> peek() {
+      return head.next == head ? null : head.next;
+    }
+
     void addLast(PoolWaiter<C> node) {
       node.prev = head.prev;
       node.next = head;
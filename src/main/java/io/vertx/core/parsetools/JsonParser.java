@@ -12,6 +12,7 @@
 package io.vertx.core.parsetools;
 
 import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
@@ -82,6 +83,19 @@ public interface JsonParser extends Handler<Buffer>, ReadStream<JsonEvent> {
   @Fluent
   JsonParser objectValueMode();
 
+  /**
+   * Flip the parser to emit a single value event for each new json object, the value of the event is the json
+   * object decoded to an instance of {@code type} with Jackson databind, without building a {@link io.vertx.core.json.JsonObject} first.
+   * </p>
+   * Json object currently streamed won't be affected.
+   *
+   * @param type the type to decode json objects to, {@code null} emits {@link io.vertx.core.json.JsonObject} values
+   * @return  a reference to this, so the API can be used fluently
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  @Fluent
+  JsonParser objectValueMode(Class<?> type);
+
   /**
    * Flip the parser to emit a stream of events for each new json array.
    *
@@ -100,6 +114,19 @@ public interface JsonParser extends Handler<Buffer>, ReadStream<JsonEvent> {
   @Fluent
   JsonParser arrayValueMode();
 
+  /**
+   * Flip the parser to emit a single value event for each new json array, the value of the event is the json
+   * array decoded to an instance of {@code type} with Jackson databind, without building a {@link io.vertx.core.json.JsonArray} first.
+   * </p>
+   * Json array currently streamed won't be affected.
+   *
+   * @param type the type to decode json arrays to, {@code null} emits {@link io.vertx.core.json.JsonArray} values
+   * @return  a reference to this, so the API can be used fluently
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  @Fluent
+  JsonParser arrayValueMode(Class<?> type);
+
   @Override
   JsonParser pause();
 
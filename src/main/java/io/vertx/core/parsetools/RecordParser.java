@@ -47,6 +47,9 @@ import io.vertx.core.streams.ReadStream;
  * Instances of this class can't currently be used for protocols where the text is encoded with something other than
  * a 1-1 byte-char mapping.
  * <p>
+ * Records are not copied when possible: a record contained in a single input buffer is emitted as a slice of this
+ * buffer, so it shares the content of the input buffer and cannot be expanded. Copy the record to modify it.
+ * <p>
  * Please see the documentation for more information.
  *
  * @author <a href="http://tfox.org">Tim Fox</a>
@@ -24,7 +24,7 @@ import io.vertx.core.impl.Arguments;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
-import io.vertx.core.json.jackson.JacksonCodec;
+import io.vertx.core.json.jackson.DatabindCodec;
 import io.vertx.core.parsetools.JsonEvent;
 import io.vertx.core.parsetools.JsonEventType;
 import io.vertx.core.parsetools.JsonParser;
@@ -33,8 +33,6 @@ import io.vertx.core.streams.ReadStream;
 import java.io.IOException;
 import java.util.ArrayDeque;
 import java.util.Deque;
-import java.util.List;
-import java.util.Map;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -45,7 +43,9 @@ public class JsonParserImpl implements JsonParser {
   private Handler<JsonEventImpl> tokenHandler = this::handleEvent;
   private Handler<JsonEvent> eventHandler;
   private boolean objectValueMode;
+  private Class<?> objectValueType;
   private boolean arrayValueMode;
+  private Class<?> arrayValueType;
   private Handler<Throwable> exceptionHandler;
   private String currentField;
   private Handler<Void> endHandler;
@@ -118,21 +118,9 @@ public class JsonParserImpl implements JsonParser {
 
   private void handleEvent(JsonEventImpl event) {
     if (event.type() == JsonEventType.START_OBJECT && objectValueMode) {
-      BufferingHandler handler = new BufferingHandler();
-      handler.handler = buffer -> {
-        tokenHandler = this::handleEvent;
-        handleEvent(new JsonEventImpl(null, JsonEventType.VALUE, event.fieldName(), new JsonObject(handler.convert(Map.class))));
-      };
-      tokenHandler = handler;
-      handler.handle(new JsonEventImpl(JsonToken.START_OBJECT, JsonEventType.START_OBJECT, null, null));
+      startValue(event, objectValueType);
     } else if (event.type() == JsonEventType.START_ARRAY && arrayValueMode) {
-      BufferingHandler handler = new BufferingHandler();
-      handler.handler = buffer -> {
-        tokenHandler = this::handleEvent;
-        handleEvent(new JsonEventImpl(null, JsonEventType.VALUE, event.fieldName(), new JsonArray(handler.convert(List.class))));
-      };
-      tokenHandler = handler;
-      handler.handle(new JsonEventImpl(JsonToken.START_ARRAY, JsonEventType.START_ARRAY, null, null));
+      startValue(event, arrayValueType);
     } else {
       if (demand != Long.MAX_VALUE) {
         demand--;
@@ -143,6 +131,26 @@ public class JsonParserImpl implements JsonParser {
     }
   }
 
+  /**
+   * Handle the events of the value started by {@code event} until the value ends, the value is built as a json tree
+   * or decoded to {@code type} when it is not {@code null}.
+   */
+  private void startValue(JsonEventImpl event, Class<?> type) {
+    String fieldName = event.fieldName();
+    Handler<Object> handler = value -> {
+      tokenHandler = this::handleEvent;
+      handleEvent(new JsonEventImpl(null, JsonEventType.VALUE, fieldName, value));
+    };
+    Handler<JsonEventImpl> valueHandler;
+    if (type == null) {
+      valueHandler = new TreeHandler(handler);
+    } else {
+      valueHandler = new BufferingHandler(type, handler);
+    }
+    tokenHandler = valueHandler;
+    valueHandler.handle(new JsonEventImpl(event.token(), event.type(), null, null));
+  }
+
   @Override
   public void handle(Buffer data) {
     byte[] bytes = data.getBytes();
@@ -296,7 +304,13 @@ public class JsonParserImpl implements JsonParser {
 
   @Override
   public JsonParser objectValueMode() {
+    return objectValueMode(null);
+  }
+
+  @Override
+  public JsonParser objectValueMode(Class<?> type) {
     objectValueMode = true;
+    objectValueType = type;
     return this;
   }
 
@@ -308,7 +322,13 @@ public class JsonParserImpl implements JsonParser {
 
   @Override
   public JsonParser arrayValueMode() {
+    return arrayValueMode(null);
+  }
+
+  @Override
+  public JsonParser arrayValueMode(Class<?> type) {
     arrayValueMode = true;
+    arrayValueType = type;
     return this;
   }
 
@@ -387,11 +407,69 @@ public class JsonParserImpl implements JsonParser {
     }
   }
 
+  /**
+   * Builds a json object or a json array from the events of a value.
+   */
+  private static class TreeHandler implements Handler<JsonEventImpl> {
+
+    private final Handler<Object> handler;
+    private final Deque<Object> stack = new ArrayDeque<>();
+
+    private TreeHandler(Handler<Object> handler) {
+      this.handler = handler;
+    }
+
+    @Override
+    public void handle(JsonEventImpl event) {
+      switch (event.type()) {
+        case START_OBJECT:
+          add(event.fieldName(), new JsonObject());
+          break;
+        case START_ARRAY:
+          add(event.fieldName(), new JsonArray());
+          break;
+        case VALUE:
+          add(event.fieldName(), event.value());
+          break;
+        case END_OBJECT:
+        case END_ARRAY:
+          Object value = stack.pop();
+          if (stack.isEmpty()) {
+            handler.handle(value);
+          }
+          break;
+        default:
+          throw new UnsupportedOperationException("Not implemented " + event);
+      }
+    }
+
+    private void add(String fieldName, Object value) {
+      Object container = stack.peek();
+      if (container instanceof JsonObject) {
+        ((JsonObject) container).put(fieldName, value);
+      } else if (container != null) {
+        ((JsonArray) container).add(value);
+      }
+      if (value instanceof JsonObject || value instanceof JsonArray) {
+        stack.push(value);
+      }
+    }
+  }
+
+  /**
+   * Buffers the tokens of a value and decodes them to a type with databind.
+   */
   private class BufferingHandler implements Handler<JsonEventImpl> {
 
-    Handler<Void> handler;
-    int depth;
-    TokenParser buffer;
+    private final Class<?> type;
+    private final Handler<Object> handler;
+    private int depth;
+    private TokenParser buffer;
+
+    private BufferingHandler(Class<?> type, Handler<Object> handler) {
+      this.type = type;
+      this.handler = handler;
+    }
 
     @Override
     public void handle(JsonEventImpl event) {
@@ -400,44 +478,37 @@ public class JsonParserImpl implements JsonParser {
         buffer.tokens.add(JsonToken.FIELD_NAME);
         buffer.tokens.add(fieldName);
       }
-      try {
-        switch (event.type()) {
-          case START_OBJECT:
-          case START_ARRAY:
-            if (depth++ == 0) {
-              JsonFactory factory = new JsonFactory();
-              buffer = new TokenParser(new IOContext(factory._getBufferRecycler(), this, true), com.fasterxml.jackson.core.JsonParser.Feature.collectDefaults());
-            }
-            buffer.tokens.add(event.token());
-            break;
-          case VALUE:
-            JsonToken token = event.token();
-            buffer.tokens.add(token);
-            if (token != JsonToken.VALUE_FALSE && token != JsonToken.VALUE_TRUE && token != JsonToken.VALUE_NULL) {
-              buffer.tokens.add(event.value());
-            }
-            break;
-          case END_OBJECT:
-          case END_ARRAY:
-            buffer.tokens.add(event.token());
-            if (--depth == 0) {
-              handler.handle(null);
-              buffer.close();
-              buffer = null;
-            }
-            break;
-          default:
-            throw new UnsupportedOperationException("Not implemented " + event);
-        }
-      } catch (IOException e) {
-        // Should not happen as we are buffering
-        throw new VertxException(e);
+      switch (event.type()) {
+        case START_OBJECT:
+        case START_ARRAY:
+          if (depth++ == 0) {
+            JsonFactory factory = new JsonFactory();
+            buffer = new TokenParser(new IOContext(factory._getBufferRecycler(), this, true), com.fasterxml.jackson.core.JsonParser.Feature.collectDefaults());
+          }
+          buffer.tokens.add(event.token());
+          break;
+        case VALUE:
+          JsonToken token = event.token();
+          buffer.tokens.add(token);
+          if (token != JsonToken.VALUE_FALSE && token != JsonToken.VALUE_TRUE && token != JsonToken.VALUE_NULL) {
+            buffer.tokens.add(event.value());
+          }
+          break;
+        case END_OBJECT:
+        case END_ARRAY:
+          buffer.tokens.add(event.token());
+          if (--depth == 0) {
+            TokenParser parser = buffer;
+            buffer = null;
+            // Resume parsing events when the value cannot be decoded
+            tokenHandler = JsonParserImpl.this::handleEvent;
+            handler.handle(DatabindCodec.fromParser(parser, type));
+          }
+          break;
+        default:
+          throw new UnsupportedOperationException("Not implemented " + event);
       }
     }
-
-    <T> T convert(Class<T> type) {
-      return JacksonCodec.fromParser(buffer, type);
-    }
   }
 
   @Override
@@ -11,28 +11,33 @@
 
 package io.vertx.core.parsetools.impl;
 
-import io.netty.buffer.Unpooled;
+import io.netty.buffer.ByteBuf;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferImpl;
+import io.vertx.core.buffer.impl.VertxByteBufAllocator;
 import io.vertx.core.impl.Arguments;
 import io.vertx.core.parsetools.RecordParser;
 import io.vertx.core.streams.ReadStream;
 
+import java.util.ArrayDeque;
 import java.util.Objects;
 
 /**
+ * The parser keeps the chunks it is provided with instead of copying them into a single buffer. A record contained
+ * in a single chunk is emitted as a slice of this chunk, a record spanning several chunks is copied once into a new
+ * buffer.
+ *
  * @author <a href="http://tfox.org">Tim Fox</a>
  * @author <a href="mailto:larsdtimm@gmail.com">Lars Timm</a>
  */
 public class RecordParserImpl implements RecordParser {
 
-  // Empty and unmodifiable
-  private static final Buffer EMPTY_BUFFER = Buffer.buffer(Unpooled.EMPTY_BUFFER);
-
-  private Buffer buff = EMPTY_BUFFER;
-  private int pos;            // Current position in buffer
-  private int start;          // Position of beginning of current record
-  private int delimPos;       // Position of current match in delimiter array
+  private final ArrayDeque<ByteBuf> chunks = new ArrayDeque<>();  // Unconsumed chunks
+  private int start;          // Position of beginning of current record in the first chunk
+  private int available;      // Number of bytes available from the beginning of current record
+  private int scanPos;        // Position relative to the current record where the delimiter search resumes
+  private int skip;           // Number of bytes following the current record to skip, i.e the delimiter length
 
   private boolean delimited;
   private byte[] delim;
@@ -142,7 +147,7 @@ public class RecordParserImpl implements RecordParser {
     Objects.requireNonNull(delim, "delim");
     delimited = true;
     this.delim = delim.getBytes();
-    delimPos = 0;
+    scanPos = 0;
   }
 
   /**
@@ -189,10 +194,11 @@ public class RecordParserImpl implements RecordParser {
           }
           if (next == -1) {
             if (streamEnded) {
-              if (buff.length() == 0) {
+              if (available == 0) {
                 break;
               }
-              next = buff.length();
+              next = available;
+              skip = 0;
             } else {
               ReadStream<Buffer> s = stream;
               if (s != null) {
@@ -207,8 +213,8 @@ public class RecordParserImpl implements RecordParser {
           if (demand != Long.MAX_VALUE) {
             demand--;
           }
-          Buffer event = buff.getBuffer(start, next);
-          start = pos;
+          Buffer event = record(next);
+          consume(next + skip);
           Handler<Buffer> handler = eventHandler;
           if (handler != null) {
             handler.handle(event);
@@ -225,14 +231,6 @@ public class RecordParserImpl implements RecordParser {
           break;
         }
       } while (true);
-      int len = buff.length();
-      if (start == len) {
-        buff = EMPTY_BUFFER;
-      } else if (start > 0) {
-        buff = buff.getBuffer(start, len);
-      }
-      pos -= start;
-      start = 0;
       if (streamEnded) {
         end();
       }
@@ -241,49 +239,137 @@ public class RecordParserImpl implements RecordParser {
     }
   }
 
+  /**
+   * Search the delimiter from {@link #scanPos}, the first delimiter byte is searched with {@link ByteBuf#indexOf}
+   * and the following bytes are then compared.
+   *
+   * @return the length of the record or {@code -1} when no delimiter is available
+   */
   private int parseDelimited() {
-    int len = buff.length();
-    for (; pos < len; pos++) {
-      if (buff.getByte(pos) == delim[delimPos]) {
-        delimPos++;
-        if (delimPos == delim.length) {
-          pos++;
-          delimPos = 0;
-          return pos - delim.length;
+    byte[] d = delim;
+    int dlen = d.length;
+    if (dlen == 0) {
+      return -1;
+    }
+    byte first = d[0];
+    int base = -start; // Position of the current chunk relative to the current record
+    for (ByteBuf chunk : chunks) {
+      int len = chunk.writerIndex();
+      int from = Math.max(scanPos - base, 0);
+      while (from < len) {
+        int idx = chunk.indexOf(from, len, first);
+        if (idx == -1) {
+          break;
         }
-      } else {
-        if (delimPos > 0) {
-          pos -= delimPos;
-          delimPos = 0;
+        int rel = base + idx;
+        if (rel + dlen > available) {
+          // Wait for more data to check the delimiter
+          scanPos = rel;
+          return -1;
         }
+        if (matches(chunk, idx, rel, d)) {
+          skip = dlen;
+          return rel;
+        }
+        from = idx + 1;
       }
+      base += len;
     }
+    scanPos = available;
     return -1;
   }
 
+  private boolean matches(ByteBuf chunk, int idx, int rel, byte[] d) {
+    if (idx + d.length <= chunk.writerIndex()) {
+      for (int i = 1;i < d.length;i++) {
+        if (chunk.getByte(idx + i) != d[i]) {
+          return false;
+        }
+      }
+    } else {
+      // The delimiter spans several chunks
+      for (int i = 1;i < d.length;i++) {
+        if (byteAt(rel + i) != d[i]) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private byte byteAt(int rel) {
+    int idx = start + rel;
+    for (ByteBuf chunk : chunks) {
+      int len = chunk.writerIndex();
+      if (idx < len) {
+        return chunk.getByte(idx);
+      }
+      idx -= len;
+    }
+    throw new IndexOutOfBoundsException();
+  }
+
   private int parseFixed() {
-    int len = buff.length();
-    if (len - start >= recordSize) {
-      int end = start + recordSize;
-      pos = end;
-      return end;
+    if (available >= recordSize) {
+      skip = 0;
+      return recordSize;
     }
     return -1;
   }
 
+  /**
+   * @return the {@code length} bytes of the current record, sliced from the first chunk when it contains them
+   */
+  private Buffer record(int length) {
+    ByteBuf chunk = chunks.peekFirst();
+    if (length == 0 || chunk == null) {
+      return Buffer.buffer();
+    }
+    if (start + length <= chunk.writerIndex()) {
+      return Buffer.buffer(chunk.slice(start, length));
+    }
+    ByteBuf copy = VertxByteBufAllocator.DEFAULT.heapBuffer(length, Integer.MAX_VALUE);
+    int idx = start;
+    for (ByteBuf c : chunks) {
+      int amount = Math.min(length - copy.writerIndex(), c.writerIndex() - idx);
+      copy.writeBytes(c, idx, amount);
+      if (copy.writerIndex() == length) {
+        break;
+      }
+      idx = 0;
+    }
+    return Buffer.buffer(copy);
+  }
+
+  /**
+   * Consume {@code amount} bytes from the beginning of the current record, the chunks fully consumed are discarded.
+   */
+  private void consume(int amount) {
+    available -= amount;
+    start += amount;
+    scanPos = 0;
+    ByteBuf chunk;
+    while ((chunk = chunks.peekFirst()) != null && start >= chunk.writerIndex()) {
+      start -= chunk.writerIndex();
+      chunks.removeFirst();
+    }
+  }
+
   /**
    * This method is called to provide the parser with data.
    *
    * @param buffer  a chunk of data
    */
   public void handle(Buffer buffer) {
-    if (buff.length() == 0) {
-      buff = buffer;
-    } else {
-      buff.appendBuffer(buffer);
+    int len = buffer.length();
+    if (len > 0) {
+      ByteBuf buf = buffer instanceof BufferImpl ? ((BufferImpl) buffer).byteBuf() : buffer.getByteBuf();
+      // Slice to keep the content handled by the parser when the buffer is modified afterwards
+      chunks.addLast(buf.slice(0, len));
+      available += len;
     }
     handleParsing();
-    if (buff != null && maxRecordSize > 0 && buff.length() > maxRecordSize) {
+    if (maxRecordSize > 0 && available > maxRecordSize) {
       IllegalStateException ex = new IllegalStateException("The current record is too long");
       if (exceptionHandler != null) {
         exceptionHandler.handle(ex);
@@ -127,6 +127,27 @@ public interface LocalMap<K, V> extends Map<K, V> {
    */
   void close();
 
+  /**
+   * @return the number of lookups that found an entry, only tracked by maps bounded with {@link LocalMapOptions#setMaxSize(int)}
+   */
+  default long hitCount() {
+    return 0L;
+  }
+
+  /**
+   * @return the number of lookups that did not find an entry, only tracked by maps bounded with {@link LocalMapOptions#setMaxSize(int)}
+   */
+  default long missCount() {
+    return 0L;
+  }
+
+  /**
+   * @return the number of entries evicted from a map bounded with {@link LocalMapOptions#setMaxSize(int)}
+   */
+  default long evictionCount() {
+    return 0L;
+  }
+
   /**
    * @return the set of keys in the map
    */
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options configuring a {@link LocalMap}.
+ */
+@DataObject(generateConverter = true, publicConverter = false)
+public class LocalMapOptions {
+
+  /**
+   * The default maximum number of entries of a local map = -1 (unbounded)
+   */
+  public static final int DEFAULT_MAX_SIZE = -1;
+
+  private int maxSize = DEFAULT_MAX_SIZE;
+
+  /**
+   * Default constructor
+   */
+  public LocalMapOptions() {
+  }
+
+  /**
+   * Copy constructor
+   *
+   * @param other The other {@link LocalMapOptions} to copy when creating this
+   */
+  public LocalMapOptions(LocalMapOptions other) {
+    this.maxSize = other.maxSize;
+  }
+
+  /**
+   * Creates a new instance of {@link LocalMapOptions} from the JSON object. This JSOn object has (generally)
+   * been generated using {@link #toJson()}.
+   *
+   * @param json the json object
+   */
+  public LocalMapOptions(JsonObject json) {
+    this();
+
+    LocalMapOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * Builds a JSON object representing the current {@link LocalMapOptions}.
+   *
+   * @return the JSON representation
+   */
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    LocalMapOptionsConverter.toJson(this, json);
+    return json;
+  }
+
+  /**
+   * @return the maximum number of entries of the map, or {@code -1} when the map is unbounded
+   */
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Set the maximum number of entries of the map.
+   * <p>
+   * When the map is full, the least recently used entries are evicted to make room for the new entries. The
+   * default value is {@code -1} which means the map is unbounded.
+   *
+   * @param maxSize the maximum number of entries
+   * @return a reference to this, so the API can be used fluently
+   */
+  public LocalMapOptions setMaxSize(int maxSize) {
+    if (maxSize < 1 && maxSize != -1) {
+      throw new IllegalArgumentException("maxSize must be greater than 0 or -1");
+    }
+    this.maxSize = maxSize;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "LocalMapOptions{" +
+    "maxSize=" + maxSize +
+    '}';
+  }
+}
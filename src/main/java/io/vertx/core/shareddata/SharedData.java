@@ -193,4 +193,25 @@ public interface SharedData {
    */
   <K, V> LocalMap<K, V> getLocalMap(String name);
 
+  /**
+   * Like {@link #getLocalMap(String)} but configures the map with the given {@code options} when it is created, the
+   * options are ignored when the map already exists.
+   * <p>
+   * A map created with a {@link LocalMapOptions#setMaxSize(int) maximum size} evicts its least recently used entries
+   * when it is full.
+   * <p>
+   * The default implementation only supports unbounded maps.
+   *
+   * @param name  the name of the map
+   * @param options the map options
+   * @return the map
+   * @throws UnsupportedOperationException when the implementation does not support bounded maps
+   */
+  default <K, V> LocalMap<K, V> getLocalMap(String name, LocalMapOptions options) {
+    if (options.getMaxSize() != -1) {
+      throw new UnsupportedOperationException("Bounded local maps are not supported");
+    }
+    return getLocalMap(name);
+  }
+
 }
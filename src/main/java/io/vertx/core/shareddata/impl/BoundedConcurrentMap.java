@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata.impl;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A {@link ConcurrentMap} bounded to a maximum number of entries.
+ * <p>
+ * The entries are held in a {@link ConcurrentHashMap} and read without locking. The keys are split in segments
+ * selected by the key hash, each segment keeps the access order of its keys under its own lock and evicts its least
+ * recently used entry when it exceeds its share of the capacity. The eviction order is therefore an approximation of
+ * the global LRU order that does not require a single lock. A segment holds at least {@code 64} keys, so a small map
+ * has a single segment and exactly evicts its least recently used entry.
+ * <p>
+ * Reading an entry records the access only when its segment is full, i.e when the access order decides the next
+ * eviction, otherwise a read does not lock.
+ */
+class BoundedConcurrentMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+  private static final int MAX_SEGMENTS = 16;
+  private static final int MIN_SEGMENT_CAPACITY = 64;
+
+  private final ConcurrentHashMap<K, V> map = new ConcurrentHashMap<>();
+  private final Segment<K>[] segments;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  @SuppressWarnings("unchecked")
+  BoundedConcurrentMap(int maxSize) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("maxSize must be greater than 0");
+    }
+    int num = Math.max(1, Math.min(MAX_SEGMENTS, Integer.highestOneBit(maxSize / MIN_SEGMENT_CAPACITY)));
+    segments = new Segment[num];
+    for (int i = 0; i < num; i++) {
+      // Distribute the remainder so the segment capacities add up to maxSize
+      segments[i] = new Segment<>(maxSize / num + (i < maxSize % num ? 1 : 0), map, evictions);
+    }
+  }
+
+  long hitCount() {
+    return hits.sum();
+  }
+
+  long missCount() {
+    return misses.sum();
+  }
+
+  long evictionCount() {
+    return evictions.sum();
+  }
+
+  private Segment<K> segment(Object key) {
+    int h = key.hashCode();
+    h ^= (h >>> 16);
+    return segments[h & (segments.length - 1)];
+  }
+
+  @Override
+  public V get(Object key) {
+    V value = map.get(key);
+    if (value != null) {
+      hits.increment();
+      Segment<K> segment = segment(key);
+      if (segment.full) {
+        synchronized (segment) {
+          segment.get(key);
+        }
+      }
+    } else {
+      misses.increment();
+    }
+    return value;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return map.containsKey(key);
+  }
+
+  @Override
+  public V put(K key, V value) {
+    Segment<K> segment = segment(key);
+    synchronized (segment) {
+      V prev = map.put(key, value);
+      segment.update(key);
+      return prev;
+    }
+  }
+
+  @Override
+  public V remove(Object key) {
+    Segment<K> segment = segment(key);
+    synchronized (segment) {
+      V prev = map.remove(key);
+      segment.update(key);
+      return prev;
+    }
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    Segment<K> segment = segment(key);
+    synchronized (segment) {
+      V prev = map.putIfAbsent(key, value);
+      segment.update(key);
+      return prev;
+    }
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    Segment<K> segment = segment(key);
+    synchronized (segment) {
+      boolean removed = map.remove(key, value);
+      segment.update(key);
+      return removed;
+    }
+  }
+
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    Segment<K> segment = segment(key);
+    synchronized (segment) {
+      boolean replaced = map.replace(key, oldValue, newValue);
+      segment.update(key);
+      return replaced;
+    }
+  }
+
+  @Override
+  public V replace(K key, V value) {
+    Segment<K> segment = segment(key);
+    synchronized (segment) {
+      V prev = map.replace(key, value);
+      segment.update(key);
+      return prev;
+    }
+  }
+
+  @Override
+  public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+    Segment<K> segment = segment(key);
+    synchronized (segment) {
+      V value = map.compute(key, remappingFunction);
+      segment.update(key);
+      return value;
+    }
+  }
+
+  @Override
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+    Segment<K> segment = segment(key);
+    synchronized (segment) {
+      V value = map.computeIfAbsent(key, mappingFunction);
+      segment.update(key);
+      return value;
+    }
+  }
+
+  @Override
+  public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+    Segment<K> segment = segment(key);
+    synchronized (segment) {
+      V value = map.computeIfPresent(key, remappingFunction);
+      segment.update(key);
+      return value;
+    }
+  }
+
+  @Override
+  public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+    Segment<K> segment = segment(key);
+    synchronized (segment) {
+      V merged = map.merge(key, value, remappingFunction);
+      segment.update(key);
+      return merged;
+    }
+  }
+
+  @Override
+  public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+    // Does not change the keys
+    map.replaceAll(function);
+  }
+
+  @Override
+  public int size() {
+    return map.size();
+  }
+
+  @Override
+  public void clear() {
+    for (Segment<K> segment : segments) {
+      synchronized (segment) {
+        map.keySet().removeAll(segment.keySet());
+        segment.clear();
+        segment.full = false;
+      }
+    }
+  }
+
+  /**
+   * @return a weakly consistent view of the entries, like {@link ConcurrentHashMap} the returned set iterator never
+   * throws {@link java.util.ConcurrentModificationException}
+   */
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new AbstractSet<Entry<K, V>>() {
+      @Override
+      public Iterator<Entry<K, V>> iterator() {
+        Iterator<Entry<K, V>> it = map.entrySet().iterator();
+        return new Iterator<Entry<K, V>>() {
+          Entry<K, V> last;
+          @Override
+          public boolean hasNext() {
+            return it.hasNext();
+          }
+          @Override
+          public Entry<K, V> next() {
+            return last = it.next();
+          }
+          @Override
+          public void remove() {
+            if (last == null) {
+              throw new IllegalStateException();
+            }
+            BoundedConcurrentMap.this.remove(last.getKey(), last.getValue());
+            last = null;
+          }
+        };
+      }
+      @Override
+      public int size() {
+        return BoundedConcurrentMap.this.size();
+      }
+    };
+  }
+
+  /**
+   * The access order of the keys of a segment, guarded by the segment lock.
+   */
+  private static class Segment<K> extends LinkedHashMap<K, Boolean> {
+
+    private final int capacity;
+    private final Map<K, ?> map;
+    private final LongAdder evictions;
+    private volatile boolean full;
+
+    Segment(int capacity, Map<K, ?> map, LongAdder evictions) {
+      super(16, 0.75f, true);
+      this.capacity = capacity;
+      this.map = map;
+      this.evictions = evictions;
+    }
+
+    /**
+     * Record the access to a key after an update of the map, the key is removed when the map does not contain it.
+     */
+    @SuppressWarnings("unchecked")
+    void update(Object key) {
+      if (map.containsKey(key)) {
+        put((K) key, Boolean.TRUE);
+      } else {
+        remove(key);
+      }
+      full = size() >= capacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, Boolean> eldest) {
+      if (size() > capacity) {
+        map.remove(eldest.getKey());
+        evictions.increment();
+        return true;
+      }
+      return false;
+    }
+  }
+}
@@ -25,79 +25,104 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 import static java.util.concurrent.TimeUnit.*;
 import static java.util.stream.Collectors.*;
 
 /**
+ * Local {@link AsyncMap} implementation.
+ * <p>
+ * Entries with a time-to-live are expired lazily: an expired entry is never returned and is removed when it is
+ * accessed, a periodic sweep removes the expired entries that are not accessed anymore. Unlike a timer per
+ * entry, this only requires the entry deadline to be kept.
+ *
  * @author Thomas Segismont
  */
 public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
 
+  /**
+   * The interval in ms between two sweeps of the expired entries.
+   */
+  static final long SWEEP_INTERVAL = Long.getLong("vertx.localAsyncMapSweepInterval", 1000);
+
   private final VertxInternal vertx;
+  // The sweep runs on a context that is not tied to a deployment, undeploying the verticle of the first
+  // expiring put must not cancel the sweep of a shared map
+  private final ContextInternal sweepContext;
   private final ConcurrentMap<K, Holder<V>> map;
+  private final AtomicBoolean sweepScheduled = new AtomicBoolean();
+  private final LongAdder expirations = new LongAdder();
+  private volatile boolean expiringPut;
 
   public LocalAsyncMapImpl(VertxInternal vertx) {
     this.vertx = vertx;
+    this.sweepContext = vertx.createEventLoopContext();
     map = new ConcurrentHashMap<>();
   }
 
+  /**
+   * @return the number of entries that have been removed because their time-to-live elapsed
+   */
+  public long expirations() {
+    return expirations.sum();
+  }
+
   @Override
   public Future<V> get(K k) {
     ContextInternal ctx = vertx.getOrCreateContext();
     Holder<V> h = map.get(k);
-    if (h != null && h.hasNotExpired()) {
-      return ctx.succeededFuture(h.value);
-    } else {
-      return ctx.succeededFuture();
+    if (h != null) {
+      if (h.hasNotExpired()) {
+        return ctx.succeededFuture(h.value);
+      }
+      expire(k, h);
     }
+    return ctx.succeededFuture();
   }
 
   @Override
   public Future<Void> put(K k, V v) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> previous = map.put(k, new Holder<>(v));
-    if (previous != null && previous.expires()) {
-      vertx.cancelTimer(previous.timerId);
-    }
+    map.put(k, new Holder<>(v));
     return ctx.succeededFuture();
   }
 
   @Override
   public Future<V> putIfAbsent(K k, V v) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> h = map.putIfAbsent(k, new Holder<>(v));
-    return ctx.succeededFuture(h == null ? null : h.value);
+    return ctx.succeededFuture(putIfAbsent(k, new Holder<>(v)));
   }
 
   @Override
   public Future<Void> put(K k, V v, long ttl) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    long timestamp = System.nanoTime();
-    long timerId = vertx.setTimer(ttl, l -> removeIfExpired(k));
-    Holder<V> previous = map.put(k, new Holder<>(v, timerId, ttl, timestamp));
-    if (previous != null && previous.expires()) {
-      vertx.cancelTimer(previous.timerId);
-    }
+    map.put(k, new Holder<>(v, ttl));
+    expiringPut();
     return ctx.succeededFuture();
   }
 
-  private void removeIfExpired(K k) {
-    map.computeIfPresent(k, (key, holder) -> holder.hasNotExpired() ? holder : null);
-  }
-
   @Override
   public Future<V> putIfAbsent(K k, V v, long ttl) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    long timestamp = System.nanoTime();
-    long timerId = vertx.setTimer(ttl, l -> removeIfExpired(k));
-    Holder<V> existing = map.putIfAbsent(k, new Holder<>(v, timerId, ttl, timestamp));
-    if (existing != null) {
-      vertx.cancelTimer(timerId);
-      return ctx.succeededFuture(existing.value);
-    } else {
-      return ctx.succeededFuture();
+    V existing = putIfAbsent(k, new Holder<>(v, ttl));
+    if (existing == null) {
+      expiringPut();
+    }
+    return ctx.succeededFuture(existing);
+  }
+
+  private V putIfAbsent(K k, Holder<V> h) {
+    Holder<V> existing = map.putIfAbsent(k, h);
+    while (existing != null && !existing.hasNotExpired()) {
+      if (map.replace(k, existing, h)) {
+        expirations.increment();
+        return null;
+      }
+      existing = map.putIfAbsent(k, h);
     }
+    return existing == null ? null : existing.value;
   }
 
   @Override
@@ -105,11 +130,12 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
     ContextInternal ctx = vertx.getOrCreateContext();
     AtomicBoolean result = new AtomicBoolean();
     map.computeIfPresent(k, (key, holder) -> {
+      if (!holder.hasNotExpired()) {
+        expirations.increment();
+        return null;
+      }
       if (holder.value.equals(v)) {
         result.compareAndSet(false, true);
-        if (holder.expires()) {
-          vertx.cancelTimer(holder.timerId);
-        }
         return null;
       }
       return holder;
@@ -120,70 +146,60 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
   @Override
   public Future<V> replace(K k, V v) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> previous = map.replace(k, new Holder<>(v));
-    if (previous != null) {
-      if (previous.expires()) {
-        vertx.cancelTimer(previous.timerId);
-      }
-      return ctx.succeededFuture(previous.value);
-    } else {
-      return ctx.succeededFuture();
-    }
+    return ctx.succeededFuture(replace(k, new Holder<>(v)));
   }
 
   @Override
   public Future<V> replace(K k, V v, long ttl) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    long timestamp = System.nanoTime();
-    long timerId = vertx.setTimer(ttl, l -> removeIfExpired(k));
-    Holder<V> previous = map.replace(k, new Holder<>(v, timerId, ttl, timestamp));
+    V previous = replace(k, new Holder<>(v, ttl));
     if (previous != null) {
-      if (previous.expires()) {
-        vertx.cancelTimer(previous.timerId);
-      }
-      return ctx.succeededFuture(previous.value);
-    } else {
-      return ctx.succeededFuture();
+      expiringPut();
     }
+    return ctx.succeededFuture(previous);
+  }
+
+  private V replace(K k, Holder<V> h) {
+    AtomicReference<V> previous = new AtomicReference<>();
+    map.computeIfPresent(k, (key, holder) -> {
+      if (!holder.hasNotExpired()) {
+        expirations.increment();
+        return null;
+      }
+      previous.set(holder.value);
+      return h;
+    });
+    return previous.get();
   }
 
   @Override
   public Future<Boolean> replaceIfPresent(K k, V oldValue, V newValue) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    Holder<V> h = new Holder<>(newValue);
-    Holder<V> result = map.computeIfPresent(k, (key, holder) -> {
-      if (holder.value.equals(oldValue)) {
-        if (holder.expires()) {
-          vertx.cancelTimer(holder.timerId);
-        }
-        return h;
-      }
-      return holder;
-    });
-    return ctx.succeededFuture(h == result);
+    return ctx.succeededFuture(replaceIfPresent(k, oldValue, new Holder<>(newValue)));
   }
 
   @Override
   public Future<Boolean> replaceIfPresent(K k, V oldValue, V newValue, long ttl) {
     ContextInternal ctx = vertx.getOrCreateContext();
-    long timestamp = System.nanoTime();
-    long timerId = vertx.setTimer(ttl, l -> removeIfExpired(k));
-    Holder<V> h = new Holder<>(newValue, timerId, ttl, timestamp);
+    boolean replaced = replaceIfPresent(k, oldValue, new Holder<>(newValue, ttl));
+    if (replaced) {
+      expiringPut();
+    }
+    return ctx.succeededFuture(replaced);
+  }
+
+  private boolean replaceIfPresent(K k, V oldValue, Holder<V> h) {
     Holder<V> result = map.computeIfPresent(k, (key, holder) -> {
+      if (!holder.hasNotExpired()) {
+        expirations.increment();
+        return null;
+      }
       if (holder.value.equals(oldValue)) {
-        if (holder.expires()) {
-          vertx.cancelTimer(holder.timerId);
-        }
         return h;
       }
       return holder;
     });
-    if(h == result) {
-      return ctx.succeededFuture(true);
-    } else {
-      vertx.cancelTimer(timerId);
-      return ctx.succeededFuture(false);
-    }
+    return h == result;
   }
 
   @Override
@@ -196,13 +212,25 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
   @Override
   public Future<Integer> size() {
     ContextInternal ctx = vertx.getOrCreateContext();
-    return ctx.succeededFuture(map.size());
+    int size = 0;
+    for (Holder<V> holder : map.values()) {
+      if (holder.hasNotExpired()) {
+        size++;
+      }
+    }
+    return ctx.succeededFuture(size);
   }
 
   @Override
   public Future<Set<K>> keys() {
     ContextInternal ctx = vertx.getOrCreateContext();
-    return ctx.succeededFuture(new HashSet<>(map.keySet()));
+    Set<K> result = new HashSet<>(map.size());
+    map.forEach((key, holder) -> {
+      if (holder.hasNotExpired()) {
+        result.add(key);
+      }
+    });
+    return ctx.succeededFuture(result);
   }
 
   @Override
@@ -232,49 +260,92 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
     ContextInternal ctx = vertx.getOrCreateContext();
     Holder<V> previous = map.remove(k);
     if (previous != null) {
-      if (previous.expires()) {
-        vertx.cancelTimer(previous.timerId);
+      if (previous.hasNotExpired()) {
+        return ctx.succeededFuture(previous.value);
+      }
+      expirations.increment();
+    }
+    return ctx.succeededFuture();
+  }
+
+  private void expire(K k, Holder<V> h) {
+    if (map.remove(k, h)) {
+      expirations.increment();
+    }
+  }
+
+  private void expiringPut() {
+    expiringPut = true;
+    if (sweepScheduled.compareAndSet(false, true)) {
+      sweepContext.setTimer(SWEEP_INTERVAL, id -> {
+        sweepContext.<Boolean>executeBlockingInternal(promise -> promise.complete(sweep()), ar -> {
+          sweepScheduled.set(false);
+          // Keep on sweeping while the map contains entries that expire
+          if ((ar.succeeded() && ar.result()) || expiringPut) {
+            expiringPut();
+          }
+        });
+      });
+    }
+  }
+
+  /**
+   * Remove the expired entries.
+   *
+   * @return whether the map still contains entries that expire
+   */
+  private boolean sweep() {
+    expiringPut = false;
+    long now = System.nanoTime();
+    boolean remaining = false;
+    for (Map.Entry<K, Holder<V>> entry : map.entrySet()) {
+      Holder<V> holder = entry.getValue();
+      if (holder.expires()) {
+        if (holder.hasExpired(now)) {
+          expire(entry.getKey(), holder);
+        } else {
+          remaining = true;
+        }
       }
-      return ctx.succeededFuture(previous.value);
-    } else {
-      return ctx.succeededFuture();
     }
+    return remaining || expiringPut;
   }
 
   private static class Holder<V> {
     final V value;
-    final long timerId;
-    final long ttl;
-    final long timestamp;
+    final long deadline;
 
     Holder(V value) {
       Objects.requireNonNull(value);
       this.value = value;
-      timestamp = ttl = timerId = 0;
+      this.deadline = 0;
     }
 
-    Holder(V value, long timerId, long ttl, long timestamp) {
+    Holder(V value, long ttl) {
       Objects.requireNonNull(value);
       if (ttl < 1) {
         throw new IllegalArgumentException("ttl must be positive: " + ttl);
       }
       this.value = value;
-      this.timerId = timerId;
-      this.ttl = ttl;
-      this.timestamp = timestamp;
+      // Never 0
+      this.deadline = (System.nanoTime() + MILLISECONDS.toNanos(ttl)) | 1;
     }
 
     boolean expires() {
-      return ttl > 0;
+      return deadline != 0;
+    }
+
+    boolean hasExpired(long now) {
+      return now - deadline >= 0;
     }
 
     boolean hasNotExpired() {
-      return !expires() || MILLISECONDS.convert(System.nanoTime() - timestamp, NANOSECONDS) < ttl;
+      return !expires() || !hasExpired(System.nanoTime());
     }
 
     @Override
     public String toString() {
-      return "Holder{" + "value=" + value + ", timerId=" + timerId + ", ttl=" + ttl + ", timestamp=" + timestamp + '}';
+      return "Holder{" + "value=" + value + ", deadline=" + deadline + '}';
     }
   }
 }
@@ -30,11 +30,21 @@ class LocalMapImpl<K, V> implements LocalMap<K, V> {
 
   private final ConcurrentMap<String, LocalMap<?, ?>> maps;
   private final String name;
-  private final ConcurrentMap<K, V> map = new ConcurrentHashMap<>();
+  private final ConcurrentMap<K, V> map;
+  private final BoundedConcurrentMap<K, V> bounded;
 
   LocalMapImpl(String name, ConcurrentMap<String, LocalMap<?, ?>> maps) {
     this.name = name;
     this.maps = maps;
+    this.map = new ConcurrentHashMap<>();
+    this.bounded = null;
+  }
+
+  LocalMapImpl(String name, ConcurrentMap<String, LocalMap<?, ?>> maps, BoundedConcurrentMap<K, V> map) {
+    this.name = name;
+    this.maps = maps;
+    this.map = map;
+    this.bounded = map;
   }
 
   @Override
@@ -124,6 +134,21 @@ class LocalMapImpl<K, V> implements LocalMap<K, V> {
     maps.remove(name);
   }
 
+  @Override
+  public long hitCount() {
+    return bounded != null ? bounded.hitCount() : 0L;
+  }
+
+  @Override
+  public long missCount() {
+    return bounded != null ? bounded.missCount() : 0L;
+  }
+
+  @Override
+  public long evictionCount() {
+    return bounded != null ? bounded.evictionCount() : 0L;
+  }
+
   @Override
   public Set<K> keySet() {
     Set<K> keys = new HashSet<>(map.size());
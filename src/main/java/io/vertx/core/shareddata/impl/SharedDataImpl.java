@@ -164,6 +164,19 @@ public class SharedDataImpl implements SharedData {
     return (LocalMap<K, V>) localMaps.computeIfAbsent(name, n -> new LocalMapImpl<>(n, localMaps));
   }
 
+  @SuppressWarnings("unchecked")
+  @Override
+  public <K, V> LocalMap<K, V> getLocalMap(String name, LocalMapOptions options) {
+    Objects.requireNonNull(options, "options");
+    return (LocalMap<K, V>) localMaps.computeIfAbsent(name, n -> {
+      if (options.getMaxSize() == -1) {
+        return new LocalMapImpl<>(n, localMaps);
+      } else {
+        return new LocalMapImpl<>(n, localMaps, new BoundedConcurrentMap<>(options.getMaxSize()));
+      }
+    });
+  }
+
   @Override
   public <K, V> void getLocalAsyncMap(String name, Handler<AsyncResult<AsyncMap<K, V>>> resultHandler) {
     Objects.requireNonNull(resultHandler, "resultHandler");
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.spi.context;
+
+import io.vertx.core.Context;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.ContextLocalImpl;
+
+/**
+ * A key of the local storage of a context, an alternative to the local context data map of a context.
+ *
+ * <p> Each registered key is assigned an index in an array of values allocated lazily by each context, storing and
+ * retrieving a value is an array access instead of a map operation. Keys are meant to be registered once, typically
+ * in a static field, by integrations creating a duplicated context per request, e.g. a {@link io.vertx.core.spi.tracing.VertxTracer}
+ * or a {@link io.vertx.core.spi.metrics.VertxMetrics} implementation, or by user code.
+ *
+ * <p> Like the local context data, the values are stored by the context they are put in, a duplicated context does
+ * not see the values of the context it duplicates.
+ *
+ * @param <T> the type of the values
+ */
+public interface ContextLocal<T> {
+
+  /**
+   * Register a new context local key.
+   *
+   * <p> A key is never released, the number of keys is limited to {@code 1024}: keys must be registered once and
+   * not per context or per request.
+   *
+   * @param type the type of the values
+   * @return the key
+   * @throws IllegalStateException when the maximum number of keys has been registered
+   */
+  static <T> ContextLocal<T> registerLocal(Class<T> type) {
+    return new ContextLocalImpl<>(type);
+  }
+
+  /**
+   * Get the value of this key in the local storage of a context.
+   *
+   * @param context the context
+   * @return the value or {@code null} when there is none
+   */
+  default T get(Context context) {
+    return ((ContextInternal) context).getLocal(this);
+  }
+
+  /**
+   * Put a value for this key in the local storage of a context.
+   *
+   * @param context the context
+   * @param value the value, {@code null} removes the value
+   */
+  default void put(Context context, T value) {
+    ((ContextInternal) context).putLocal(this, value);
+  }
+
+  /**
+   * Remove the value of this key from the local storage of a context.
+   *
+   * @param context the context
+   */
+  default void remove(Context context) {
+    ((ContextInternal) context).putLocal(this, null);
+  }
+}
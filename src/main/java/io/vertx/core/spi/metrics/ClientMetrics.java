@@ -97,4 +97,13 @@ public interface ClientMetrics<M, T, Req, Resp> extends Metrics {
    */
   default void responseEnd(M requestMetric, long bytesRead) {
   }
+
+  /**
+   * Called when a pooled connection bound to an event loop has been leased.
+   *
+   * @param local whether the connection is bound to the event loop of the borrower, otherwise the connection
+   *              events are handled by another thread
+   */
+  default void connectionLeased(boolean local) {
+  }
 }
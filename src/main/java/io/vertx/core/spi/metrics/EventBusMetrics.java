@@ -100,6 +100,18 @@ public interface EventBusMetrics<H> extends Metrics {
   default void messageReceived(String address, boolean publish, boolean local, int handlers) {
   }
 
+  /**
+   * Called when a consumer has been selected to handle a message sent point-to-point.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param address the address
+   * @param sameEventLoop true when the consumer is registered on the event loop delivering the message, false when the
+   *                      message hops to another thread
+   */
+  default void consumerSelected(String address, boolean sameEventLoop) {
+  }
+
   /**
    * A message has been sent over the network.<p/>
    *
@@ -111,6 +123,19 @@ public interface EventBusMetrics<H> extends Metrics {
   default void messageWritten(String address, int numberOfBytes) {
   }
 
+  /**
+   * A batch of messages has been written to a cluster connection, only called when
+   * {@link io.vertx.core.eventbus.EventBusOptions#isClusterWriteBatching() write batching} is enabled.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param nodeId the identifier of the remote node the batch was written to
+   * @param numberOfMessages the number of messages in the batch
+   * @param numberOfBytes the number of bytes written
+   */
+  default void batchWritten(String nodeId, int numberOfMessages, int numberOfBytes) {
+  }
+
   /**
    * A message has been received from the network.<p/>
    *
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.spi.metrics;
+
+/**
+ * An SPI used internally by Vert.x to gather metrics on the file system.
+ */
+public interface FileSystemMetrics extends Metrics {
+
+  /**
+   * A region of a file has been memory mapped by an {@link io.vertx.core.file.AsyncFile}.
+   *
+   * @param bytes the size of the mapped region
+   */
+  default void mapped(long bytes) {
+  }
+
+  /**
+   * A region of a file previously reported by {@link #mapped(long)} has been released by the
+   * {@link io.vertx.core.file.AsyncFile} that mapped it. A region still referenced by a buffer emitted by the file
+   * is not released by the file, it is released when the garbage collector reclaims it and is not reported.
+   *
+   * @param bytes the size of the released region
+   */
+  default void unmapped(long bytes) {
+  }
+}
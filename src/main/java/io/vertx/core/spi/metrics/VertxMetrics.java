@@ -21,6 +21,8 @@ import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.metrics.Measured;
 import io.vertx.core.net.*;
 
+import java.util.function.LongSupplier;
+
 /**
  * The main Vert.x metrics SPI which Vert.x will use internally. This interface serves two purposes, one
  * to be called by Vert.x itself for events like verticles deployed, timers created, etc. The other
@@ -142,6 +144,30 @@ public interface VertxMetrics extends Metrics, Measured {
     return null;
   }
 
+  /**
+   * Provides the file system metrics SPI when the Vertx instance is created.<p/>
+   * <p>
+   * No specific thread and context can be expected when this method is called.<p/>
+   * <p>
+   * This method should be called only once.
+   *
+   * @return the file system metrics SPI or {@code null} when metrics are disabled
+   */
+  default FileSystemMetrics createFileSystemMetrics() {
+    return null;
+  }
+
+  /**
+   * Provides the gauge of the number of timers currently scheduled by the Vertx instance, the gauge can be
+   * sampled from any thread.<p/>
+   * <p>
+   * This method should be called only once.
+   *
+   * @param timers the gauge of scheduled timers
+   */
+  default void timerGauge(LongSupplier timers) {
+  }
+
   /**
    * Callback to signal when the Vertx instance is fully initialized. Other methods can be called before this method
    * when the instance is being constructed.
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.OpenOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sequential read and write throughput of {@link AsyncFile} with the default, adaptive and memory mapped I/O modes.
+ */
+@State(Scope.Thread)
+public class AsyncFileBenchmark extends BenchmarkBase {
+
+  @Param({"DEFAULT", "ADAPTIVE", "MEMORY_MAPPED"})
+  public String mode;
+
+  @Param({"1048576", "16777216"})
+  public int size;
+
+  @Param({"1024", "8192", "65536"})
+  public int chunkSize;
+
+  private Vertx vertx;
+  private File readFile;
+  private File writeFile;
+  private Buffer chunk;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    readFile = File.createTempFile("vertx", ".bin");
+    readFile.deleteOnExit();
+    try (RandomAccessFile raf = new RandomAccessFile(readFile, "rw")) {
+      raf.setLength(size);
+    }
+    writeFile = File.createTempFile("vertx", ".bin");
+    writeFile.deleteOnExit();
+    chunk = Buffer.buffer(new byte[chunkSize]);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    vertx.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+    readFile.delete();
+    writeFile.delete();
+  }
+
+  private OpenOptions options() {
+    return new OpenOptions()
+      .setAdaptiveIo(mode.equals("ADAPTIVE"))
+      .setMemoryMapped(mode.equals("MEMORY_MAPPED"));
+  }
+
+  @Benchmark
+  public long read() throws Exception {
+    CompletableFuture<Long> fut = new CompletableFuture<>();
+    vertx.fileSystem().open(readFile.getAbsolutePath(), options().setWrite(false), ar -> {
+      if (ar.failed()) {
+        fut.completeExceptionally(ar.cause());
+        return;
+      }
+      AsyncFile file = ar.result();
+      long[] count = { 0 };
+      file.setReadBufferSize(chunkSize);
+      file.handler(buff -> count[0] += buff.length());
+      file.exceptionHandler(fut::completeExceptionally);
+      file.endHandler(v -> file.close(ar2 -> fut.complete(count[0])));
+    });
+    return fut.get(20, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public void write() throws Exception {
+    CompletableFuture<Void> fut = new CompletableFuture<>();
+    vertx.fileSystem().open(writeFile.getAbsolutePath(), options().setTruncateExisting(true), ar -> {
+      if (ar.failed()) {
+        fut.completeExceptionally(ar.cause());
+        return;
+      }
+      AsyncFile file = ar.result();
+      file.exceptionHandler(fut::completeExceptionally);
+      writeChunks(file, size / chunkSize, fut);
+    });
+    fut.get(20, TimeUnit.SECONDS);
+  }
+
+  private void writeChunks(AsyncFile file, int remaining, CompletableFuture<Void> fut) {
+    while (remaining > 0 && !file.writeQueueFull()) {
+      file.write(chunk);
+      remaining--;
+    }
+    if (remaining > 0) {
+      int r = remaining;
+      file.drainHandler(v -> writeChunks(file, r, fut));
+    } else {
+      file.close(ar -> fut.complete(null));
+    }
+  }
+}
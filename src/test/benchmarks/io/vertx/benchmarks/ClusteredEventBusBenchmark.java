@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.test.fakecluster.FakeClusterManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sends a burst of messages to a consumer located on another node of a {@link FakeClusterManager} cluster,
+ * with and without cluster connection write batching.
+ */
+@State(Scope.Thread)
+public class ClusteredEventBusBenchmark extends BenchmarkBase {
+
+  private static final String ADDRESS = "the-address";
+
+  @Param({"false", "true"})
+  public boolean batching;
+
+  @Param({"100"})
+  public int burst;
+
+  private Vertx receiver;
+  private Vertx sender;
+  private EventBus eventBus;
+  private final AtomicReference<CountDownLatch> latch = new AtomicReference<>();
+
+  @Setup
+  public void setup() throws Exception {
+    receiver = startNode();
+    sender = startNode();
+    CompletableFuture<Void> registered = new CompletableFuture<>();
+    receiver.eventBus().consumer(ADDRESS, msg -> latch.get().countDown()).completionHandler(ar -> registered.complete(null));
+    registered.get(20, TimeUnit.SECONDS);
+    eventBus = sender.eventBus();
+  }
+
+  private Vertx startNode() throws Exception {
+    VertxOptions options = new VertxOptions().setClusterManager(new FakeClusterManager());
+    options.getEventBusOptions().setClusterWriteBatching(batching);
+    CompletableFuture<Vertx> fut = new CompletableFuture<>();
+    Vertx.clusteredVertx(options, ar -> {
+      if (ar.succeeded()) {
+        fut.complete(ar.result());
+      } else {
+        fut.completeExceptionally(ar.cause());
+      }
+    });
+    return fut.get(20, TimeUnit.SECONDS);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    sender.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+    receiver.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+    FakeClusterManager.reset();
+  }
+
+  @Benchmark
+  public void sendBurst() throws Exception {
+    CountDownLatch l = new CountDownLatch(burst);
+    latch.set(l);
+    sender.runOnContext(v -> {
+      for (int i = 0; i < burst; i++) {
+        eventBus.send(ADDRESS, "the-message");
+      }
+    });
+    l.await(20, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.impl.BenchmarkEventLoopContext;
+import io.vertx.core.impl.EventLoopContext;
+import io.vertx.core.net.impl.pool.ConnectResult;
+import io.vertx.core.net.impl.pool.ConnectionPool;
+import io.vertx.core.net.impl.pool.Lease;
+import io.vertx.core.net.impl.pool.PoolConnection;
+import io.vertx.core.net.impl.pool.PoolConnector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Measures acquiring and recycling a connection of a {@link ConnectionPool} from several threads, each thread
+ * using its own context, like event loops sharing a pool to the same server.
+ *
+ * <p>With the default selector, the connection is leased with the lock-free fast path, otherwise every action
+ * is serialized by the {@link io.vertx.core.net.impl.pool.CombinerExecutor} measured by {@link CombinerExecutorBenchmark}.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 20, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 200, timeUnit = MILLISECONDS)
+@Threads(4)
+public class ConnectionPoolBenchmark extends BenchmarkBase {
+
+  @State(Scope.Thread)
+  public static class ThreadState {
+
+    EventLoopContext context;
+    Handler<AsyncResult<Lease<Object>>> handler;
+
+    @Setup
+    public void setup(ConnectionPoolBenchmark benchmark) throws Exception {
+      context = BenchmarkEventLoopContext.create(benchmark.vertx);
+      handler = ar -> ar.result().recycle();
+      // Create the connection of this context
+      CompletableFuture<Lease<Object>> latch = new CompletableFuture<>();
+      benchmark.pool.acquire(context, 0, ar -> latch.complete(ar.result()));
+      latch.get(20, TimeUnit.SECONDS).recycle();
+    }
+  }
+
+  @Param({"true", "false"})
+  public boolean defaultSelector;
+
+  private Vertx vertx;
+  private ConnectionPool<Object> pool;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx(new VertxOptions().setEventLoopPoolSize(4));
+    PoolConnector<Object> connector = new PoolConnector<Object>() {
+      @Override
+      public void connect(EventLoopContext context, Listener listener, Handler<AsyncResult<ConnectResult<Object>>> handler) {
+        handler.handle(Future.succeededFuture(new ConnectResult<>(new Object(), 1, 0)));
+      }
+      @Override
+      public boolean isValid(Object connection) {
+        return true;
+      }
+    };
+    pool = ConnectionPool.pool(connector, new int[] { 64 });
+    if (!defaultSelector) {
+      pool.connectionSelector((waiter, list) -> {
+        for (PoolConnection<Object> connection : list) {
+          if (connection.context() == waiter.context() && connection.concurrency() > 0) {
+            return connection;
+          }
+        }
+        return null;
+      });
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close();
+  }
+
+  @Benchmark
+  public void acquireRecycle(ThreadState state) {
+    pool.acquire(state.context, 0, state.handler);
+  }
+}
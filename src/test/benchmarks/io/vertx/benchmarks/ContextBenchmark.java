@@ -14,6 +14,8 @@ package io.vertx.benchmarks;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.impl.BenchmarkContext;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.spi.context.ContextLocal;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.CompilerControl;
 import org.openjdk.jmh.annotations.Fork;
@@ -57,4 +59,32 @@ public class ContextBenchmark extends BenchmarkBase {
     state.context.runOnContext(state.task);
   }
 
+  private static final ContextLocal<String> TRACE_ID = ContextLocal.registerLocal(String.class);
+  private static final ContextLocal<String> SPAN_ID = ContextLocal.registerLocal(String.class);
+
+  /**
+   * Duplicate a context and store a couple of values in the local context data, like a tracer does per request.
+   */
+  @Benchmark
+  public Object duplicateWithLocalContextData(BaselineState state) {
+    ContextInternal duplicate = state.context.duplicate();
+    duplicate.putLocal("trace-id", "the-trace-id");
+    duplicate.putLocal("span-id", "the-span-id");
+    consume(duplicate.getLocal("trace-id"));
+    consume(duplicate.getLocal("span-id"));
+    return duplicate;
+  }
+
+  /**
+   * Duplicate a context and store a couple of values with context local keys.
+   */
+  @Benchmark
+  public Object duplicateWithContextLocal(BaselineState state) {
+    ContextInternal duplicate = state.context.duplicate();
+    TRACE_ID.put(duplicate, "the-trace-id");
+    SPAN_ID.put(duplicate, "the-span-id");
+    consume(TRACE_ID.get(duplicate));
+    consume(SPAN_ID.get(duplicate));
+    return duplicate;
+  }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Publishes a 20 KB message to local subscribers, the mutable bodies are copied for each subscriber while
+ * the frozen and read-only bodies are shared.
+ */
+@State(Scope.Thread)
+public class EventBusPublishBenchmark extends BenchmarkBase {
+
+  private static final String ADDRESS = "the-address";
+
+  @Param({"json-object", "frozen-json-object", "buffer", "read-only-buffer"})
+  public String type;
+
+  @Param({"1", "20", "200"})
+  public int subscribers;
+
+  private Vertx vertx;
+  private EventBus eventBus;
+  private Object body;
+  private final AtomicReference<CountDownLatch> latch = new AtomicReference<>();
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    eventBus = vertx.eventBus();
+    JsonObject snapshot = new JsonObject();
+    for (int i = 0; i < 200; i++) {
+      snapshot.put("entry-" + i, new JsonObject()
+        .put("id", i)
+        .put("name", "the-name-" + i)
+        .put("values", new JsonArray().add(i).add(i * 2).add(i * 3)));
+    }
+    switch (type) {
+      case "json-object":
+        body = snapshot;
+        break;
+      case "frozen-json-object":
+        body = snapshot.freeze();
+        break;
+      case "buffer":
+        body = snapshot.toBuffer();
+        break;
+      case "read-only-buffer":
+        body = snapshot.toBuffer().asReadOnly();
+        break;
+      default:
+        throw new IllegalArgumentException();
+    }
+    CountDownLatch registered = new CountDownLatch(subscribers);
+    for (int i = 0; i < subscribers; i++) {
+      eventBus.consumer(ADDRESS, msg -> latch.get().countDown()).completionHandler(ar -> registered.countDown());
+    }
+    registered.await(20, TimeUnit.SECONDS);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    vertx.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public void publish() throws Exception {
+    CountDownLatch l = new CountDownLatch(subscribers);
+    latch.set(l);
+    eventBus.publish(ADDRESS, body);
+    l.await(20, TimeUnit.SECONDS);
+  }
+}
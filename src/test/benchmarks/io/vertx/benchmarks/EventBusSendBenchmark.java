@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.eventbus.impl.CodecManager;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the cost of sending a message on the event bus for the different kinds of body.
+ */
+@State(Scope.Thread)
+public class EventBusSendBenchmark extends BenchmarkBase {
+
+  public static class Pojo {
+  }
+
+  public static class PojoCodec implements MessageCodec<Pojo, Pojo> {
+    @Override
+    public void encodeToWire(Buffer buffer, Pojo pojo) {
+    }
+    @Override
+    public Pojo decodeFromWire(int pos, Buffer buffer) {
+      return new Pojo();
+    }
+    @Override
+    public Pojo transform(Pojo pojo) {
+      return pojo;
+    }
+    @Override
+    public String name() {
+      return "pojo";
+    }
+    @Override
+    public byte systemCodecID() {
+      return -1;
+    }
+  }
+
+  @Param({"string", "buffer", "json-object", "json-array", "long", "boolean", "pojo"})
+  public String type;
+
+  private Vertx vertx;
+  private EventBus eventBus;
+  private CodecManager codecManager;
+  private Object body;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx();
+    eventBus = vertx.eventBus();
+    eventBus.registerDefaultCodec(Pojo.class, new PojoCodec());
+    codecManager = new CodecManager();
+    codecManager.registerDefaultCodec(Pojo.class, new PojoCodec());
+    switch (type) {
+      case "string":
+        body = "the-body";
+        break;
+      case "buffer":
+        body = Buffer.buffer("the-body");
+        break;
+      case "json-object":
+        body = new JsonObject().put("the-key", "the-value");
+        break;
+      case "json-array":
+        body = new JsonArray().add("the-value");
+        break;
+      case "long":
+        body = 4L;
+        break;
+      case "boolean":
+        body = true;
+        break;
+      case "pojo":
+        body = new Pojo();
+        break;
+      default:
+        throw new IllegalArgumentException();
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close();
+  }
+
+  @Benchmark
+  public MessageCodec lookupCodec() {
+    return codecManager.lookupCodec(body, null);
+  }
+
+  @Benchmark
+  public void send() {
+    // No consumer registered, this measures the send path up to the handler lookup
+    eventBus.send("the-address", body);
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileSystem;
+import io.vertx.core.file.FileSystemBatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Reads the properties and the content of the files of a directory with one blocking task per operation
+ * versus a single {@link FileSystemBatch}.
+ */
+@State(Scope.Thread)
+public class FileSystemBenchmark extends BenchmarkBase {
+
+  @Param({"10", "1000"})
+  public int files;
+
+  private Vertx vertx;
+  private Path dir;
+  private List<String> paths;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    dir = Files.createTempDirectory("vertx");
+    paths = new ArrayList<>();
+    for (int i = 0; i < files; i++) {
+      Path file = dir.resolve("template-" + i + ".html");
+      Files.write(file, new byte[512]);
+      paths.add(file.toString());
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    vertx.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+    try (Stream<Path> stream = Files.walk(dir)) {
+      stream.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  @Benchmark
+  public Object props() throws Exception {
+    return run(() -> {
+      FileSystem fs = vertx.fileSystem();
+      List<Future> futures = new ArrayList<>();
+      for (String path : paths) {
+        futures.add(fs.props(path));
+      }
+      return CompositeFuture.all(futures);
+    });
+  }
+
+  @Benchmark
+  public Object batchProps() throws Exception {
+    return run(() -> {
+      FileSystemBatch batch = vertx.fileSystem().batch();
+      for (String path : paths) {
+        batch.props(path);
+      }
+      return batch.submit();
+    });
+  }
+
+  @Benchmark
+  public Object readFile() throws Exception {
+    return run(() -> {
+      FileSystem fs = vertx.fileSystem();
+      List<Future> futures = new ArrayList<>();
+      for (String path : paths) {
+        futures.add(fs.readFile(path));
+      }
+      return CompositeFuture.all(futures);
+    });
+  }
+
+  @Benchmark
+  public Object batchReadFile() throws Exception {
+    return run(() -> {
+      FileSystemBatch batch = vertx.fileSystem().batch();
+      List<Future<Buffer>> futures = new ArrayList<>();
+      for (String path : paths) {
+        futures.add(batch.readFile(path));
+      }
+      return batch.submit().map(futures);
+    });
+  }
+
+  private Object run(Supplier<Future<?>> task) throws Exception {
+    CompletableFuture<Object> fut = new CompletableFuture<>();
+    vertx.runOnContext(v -> task.get().onComplete(ar -> {
+      if (ar.succeeded()) {
+        fut.complete(ar.result());
+      } else {
+        fut.completeExceptionally(ar.cause());
+      }
+    }));
+    return fut.get(20, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.impl.future.PromiseImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.function.Function;
+
+/**
+ * Measures the creation and completion of futures, with listeners and compose chains, completed on the thread
+ * that created them or on another thread.
+ */
+@State(Scope.Thread)
+public class FutureBenchmark extends BenchmarkBase {
+
+  private static final String RESULT = "the-result";
+
+  private static final Handler<AsyncResult<String>> HANDLER = ar -> {};
+  private static final Function<String, Future<String>> COMPOSE = s -> Future.succeededFuture(s);
+  private static final Function<String, String> MAP = s -> s;
+
+  @Benchmark
+  public Object createAndComplete() {
+    PromiseImpl<String> promise = new PromiseImpl<>();
+    promise.complete(RESULT);
+    return promise.result();
+  }
+
+  @Benchmark
+  public Object completeWithListener() {
+    PromiseImpl<String> promise = new PromiseImpl<>();
+    promise.onComplete(HANDLER);
+    promise.complete(RESULT);
+    return promise.result();
+  }
+
+  @Benchmark
+  public Object completeWithListeners() {
+    PromiseImpl<String> promise = new PromiseImpl<>();
+    promise.onComplete(HANDLER);
+    promise.onComplete(HANDLER);
+    promise.onComplete(HANDLER);
+    promise.complete(RESULT);
+    return promise.result();
+  }
+
+  @Benchmark
+  public Object completedWithListener() {
+    PromiseImpl<String> promise = new PromiseImpl<>();
+    promise.complete(RESULT);
+    promise.onComplete(HANDLER);
+    return promise.result();
+  }
+
+  @Benchmark
+  public Object composeChain() {
+    PromiseImpl<String> promise = new PromiseImpl<>();
+    Future<String> fut = promise
+      .compose(COMPOSE)
+      .map(MAP)
+      .compose(COMPOSE)
+      .map(MAP);
+    promise.complete(RESULT);
+    return fut.result();
+  }
+
+  /**
+   * A promise shared by a thread listening and polling it and a thread completing it.
+   */
+  @State(Scope.Group)
+  public static class SharedPromise {
+    volatile PromiseImpl<String> promise = new PromiseImpl<>();
+  }
+
+  @Benchmark
+  @Group("crossThread")
+  @GroupThreads(1)
+  public void crossThreadListen(SharedPromise shared, Blackhole bh) {
+    PromiseImpl<String> promise = shared.promise;
+    promise.onComplete(HANDLER);
+    bh.consume(promise.isComplete());
+    bh.consume(promise.result());
+  }
+
+  @Benchmark
+  @Group("crossThread")
+  @GroupThreads(1)
+  public void crossThreadComplete(SharedPromise shared) {
+    PromiseImpl<String> promise = shared.promise;
+    promise.complete(RESULT);
+    shared.promise = new PromiseImpl<>();
+  }
+}
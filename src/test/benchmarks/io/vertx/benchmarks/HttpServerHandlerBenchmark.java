@@ -235,6 +235,7 @@ public class HttpServerHandlerBenchmark extends BenchmarkBase {
         chctx,
         context,
         "localhost",
+        null,
         null);
       conn.handler(app);
       return conn;
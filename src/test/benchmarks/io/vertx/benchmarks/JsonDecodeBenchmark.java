@@ -15,6 +15,7 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.json.jackson.DatabindCodec;
 import io.vertx.core.json.jackson.JacksonCodec;
+import io.vertx.core.parsetools.JsonParser;
 import io.vertx.core.spi.json.JsonCodec;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
@@ -23,6 +24,7 @@ import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -38,6 +40,9 @@ public class JsonDecodeBenchmark extends BenchmarkBase {
   private String smallString;
   private String wideString;
   private String deepString;
+  private String[] smallFields;
+  private String[] wideFields;
+  private String[] deepFields;
   private JsonCodec jacksonCodec;
   private JsonCodec databindCodec;
 
@@ -49,10 +54,18 @@ public class JsonDecodeBenchmark extends BenchmarkBase {
     smallString = small.toString();
     wideString = wide.toString();
     deepString = deep.toString();
+    smallFields = firstAndLastFields(small);
+    wideFields = firstAndLastFields(wide);
+    deepFields = firstAndLastFields(deep);
     jacksonCodec = new JacksonCodec();
     databindCodec = new DatabindCodec();
   }
 
+  private String[] firstAndLastFields(Buffer buffer) {
+    String[] names = new JsonObject(buffer).fieldNames().toArray(new String[0]);
+    return new String[] { names[0], names[names.length - 1] };
+  }
+
   private Buffer loadJsonAsBuffer(String filename) {
     ClassLoader classLoader = getClass().getClassLoader();
     try (InputStream file = classLoader.getResourceAsStream(filename)) {
@@ -141,4 +154,65 @@ public class JsonDecodeBenchmark extends BenchmarkBase {
   private void bufferDatabind(Buffer buffer, Blackhole blackhole) throws Exception {
     blackhole.consume(jacksonCodec.fromBuffer(buffer, JsonObject.class));
   }
+
+  @Benchmark
+  public void smallBufferParser(Blackhole blackhole) {
+    bufferParser(small, blackhole);
+  }
+
+  @Benchmark
+  public void wideBufferParser(Blackhole blackhole) {
+    bufferParser(wide, blackhole);
+  }
+
+  @Benchmark
+  public void deepBufferParser(Blackhole blackhole) {
+    bufferParser(deep, blackhole);
+  }
+
+  @Benchmark
+  public void wideBufferParserDatabind(Blackhole blackhole) {
+    JsonParser parser = JsonParser.newParser().objectValueMode(Map.class);
+    parser.handler(event -> blackhole.consume(event.value()));
+    parser.handle(wide);
+    parser.end();
+  }
+
+  private void bufferParser(Buffer buffer, Blackhole blackhole) {
+    JsonParser parser = JsonParser.newParser().objectValueMode();
+    parser.handler(event -> blackhole.consume(event.value()));
+    parser.handle(buffer);
+    parser.end();
+  }
+
+  @Benchmark
+  public void smallBufferLazy(Blackhole blackhole) {
+    bufferLazy(small, smallFields, blackhole);
+  }
+
+  @Benchmark
+  public void wideBufferLazy(Blackhole blackhole) {
+    bufferLazy(wide, wideFields, blackhole);
+  }
+
+  @Benchmark
+  public void deepBufferLazy(Blackhole blackhole) {
+    bufferLazy(deep, deepFields, blackhole);
+  }
+
+  @Benchmark
+  public void wideBufferEagerFields(Blackhole blackhole) {
+    // Baseline of bufferLazy
+    JsonObject json = new JsonObject(wide);
+    for (String field : wideFields) {
+      blackhole.consume(json.getValue(field));
+    }
+  }
+
+  private void bufferLazy(Buffer buffer, String[] fields, Blackhole blackhole) {
+    JsonObject json = JsonObject.lazy(buffer);
+    for (String field : fields) {
+      blackhole.consume(json.getValue(field));
+    }
+  }
 }
@@ -34,6 +34,9 @@ public class JsonEncodeBenchmark extends BenchmarkBase {
   private JsonObject small;
   private JsonObject wide;
   private JsonObject deep;
+  private JsonObject smallLazy;
+  private JsonObject wideLazy;
+  private JsonObject deepLazy;
   private JsonCodec jacksonCodec;
   private JsonCodec databindCodec;
 
@@ -43,6 +46,9 @@ public class JsonEncodeBenchmark extends BenchmarkBase {
     small = loadJson(classLoader.getResource("small_bench.json"));
     wide = loadJson(classLoader.getResource("wide_bench.json"));
     deep = loadJson(classLoader.getResource("deep_bench.json"));
+    smallLazy = JsonObject.lazy(small.toBuffer());
+    wideLazy = JsonObject.lazy(wide.toBuffer());
+    deepLazy = JsonObject.lazy(deep.toBuffer());
     jacksonCodec = new JacksonCodec();
     databindCodec = new DatabindCodec();
   }
@@ -130,4 +136,31 @@ public class JsonEncodeBenchmark extends BenchmarkBase {
   private void bufferDatabind(JsonObject jsonObject, Blackhole blackhole) throws Exception {
     blackhole.consume(jacksonCodec.toBuffer(jsonObject));
   }
+
+  @Benchmark
+  public void smallBufferLazy(Blackhole blackhole) throws Exception {
+    bufferLazy(smallLazy, blackhole);
+  }
+
+  @Benchmark
+  public void wideBufferLazy(Blackhole blackhole) throws Exception {
+    bufferLazy(wideLazy, blackhole);
+  }
+
+  @Benchmark
+  public void deepBufferLazy(Blackhole blackhole) throws Exception {
+    bufferLazy(deepLazy, blackhole);
+  }
+
+  @Benchmark
+  public void wideBufferLazyNested(Blackhole blackhole) throws Exception {
+    // Encodes the untouched lazy values of a modified object as is
+    JsonObject copy = JsonObject.lazy(wideLazy.toBuffer());
+    copy.put("modified", true);
+    blackhole.consume(copy.toBuffer());
+  }
+
+  private void bufferLazy(JsonObject jsonObject, Blackhole blackhole) throws Exception {
+    blackhole.consume(jsonObject.toBuffer());
+  }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.shareddata.impl.LocalAsyncMapImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Compares the cost of putting entries with a time-to-live in a {@link LocalAsyncMapImpl} with the former
+ * timer-per-entry approach. Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Thread)
+public class LocalAsyncMapBenchmark extends BenchmarkBase {
+
+  private static class TimedEntry {
+    final String value;
+    final long timerId;
+    TimedEntry(String value, long timerId) {
+      this.value = value;
+      this.timerId = timerId;
+    }
+  }
+
+  @Param({"1000", "100000"})
+  public int keys;
+
+  @Param({"10000"})
+  public long ttl;
+
+  private VertxInternal vertx;
+  private LocalAsyncMapImpl<String, String> map;
+  private ConcurrentMap<String, TimedEntry> timedMap;
+  private String[] keyArray;
+  private int index;
+
+  @Setup
+  public void setup() {
+    vertx = (VertxInternal) Vertx.vertx();
+    map = new LocalAsyncMapImpl<>(vertx);
+    timedMap = new ConcurrentHashMap<>();
+    keyArray = new String[keys];
+    for (int i = 0; i < keys; i++) {
+      keyArray[i] = "key-" + i;
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close();
+  }
+
+  private String nextKey() {
+    String key = keyArray[index++];
+    if (index == keyArray.length) {
+      index = 0;
+    }
+    return key;
+  }
+
+  @Benchmark
+  public void putWithTtl() {
+    map.put(nextKey(), "the-value", ttl);
+  }
+
+  @Benchmark
+  public void putWithTimer() {
+    String key = nextKey();
+    long timerId = vertx.setTimer(ttl, id -> timedMap.remove(key));
+    TimedEntry previous = timedMap.put(key, new TimedEntry("the-value", timerId));
+    if (previous != null) {
+      vertx.cancelTimer(previous.timerId);
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.parsetools.RecordParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+
+/**
+ * Parses 1 MiB of records split in chunks with a {@link RecordParser}.
+ */
+@State(Scope.Thread)
+public class RecordParserBenchmark extends BenchmarkBase {
+
+  private static final int INPUT_SIZE = 1024 * 1024;
+
+  @Param({"\\n", "\\r\\n"})
+  public String delimiter;
+
+  @Param({"80", "1024"})
+  public int recordSize;
+
+  @Param({"1024", "65536"})
+  public int chunkSize;
+
+  private Buffer[] delimitedChunks;
+  private Buffer[] fixedChunks;
+
+  @Setup
+  public void setup() {
+    String delim = delimiter.replace("\\n", "\n").replace("\\r", "\r");
+    Random random = new Random(0);
+    Buffer delimited = Buffer.buffer(INPUT_SIZE);
+    Buffer fixed = Buffer.buffer(INPUT_SIZE);
+    byte[] record = new byte[recordSize];
+    while (delimited.length() < INPUT_SIZE) {
+      for (int i = 0;i < record.length;i++) {
+        record[i] = (byte) ('a' + random.nextInt(26));
+      }
+      delimited.appendBytes(record).appendString(delim);
+      fixed.appendBytes(record);
+    }
+    delimitedChunks = split(delimited);
+    fixedChunks = split(fixed);
+  }
+
+  private Buffer[] split(Buffer input) {
+    Buffer[] chunks = new Buffer[(input.length() + chunkSize - 1) / chunkSize];
+    for (int i = 0;i < chunks.length;i++) {
+      chunks[i] = input.getBuffer(i * chunkSize, Math.min(input.length(), (i + 1) * chunkSize));
+    }
+    return chunks;
+  }
+
+  @Benchmark
+  public void delimited(Blackhole blackhole) {
+    RecordParser parser = RecordParser.newDelimited(delimiter.replace("\\n", "\n").replace("\\r", "\r"), blackhole::consume);
+    for (Buffer chunk : delimitedChunks) {
+      parser.handle(chunk);
+    }
+  }
+
+  @Benchmark
+  public void fixed(Blackhole blackhole) {
+    RecordParser parser = RecordParser.newFixed(recordSize, blackhole::consume);
+    for (Buffer chunk : fixedChunks) {
+      parser.handle(chunk);
+    }
+  }
+}
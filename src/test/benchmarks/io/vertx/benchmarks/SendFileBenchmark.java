@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpVersion;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Downloads a file served with {@code HttpServerResponse#sendFile} over HTTP/1.1 (file regions) and HTTP/2
+ * (DATA frames read from the file on the event loop).
+ *
+ * <p> The bytes served are reported as a secondary result, run with {@code -prof perfnorm} to compare the CPU cost
+ * per download of both protocols.
+ */
+@State(Scope.Benchmark)
+public class SendFileBenchmark extends BenchmarkBase {
+
+  @Param({"HTTP_1_1", "HTTP_2"})
+  public HttpVersion protocol;
+
+  @Param({"1048576"})
+  public int size;
+
+  private Vertx vertx;
+  private HttpServer server;
+  private HttpClient client;
+  private File file;
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class Counters {
+
+    public long bytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      bytes = 0;
+    }
+  }
+
+  @Setup
+  public void setup() throws Exception {
+    file = File.createTempFile("vertx", ".bin");
+    file.deleteOnExit();
+    try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+      raf.setLength(size);
+    }
+    vertx = Vertx.vertx();
+    server = vertx.createHttpServer()
+      .requestHandler(req -> req.response().sendFile(file.getAbsolutePath()))
+      .listen(8080, "localhost")
+      .toCompletionStage()
+      .toCompletableFuture()
+      .get(20, TimeUnit.SECONDS);
+    client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(protocol)
+      .setHttp2ClearTextUpgrade(false)
+      .setDefaultHost("localhost")
+      .setDefaultPort(8080));
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    client.close();
+    server.close();
+    vertx.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+    file.delete();
+  }
+
+  @Benchmark
+  public int download(Counters counters) throws Exception {
+    CompletableFuture<Integer> fut = new CompletableFuture<>();
+    client.request(HttpMethod.GET, "/")
+      .compose(req -> req.send().compose(resp -> resp.body()))
+      .onComplete(ar -> {
+        if (ar.succeeded()) {
+          fut.complete(ar.result().length());
+        } else {
+          fut.completeExceptionally(ar.cause());
+        }
+      });
+    int length = fut.get(20, TimeUnit.SECONDS);
+    counters.bytes += length;
+    return length;
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.impl.TaskQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.LinkedList;
+import java.util.concurrent.Executor;
+
+/**
+ * Measures the throughput of {@link TaskQueue#execute(Runnable, Executor)} when several threads submit tasks
+ * to the same queue, compared to the former implementation based on a synchronized {@link LinkedList}.
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class TaskQueueBenchmark extends BenchmarkBase {
+
+  /**
+   * The former synchronized task queue implementation.
+   */
+  static class SynchronizedTaskQueue {
+
+    private static class Task {
+      private final Runnable runnable;
+      private final Executor exec;
+      Task(Runnable runnable, Executor exec) {
+        this.runnable = runnable;
+        this.exec = exec;
+      }
+    }
+
+    private final LinkedList<Task> tasks = new LinkedList<>();
+    private Executor current;
+    private final Runnable runner = this::run;
+
+    private void run() {
+      for (; ; ) {
+        final Task task;
+        synchronized (tasks) {
+          task = tasks.poll();
+          if (task == null) {
+            current = null;
+            return;
+          }
+          if (task.exec != current) {
+            tasks.addFirst(task);
+            task.exec.execute(runner);
+            current = task.exec;
+            return;
+          }
+        }
+        task.runnable.run();
+      }
+    }
+
+    void execute(Runnable task, Executor executor) {
+      synchronized (tasks) {
+        tasks.add(new Task(task, executor));
+        if (current == null) {
+          current = executor;
+          executor.execute(runner);
+        }
+      }
+    }
+  }
+
+  private TaskQueue queue;
+  private SynchronizedTaskQueue synchronizedQueue;
+  private Executor executor;
+  private Runnable task;
+
+  @Setup
+  public void setup() {
+    queue = new TaskQueue();
+    synchronizedQueue = new SynchronizedTaskQueue();
+    // Run the tasks on the submitting thread that acquires the queue, like a combiner
+    executor = Runnable::run;
+    task = () -> Blackhole.consumeCPU(0);
+  }
+
+  @Benchmark
+  public void taskQueue() {
+    queue.execute(task, executor);
+  }
+
+  @Benchmark
+  public void synchronizedTaskQueue() {
+    synchronizedQueue.execute(task, executor);
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures the cost of setting a timer and cancelling it, the typical request timeout pattern.
+ */
+@State(Scope.Benchmark)
+public class TimerBenchmark extends BenchmarkBase {
+
+  @State(Scope.Thread)
+  public static class ThreadState {
+
+    ContextInternal context;
+
+    @Setup
+    public void setup(TimerBenchmark benchmark) {
+      // Each thread uses its own event loop
+      context = benchmark.vertx.createEventLoopContext();
+    }
+  }
+
+  private VertxInternal vertx;
+  private Handler<Long> handler;
+
+  @Setup
+  public void setup() {
+    vertx = (VertxInternal) Vertx.vertx();
+    handler = id -> {};
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close();
+  }
+
+  @Benchmark
+  public boolean setAndCancel(ThreadState state) {
+    long id = state.context.setTimer(10_000, handler);
+    return vertx.cancelTimer(id);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public boolean setAndCancelContended(ThreadState state) {
+    long id = state.context.setTimer(10_000, handler);
+    return vertx.cancelTimer(id);
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+
+/**
+ * An event loop context emitting events on the calling thread, so benchmarks can measure code emitting
+ * events without hopping to the event loop.
+ */
+public class BenchmarkEventLoopContext extends EventLoopContext {
+
+  public static BenchmarkEventLoopContext create(Vertx vertx) {
+    VertxImpl impl = (VertxImpl) vertx;
+    return new BenchmarkEventLoopContext(
+      impl,
+      impl.internalWorkerPool,
+      impl.workerPool,
+      Thread.currentThread().getContextClassLoader()
+    );
+  }
+
+  public BenchmarkEventLoopContext(VertxInternal vertx, WorkerPool internalBlockingPool, WorkerPool workerPool, ClassLoader tccl) {
+    super(vertx, vertx.getEventLoopGroup().next(), internalBlockingPool, workerPool, null, null, tccl);
+  }
+
+  @Override
+  <T> void emit(AbstractContext ctx, T argument, Handler<T> task) {
+    ctx.dispatch(argument, task);
+  }
+}
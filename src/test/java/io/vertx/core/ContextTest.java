@@ -14,6 +14,7 @@ package io.vertx.core;
 import io.netty.channel.EventLoop;
 import io.vertx.core.impl.*;
 import io.vertx.core.impl.future.PromiseInternal;
+import io.vertx.core.spi.context.ContextLocal;
 import io.vertx.test.core.VertxTestBase;
 import org.junit.Test;
 
@@ -518,6 +519,60 @@ public class ContextTest extends VertxTestBase {
     awaitLatch(latch4);
   }
 
+  @Test
+  public void testContextLocal() {
+    ContextLocal<String> key = ContextLocal.registerLocal(String.class);
+    ContextInternal ctx = (ContextInternal) vertx.getOrCreateContext();
+    assertNull(key.get(ctx));
+    key.put(ctx, "the-value");
+    assertEquals("the-value", key.get(ctx));
+    ContextInternal duplicated = ctx.duplicate();
+    assertNull(key.get(duplicated));
+    key.put(duplicated, "the-duplicated-value");
+    assertEquals("the-duplicated-value", key.get(duplicated));
+    assertEquals("the-value", key.get(ctx));
+    // A key registered after the storage has been allocated
+    ContextLocal<Integer> other = ContextLocal.registerLocal(Integer.class);
+    assertNull(other.get(ctx));
+    other.put(ctx, 4);
+    assertEquals(4, (int) other.get(ctx));
+    assertEquals("the-value", key.get(ctx));
+    key.remove(ctx);
+    assertNull(key.get(ctx));
+    assertEquals(4, (int) other.get(ctx));
+  }
+
+  @Test
+  public void testContextLocalConcurrentAccess() throws Exception {
+    ContextLocal<Integer> counter = ContextLocal.registerLocal(Integer.class);
+    ContextLocal<String> key = ContextLocal.registerLocal(String.class);
+    ContextInternal ctx = (ContextInternal) vertx.getOrCreateContext();
+    key.put(ctx, "the-value");
+    int num = 10_000;
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    Thread reader = new Thread(() -> {
+      try {
+        int last = -1;
+        while (last < num) {
+          Integer value = counter.get(ctx);
+          int current = value == null ? -1 : value;
+          assertTrue(current >= last);
+          assertEquals("the-value", key.get(ctx));
+          last = current;
+        }
+      } catch (Throwable t) {
+        failure.set(t);
+      }
+    });
+    reader.start();
+    for (int i = 0;i <= num;i++) {
+      counter.put(ctx, i);
+    }
+    reader.join(10_000);
+    assertFalse(reader.isAlive());
+    assertNull(failure.get());
+  }
+
   @Test
   public void testDuplicateWorkerConcurrency() throws Exception {
     testDuplicateWorkerConcurrency((ctx, task) -> ctx.runOnContext(v -> task.run()));
@@ -12,9 +12,12 @@
 package io.vertx.core;
 
 import io.vertx.test.core.VertxTestBase;
+import org.junit.Assume;
 import org.junit.Test;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -161,4 +164,70 @@ public class ExecuteBlockingTest extends VertxTestBase {
     long leeway = 1000;
     assertTrue(now - start < pause + leeway);
   }
+
+  @Test
+  public void testExecuteBlockingPreferVirtualThreadWorkers() throws Exception {
+    Vertx vertx = vertx(new VertxOptions().setPreferVirtualThreadWorkers(true).setWorkerPoolSize(1));
+    int numExecBlocking = 10;
+    CountDownLatch latch = new CountDownLatch(numExecBlocking);
+    AtomicInteger seq = new AtomicInteger();
+    vertx.runOnContext(v -> {
+      Context ctx = vertx.getOrCreateContext();
+      for (int i = 0; i < numExecBlocking; i++) {
+        int expected = i;
+        vertx.executeBlocking(future -> {
+          assertSame(ctx, vertx.getOrCreateContext());
+          assertTrue(Context.isOnWorkerThread());
+          assertFalse(Context.isOnEventLoopThread());
+          assertEquals(expected, seq.getAndIncrement());
+          future.complete();
+        }, true, onSuccess(res -> {
+          assertSame(ctx, vertx.getOrCreateContext());
+          assertTrue(Context.isOnEventLoopThread());
+          latch.countDown();
+        }));
+      }
+    });
+    awaitLatch(latch);
+  }
+
+  @Test
+  public void testExecuteBlockingOnVirtualThreads() throws Exception {
+    Method isVirtual;
+    try {
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+      isVirtual = Thread.class.getMethod("isVirtual");
+    } catch (Exception e) {
+      isVirtual = null;
+    }
+    Assume.assumeTrue("Virtual threads are not supported", isVirtual != null);
+    Method isVirtualMethod = isVirtual;
+    Vertx vertx = vertx(new VertxOptions().setPreferVirtualThreadWorkers(true));
+    int numExecBlocking = 100;
+    CountDownLatch latch = new CountDownLatch(numExecBlocking);
+    vertx.runOnContext(v -> {
+      Context ctx = vertx.getOrCreateContext();
+      for (int i = 0; i < numExecBlocking; i++) {
+        vertx.executeBlocking(future -> {
+          Thread thread = Thread.currentThread();
+          try {
+            assertTrue((Boolean) isVirtualMethod.invoke(thread));
+          } catch (Exception e) {
+            fail(e);
+          }
+          assertTrue(thread.getName().startsWith("vert.x-virtual-worker-thread-"));
+          assertSame(ctx, vertx.getOrCreateContext());
+          assertTrue(Context.isOnWorkerThread());
+          assertFalse(Context.isOnEventLoopThread());
+          future.complete();
+        }, false, onSuccess(res -> {
+          assertSame(ctx, vertx.getOrCreateContext());
+          assertTrue(Context.isOnEventLoopThread());
+          latch.countDown();
+        }));
+      }
+    });
+    awaitLatch(latch);
+  }
 }
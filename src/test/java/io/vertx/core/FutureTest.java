@@ -13,6 +13,7 @@ package io.vertx.core;
 
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.NoStackTraceThrowable;
+import io.vertx.core.impl.future.Listener;
 import org.junit.Test;
 
 import java.lang.reflect.Field;
@@ -1125,20 +1126,78 @@ public class FutureTest extends FutureTestBase {
   public void testReleaseListenerAfterCompletion() throws Exception {
     Promise<String> promise = Promise.promise();
     Future<String> f = promise.future();
-    Field handlerField = f.getClass().getSuperclass().getDeclaredField("listener");
-    handlerField.setAccessible(true);
+    Field stateField = f.getClass().getSuperclass().getDeclaredField("state");
+    stateField.setAccessible(true);
     f.onComplete(ar -> {});
     promise.complete();
-    assertNull(handlerField.get(f));
+    assertFalse(stateField.get(f) instanceof Listener);
     f.onComplete(ar -> {});
-    assertNull(handlerField.get(f));
+    assertFalse(stateField.get(f) instanceof Listener);
     promise = Promise.promise();
     f = promise.future();
     f.onComplete(ar -> {});
     promise.fail("abc");
-    assertNull(handlerField.get(f));
+    assertFalse(stateField.get(f) instanceof Listener);
     f.onComplete(ar -> {});
-    assertNull(handlerField.get(f));
+    assertFalse(stateField.get(f) instanceof Listener);
+  }
+
+  @Test
+  public void testListenerResult() {
+    Promise<Promise<String>> promise = Promise.promise();
+    Future<Promise<String>> f = promise.future();
+    assertFalse(f.isComplete());
+    AtomicInteger count = new AtomicInteger();
+    f.onComplete(ar -> {
+      assertTrue(ar.succeeded());
+      assertSame(promise, ar.result());
+      count.incrementAndGet();
+    });
+    promise.complete(promise);
+    assertTrue(f.isComplete());
+    assertTrue(f.succeeded());
+    assertSame(promise, f.result());
+    f.onSuccess(res -> {
+      assertSame(promise, res);
+      count.incrementAndGet();
+    });
+    assertEquals(2, count.get());
+  }
+
+  @Test
+  public void testConcurrentListenersAndCompletion() throws Exception {
+    int numThreads = 4;
+    int numListeners = 1000;
+    for (int iter = 0; iter < 100; iter++) {
+      Promise<String> promise = Promise.promise();
+      AtomicInteger count = new AtomicInteger();
+      CountDownLatch start = new CountDownLatch(1);
+      Thread[] threads = new Thread[numThreads];
+      for (int i = 0; i < numThreads; i++) {
+        threads[i] = new Thread(() -> {
+          try {
+            start.await();
+          } catch (InterruptedException e) {
+            return;
+          }
+          for (int j = 0; j < numListeners; j++) {
+            promise.future().onSuccess(res -> {
+              assertEquals("the-result", res);
+              count.incrementAndGet();
+            });
+          }
+        });
+        threads[i].start();
+      }
+      start.countDown();
+      assertTrue(promise.tryComplete("the-result"));
+      assertFalse(promise.tryComplete("another-result"));
+      assertFalse(promise.tryFail("failure"));
+      for (Thread thread : threads) {
+        thread.join();
+      }
+      assertEquals(numThreads * numListeners, count.get());
+    }
   }
 
   @Test
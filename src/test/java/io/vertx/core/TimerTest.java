@@ -17,6 +17,8 @@ import io.vertx.core.streams.ReadStream;
 import io.vertx.test.core.VertxTestBase;
 import org.junit.Test;
 
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -55,6 +57,27 @@ public class TimerTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testTimersOnDifferentEventLoops() {
+    VertxInternal vertxInternal = (VertxInternal) vertx;
+    int num = 16;
+    Set<Long> ids = new HashSet<>();
+    for (int i = 0; i < num; i++) {
+      ContextInternal ctx = vertxInternal.createEventLoopContext();
+      ids.add(ctx.setTimer(10_000, id -> fail()));
+      ids.add(ctx.setPeriodic(10_000, id -> fail()));
+    }
+    assertEquals(2 * num, ids.size());
+    assertEquals(2 * num, vertxInternal.timerCount());
+    for (long id : ids) {
+      assertTrue(vertx.cancelTimer(id));
+      assertFalse(vertx.cancelTimer(id));
+    }
+    assertEquals(0, vertxInternal.timerCount());
+    assertFalse(vertx.cancelTimer(-1));
+    assertFalse(vertx.cancelTimer(Long.MAX_VALUE));
+  }
+
   @Test
   public void testInVerticle() {
     class MyVerticle extends AbstractVerticle {
@@ -11,6 +11,7 @@
 
 package io.vertx.core;
 
+import io.vertx.core.eventbus.ConsumerSelectionPolicy;
 import io.vertx.core.file.FileSystemOptions;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.metrics.MetricsOptions;
@@ -121,6 +122,32 @@ public class VertxOptionsTest extends VertxTestBase {
     } catch (IllegalArgumentException e) {
       assertEquals(randomLong, options.getEventBusOptions().getClusterPingReplyInterval());
     }
+    assertFalse(options.getEventBusOptions().isClusterWriteBatching());
+    options.getEventBusOptions().setClusterWriteBatching(true);
+    assertTrue(options.getEventBusOptions().isClusterWriteBatching());
+    assertEquals(64, options.getEventBusOptions().getClusterWriteBatchMaxMessages());
+    rand = TestUtils.randomPositiveInt();
+    options.getEventBusOptions().setClusterWriteBatchMaxMessages(rand);
+    assertEquals(rand, options.getEventBusOptions().getClusterWriteBatchMaxMessages());
+    try {
+      options.getEventBusOptions().setClusterWriteBatchMaxMessages(0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      assertEquals(rand, options.getEventBusOptions().getClusterWriteBatchMaxMessages());
+    }
+    assertEquals(64 * 1024, options.getEventBusOptions().getClusterWriteBatchMaxBytes());
+    rand = TestUtils.randomPositiveInt();
+    options.getEventBusOptions().setClusterWriteBatchMaxBytes(rand);
+    assertEquals(rand, options.getEventBusOptions().getClusterWriteBatchMaxBytes());
+    try {
+      options.getEventBusOptions().setClusterWriteBatchMaxBytes(0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      assertEquals(rand, options.getEventBusOptions().getClusterWriteBatchMaxBytes());
+    }
+    assertEquals(ConsumerSelectionPolicy.ROUND_ROBIN, options.getEventBusOptions().getConsumerSelectionPolicy());
+    options.getEventBusOptions().setConsumerSelectionPolicy(ConsumerSelectionPolicy.EVENT_LOOP_AFFINITY);
+    assertEquals(ConsumerSelectionPolicy.EVENT_LOOP_AFFINITY, options.getEventBusOptions().getConsumerSelectionPolicy());
     assertEquals(1000, options.getBlockedThreadCheckInterval());
     rand = TestUtils.randomPositiveInt();
     assertEquals(options, options.setBlockedThreadCheckInterval(rand));
@@ -158,6 +185,9 @@ public class VertxOptionsTest extends VertxTestBase {
     assertFalse(options.isHAEnabled());
     assertEquals(options, options.setHAEnabled(true));
     assertTrue(options.isHAEnabled());
+    assertFalse(options.getPreferVirtualThreadWorkers());
+    assertEquals(options, options.setPreferVirtualThreadWorkers(true));
+    assertTrue(options.getPreferVirtualThreadWorkers());
     rand = TestUtils.randomPositiveInt();
     assertEquals(1, options.getQuorumSize());
     assertEquals(options, options.setQuorumSize(rand));
@@ -305,6 +335,7 @@ public class VertxOptionsTest extends VertxTestBase {
     assertEquals(def.getMaxWorkerExecuteTime(), json.getMaxWorkerExecuteTime());
     assertEquals(def.getInternalBlockingPoolSize(), json.getInternalBlockingPoolSize());
     assertEquals(def.isHAEnabled(), json.isHAEnabled());
+    assertEquals(def.getPreferVirtualThreadWorkers(), json.getPreferVirtualThreadWorkers());
     assertEquals(def.getQuorumSize(), json.getQuorumSize());
     assertEquals(def.getHAGroup(), json.getHAGroup());
     assertEquals(def.getWarningExceptionTime(), json.getWarningExceptionTime());
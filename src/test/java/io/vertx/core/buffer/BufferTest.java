@@ -22,6 +22,7 @@ import io.vertx.test.core.TestUtils;
 import org.junit.Test;
 
 import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.nio.charset.StandardCharsets;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -998,6 +999,36 @@ public class BufferTest {
     assertEquals(copy, copy2);
   }
 
+  @Test
+  public void testReadOnly() throws Exception {
+    Buffer buff = TestUtils.randomBuffer(100);
+    assertFalse(buff.isReadOnly());
+    Buffer readOnly = buff.asReadOnly();
+    assertTrue(readOnly.isReadOnly());
+    assertSame(readOnly, readOnly.asReadOnly());
+    assertEquals(buff, readOnly);
+    assertTrue(readOnly.slice(10, 20).isReadOnly());
+    assertReadOnly(() -> readOnly.setInt(0, 1));
+    assertReadOnly(() -> readOnly.appendByte((byte) 1));
+    assertReadOnly(() -> readOnly.setBytes(100, new byte[10]));
+    assertReadOnly(() -> readOnly.slice(0, 10).appendInt(1));
+    assertEquals(100, readOnly.length());
+    buff.setInt(0, 1);
+    assertEquals(1, readOnly.getInt(0));
+    Buffer copy = readOnly.copy();
+    assertFalse(copy.isReadOnly());
+    copy.setInt(0, 2);
+    assertEquals(1, readOnly.getInt(0));
+  }
+
+  private static void assertReadOnly(Runnable r) {
+    try {
+      r.run();
+      fail();
+    } catch (ReadOnlyBufferException ignore) {
+    }
+  }
+
   @Test
   public void testCreateBuffers() throws Exception {
     Buffer buff = Buffer.buffer(1000);
@@ -14,6 +14,7 @@ package io.vertx.core.eventbus;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.spi.cluster.NodeSelector;
 import io.vertx.core.spi.cluster.RegistrationUpdateEvent;
@@ -79,6 +80,35 @@ public class ClusteredEventBusTest extends ClusteredEventBusTestBase {
     await();
   }
 
+  @Test
+  public void testSendBufferModifiedAfterSend() throws Exception {
+    startNodes(2);
+    Buffer sent = TestUtils.randomBuffer(1024);
+    Buffer expected = sent.copy();
+    vertices[1].eventBus().<Buffer>consumer(ADDRESS1, msg -> {
+      assertEquals(expected, msg.body());
+      testComplete();
+    }).completionHandler(onSuccess(v -> {
+      vertices[0].eventBus().send(ADDRESS1, sent);
+      // The message is encoded once the node is selected
+      for (int i = 0; i < sent.length(); i++) {
+        sent.setByte(i, (byte) 0);
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testSendReadOnlyBuffer() throws Exception {
+    startNodes(2);
+    Buffer sent = TestUtils.randomBuffer(1024).asReadOnly();
+    vertices[1].eventBus().<Buffer>consumer(ADDRESS1, msg -> {
+      assertEquals(sent, msg.body());
+      testComplete();
+    }).completionHandler(onSuccess(v -> vertices[0].eventBus().send(ADDRESS1, sent)));
+    await();
+  }
+
   @Test
   public void testDecoderSendAsymmetric() throws Exception {
     startNodes(2);
@@ -205,6 +235,32 @@ public class ClusteredEventBusTest extends ClusteredEventBusTestBase {
     await();
   }
 
+  @Test
+  public void testClusteredWriteBatching() {
+    VertxOptions options = new VertxOptions();
+    options.getEventBusOptions()
+      .setClusterWriteBatching(true)
+      .setClusterWriteBatchMaxMessages(8)
+      .setClusterWriteBatchMaxBytes(512);
+    startNodes(2, options);
+    int num = 1000;
+    AtomicInteger received = new AtomicInteger();
+    MessageConsumer<Integer> consumer = vertices[0].eventBus().<Integer>consumer(ADDRESS1).handler(msg -> {
+      assertEquals(received.getAndIncrement(), (int) msg.body());
+      if (received.get() == num) {
+        testComplete();
+      }
+    });
+    consumer.completionHandler(onSuccess(v -> {
+      vertices[1].runOnContext(v2 -> {
+        for (int i = 0; i < num; i++) {
+          vertices[1].eventBus().send(ADDRESS1, i);
+        }
+      });
+    }));
+    await();
+  }
+
   @Test
   public void testConsumerHandlesCompletionAsynchronously1() {
     startNodes(2);
@@ -436,6 +492,35 @@ public class ClusteredEventBusTest extends ClusteredEventBusTestBase {
     await();
   }
 
+  @Test
+  public void testSenderFlowControl() throws Exception {
+    startNodes(2);
+    int maxSize = 5;
+    int num = 20;
+    AtomicInteger received = new AtomicInteger();
+    CountDownLatch registered = new CountDownLatch(1);
+    MessageConsumer<Integer> consumer = vertices[1].eventBus().consumer(ADDRESS1);
+    consumer.pause();
+    consumer.handler(msg -> {
+      assertEquals(received.getAndIncrement(), (int) msg.body());
+      if (received.get() == num) {
+        testComplete();
+      }
+    });
+    consumer.completionHandler(onSuccess(v -> registered.countDown()));
+    awaitLatch(registered);
+    MessageProducer<Integer> producer = vertices[0].eventBus().<Integer>sender(ADDRESS1).setWriteQueueMaxSize(maxSize);
+    for (int i = 0; i < num; i++) {
+      producer.write(i);
+    }
+    assertTrue(producer.writeQueueFull());
+    vertices[1].setTimer(100, id -> {
+      assertEquals(0, received.get());
+      consumer.resume();
+    });
+    await();
+  }
+
   @Test
   public void testPublishWriteHandler() {
     startNodes(2);
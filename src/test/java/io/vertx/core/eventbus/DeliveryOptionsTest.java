@@ -35,7 +35,8 @@ public class DeliveryOptionsTest {
       .put("localOnly", true)
       .put("codecName", "pimpo")
       .put("headers", new JsonObject().put("marseille", "om").put("lyon", "ol").put("amsterdam", "ajax"))
-      .put("tracingPolicy", "IGNORE");
+      .put("tracingPolicy", "IGNORE")
+      .put("consumerSelectionPolicy", "EVENT_LOOP_AFFINITY");
 
     assertEquals(fullJson,
       new DeliveryOptions()
@@ -44,6 +45,7 @@ public class DeliveryOptionsTest {
         .setCodecName("pimpo")
         .addHeader("marseille", "om").addHeader("lyon", "ol").addHeader("amsterdam", "ajax")
         .setTracingPolicy(TracingPolicy.IGNORE)
+        .setConsumerSelectionPolicy(ConsumerSelectionPolicy.EVENT_LOOP_AFFINITY)
         .toJson());
 
     assertEquals(fullJson, new DeliveryOptions(fullJson).toJson());
@@ -105,6 +105,15 @@ public abstract class EventBusTestBase extends VertxTestBase {
     });
   }
 
+  @Test
+  public void testSendLargeBuffer() {
+    Buffer sent = TestUtils.randomBuffer(1024 * 1024);
+    testSend(sent, (buffer) -> {
+      assertEquals(sent, buffer);
+      assertFalse(sent == buffer); // Make sure it's copied
+    });
+  }
+
   @Test
   public void testReplyBuffer() {
     Buffer sent = TestUtils.randomBuffer(100);
@@ -18,6 +18,8 @@ import io.vertx.core.impl.ConcurrentHashSet;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.EventLoopContext;
 import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.streams.Pump;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.test.core.TestUtils;
@@ -750,6 +752,62 @@ public class LocalEventBusTest extends EventBusTestBase {
     await();
   }
 
+  @Test
+  public void testSendEventLoopAffinity() throws Exception {
+    int numHandlers = 4;
+    int numMessages = 10;
+    List<ContextInternal> contexts = new ArrayList<>();
+    CountDownLatch registered = new CountDownLatch(numHandlers);
+    for (int i = 0; i < numHandlers; i++) {
+      ContextInternal ctx = ((VertxInternal) vertx).createEventLoopContext();
+      contexts.add(ctx);
+      ctx.runOnContext(v -> {
+        vertx.eventBus().consumer(ADDRESS1, msg -> {
+          assertEquals(msg.body(), Thread.currentThread().getName());
+          complete();
+        }).completionHandler(onSuccess(v2 -> registered.countDown()));
+      });
+    }
+    awaitLatch(registered);
+    waitFor(numMessages);
+    DeliveryOptions options = new DeliveryOptions().setConsumerSelectionPolicy(ConsumerSelectionPolicy.EVENT_LOOP_AFFINITY);
+    for (int i = 0; i < numMessages; i++) {
+      ContextInternal ctx = contexts.get(i % numHandlers);
+      ctx.runOnContext(v -> vertx.eventBus().send(ADDRESS1, Thread.currentThread().getName(), options));
+    }
+    await();
+  }
+
+  @Test
+  public void testPublishFrozenJsonObjectShared() throws Exception {
+    testPublishShared(new JsonObject().put("foo", "bar").freeze());
+  }
+
+  @Test
+  public void testPublishFrozenJsonArrayShared() throws Exception {
+    testPublishShared(new JsonArray().add("foo").freeze());
+  }
+
+  @Test
+  public void testPublishReadOnlyBufferShared() throws Exception {
+    testPublishShared(TestUtils.randomBuffer(100).asReadOnly());
+  }
+
+  private void testPublishShared(Object body) throws Exception {
+    int numHandlers = 10;
+    CountDownLatch registered = new CountDownLatch(numHandlers);
+    for (int i = 0; i < numHandlers; i++) {
+      vertx.eventBus().consumer(ADDRESS1, msg -> {
+        assertSame(body, msg.body());
+        complete();
+      }).completionHandler(onSuccess(v -> registered.countDown()));
+    }
+    awaitLatch(registered);
+    waitFor(numHandlers);
+    vertx.eventBus().publish(ADDRESS1, body);
+    await();
+  }
+
   @Test
   public void testHeadersCopiedAfterSend() throws Exception {
     MultiMap headers = MultiMap.caseInsensitiveMultiMap();
@@ -905,6 +963,15 @@ public class LocalEventBusTest extends EventBusTestBase {
     assertIllegalArgumentException(() -> vertx.eventBus().send(ADDRESS1, new MyPOJO("foo")));
   }
 
+  @Test
+  public void testDefaultDecoderLookupInvalidation() throws Exception {
+    assertIllegalArgumentException(() -> vertx.eventBus().send(ADDRESS1, new MyPOJO("foo")));
+    vertx.eventBus().registerDefaultCodec(MyPOJO.class, new MyPOJOEncoder1());
+    vertx.eventBus().send(ADDRESS1, new MyPOJO("foo"));
+    vertx.eventBus().unregisterDefaultCodec(MyPOJO.class);
+    assertIllegalArgumentException(() -> vertx.eventBus().send(ADDRESS1, new MyPOJO("foo")));
+  }
+
   @Test
   public void testRegisterDefaultTwice() throws Exception {
     MessageCodec codec = new MyPOJOEncoder1();
@@ -1237,6 +1304,134 @@ public class LocalEventBusTest extends EventBusTestBase {
     await();
   }
 
+  @Test
+  public void testSenderFlowControl() throws Exception {
+    int maxSize = 10;
+    int num = 15;
+    List<String> received = Collections.synchronizedList(new ArrayList<>());
+    MessageConsumer<String> consumer = eb.consumer(ADDRESS1);
+    consumer.pause();
+    consumer.handler(msg -> {
+      assertEquals("msg-" + received.size(), msg.body());
+      received.add(msg.body());
+      if (received.size() == num) {
+        complete();
+      }
+    });
+    CountDownLatch registered = new CountDownLatch(1);
+    consumer.completionHandler(onSuccess(v -> registered.countDown()));
+    awaitLatch(registered);
+    MessageProducer<String> sender = eb.<String>sender(ADDRESS1).setWriteQueueMaxSize(maxSize);
+    for (int i = 0; i < num; i++) {
+      assertEquals(i >= maxSize, sender.writeQueueFull());
+      sender.write("msg-" + i);
+    }
+    assertTrue(sender.writeQueueFull());
+    waitFor(2);
+    sender.drainHandler(v -> {
+      assertFalse(sender.writeQueueFull());
+      complete();
+    });
+    // The sender has at most max size messages in flight
+    vertx.setTimer(100, id -> {
+      assertEquals(0, received.size());
+      consumer.resume();
+    });
+    await();
+  }
+
+  @Test
+  public void testSenderFlowControlNoHandlers() {
+    int maxSize = 2;
+    int num = 5;
+    MessageProducer<String> sender = eb.<String>sender(ADDRESS1).setWriteQueueMaxSize(maxSize);
+    AtomicInteger failures = new AtomicInteger();
+    for (int i = 0; i < num; i++) {
+      sender.write("msg-" + i).onComplete(onFailure(err -> {
+        assertTrue(err instanceof ReplyException);
+        assertEquals(ReplyFailure.NO_HANDLERS, ((ReplyException) err).failureType());
+        // The credits of the undelivered messages are given back
+        if (failures.incrementAndGet() == num) {
+          assertFalse(sender.writeQueueFull());
+          testComplete();
+        }
+      }));
+    }
+    await();
+  }
+
+  @Test
+  public void testSenderFlowControlClose() throws Exception {
+    MessageConsumer<String> consumer = eb.consumer(ADDRESS1);
+    consumer.pause();
+    consumer.handler(msg -> {});
+    CountDownLatch registered = new CountDownLatch(1);
+    consumer.completionHandler(onSuccess(v -> registered.countDown()));
+    awaitLatch(registered);
+    MessageProducer<String> sender = eb.<String>sender(ADDRESS1).setWriteQueueMaxSize(1);
+    sender.write("msg-0");
+    waitFor(3);
+    sender.write("msg-1").onComplete(onFailure(err -> complete()));
+    sender.write("msg-2").onComplete(onFailure(err -> complete()));
+    sender.close().onComplete(onSuccess(v -> {
+      sender.write("msg-3").onComplete(onFailure(err -> complete()));
+    }));
+    await();
+  }
+
+  @Test
+  public void testSenderFlowControlUnregister() throws Exception {
+    testSenderFlowControlDiscard(MessageConsumer::unregister);
+  }
+
+  @Test
+  public void testSenderFlowControlShrinkBuffer() throws Exception {
+    testSenderFlowControlDiscard(consumer -> consumer.setMaxBufferedMessages(0));
+  }
+
+  private void testSenderFlowControlDiscard(Consumer<MessageConsumer<String>> discard) throws Exception {
+    int maxSize = 4;
+    MessageConsumer<String> consumer = eb.consumer(ADDRESS1);
+    consumer.pause();
+    consumer.handler(msg -> fail());
+    CountDownLatch registered = new CountDownLatch(1);
+    consumer.completionHandler(onSuccess(v -> registered.countDown()));
+    awaitLatch(registered);
+    MessageProducer<String> sender = eb.<String>sender(ADDRESS1).setWriteQueueMaxSize(maxSize);
+    for (int i = 0; i < maxSize; i++) {
+      sender.write("msg-" + i);
+    }
+    assertTrue(sender.writeQueueFull());
+    sender.drainHandler(v -> {
+      // The credits of the discarded messages are given back
+      assertFalse(sender.writeQueueFull());
+      testComplete();
+    });
+    vertx.setTimer(100, id -> discard.accept(consumer));
+    await();
+  }
+
+  @Test
+  public void testConsumerExceptionHandler() {
+    RuntimeException failure = new RuntimeException();
+    MessageConsumer<String> consumer = eb.consumer(ADDRESS1);
+    consumer.exceptionHandler(err -> {
+      assertSame(failure, err);
+      testComplete();
+    });
+    consumer.handler(msg -> {
+      throw failure;
+    });
+    consumer.completionHandler(onSuccess(v -> eb.send(ADDRESS1, "msg")));
+    await();
+  }
+
+  @Test
+  public void testPublisherFlowControl() {
+    assertIllegalStateException(() -> eb.publisher(ADDRESS1).setWriteQueueMaxSize(10));
+    assertFalse(eb.publisher(ADDRESS1).writeQueueFull());
+  }
+
   @Test
   public void testPublisher() {
     String str = TestUtils.randomUnicodeString(100);
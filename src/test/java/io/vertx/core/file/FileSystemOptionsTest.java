@@ -12,6 +12,7 @@
 package io.vertx.core.file;
 
 import io.vertx.core.json.JsonObject;
+import io.vertx.test.core.TestUtils;
 import io.vertx.test.core.VertxTestBase;
 import org.junit.Test;
 import java.util.Random;
@@ -24,6 +25,35 @@ public class FileSystemOptionsTest extends VertxTestBase {
 
     assertTrue(options.isFileCachingEnabled());
     assertTrue(options.isClassPathResolvingEnabled());
+    assertEquals(FileSystemOptions.DEFAULT_SEND_FILE_CACHE_MAX_SIZE, options.getSendFileCacheMaxSize());
+    assertEquals(FileSystemOptions.DEFAULT_SEND_FILE_CACHE_MAX_AGE, options.getSendFileCacheMaxAge());
+    assertFalse(options.isClassPathIndexEnabled());
+    assertEquals(FileSystemOptions.DEFAULT_CLASS_PATH_INDEX_MEMORY_MAX_SIZE, options.getClassPathIndexMemoryMaxSize());
+    assertEquals(FileSystemOptions.DEFAULT_CLASS_PATH_INDEX_MEMORY_TOTAL_SIZE, options.getClassPathIndexMemoryTotalSize());
+  }
+
+  @Test
+  public void testSendFileCacheOptions() {
+    FileSystemOptions options = new FileSystemOptions();
+    assertSame(options, options.setSendFileCacheMaxSize(64));
+    assertEquals(64, options.getSendFileCacheMaxSize());
+    assertSame(options, options.setSendFileCacheMaxAge(500));
+    assertEquals(500, options.getSendFileCacheMaxAge());
+    TestUtils.assertIllegalArgumentException(() -> options.setSendFileCacheMaxSize(-1));
+    TestUtils.assertIllegalArgumentException(() -> options.setSendFileCacheMaxAge(-1));
+  }
+
+  @Test
+  public void testClassPathIndexOptions() {
+    FileSystemOptions options = new FileSystemOptions();
+    assertSame(options, options.setClassPathIndexEnabled(true));
+    assertTrue(options.isClassPathIndexEnabled());
+    assertSame(options, options.setClassPathIndexMemoryMaxSize(1024));
+    assertEquals(1024, options.getClassPathIndexMemoryMaxSize());
+    TestUtils.assertIllegalArgumentException(() -> options.setClassPathIndexMemoryMaxSize(-1));
+    assertSame(options, options.setClassPathIndexMemoryTotalSize(4096));
+    assertEquals(4096, options.getClassPathIndexMemoryTotalSize());
+    TestUtils.assertIllegalArgumentException(() -> options.setClassPathIndexMemoryTotalSize(-1));
   }
 
   @Test
@@ -34,7 +64,19 @@ public class FileSystemOptionsTest extends VertxTestBase {
     boolean enabled = rand.nextBoolean();
     options.setFileCachingEnabled(enabled);
     options.setClassPathResolvingEnabled(enabled);
+    int maxSize = TestUtils.randomPositiveInt();
+    long maxAge = TestUtils.randomPositiveLong();
+    options.setSendFileCacheMaxSize(maxSize);
+    options.setSendFileCacheMaxAge(maxAge);
+    options.setClassPathIndexEnabled(enabled);
+    options.setClassPathIndexMemoryMaxSize(maxSize);
+    options.setClassPathIndexMemoryTotalSize(maxAge);
     options = new FileSystemOptions(options);
+    assertEquals(enabled, options.isClassPathIndexEnabled());
+    assertEquals(maxSize, options.getClassPathIndexMemoryMaxSize());
+    assertEquals(maxAge, options.getClassPathIndexMemoryTotalSize());
+    assertEquals(maxSize, options.getSendFileCacheMaxSize());
+    assertEquals(maxAge, options.getSendFileCacheMaxAge());
     assertEquals(enabled, options.isClassPathResolvingEnabled());
     assertEquals(enabled, options.isFileCachingEnabled());
   }
@@ -52,8 +94,18 @@ public class FileSystemOptionsTest extends VertxTestBase {
     boolean enabled = rand.nextBoolean();
     FileSystemOptions options = new FileSystemOptions(new JsonObject().
       put("fileCachingEnabled", enabled).
-      put("classPathResolvingEnabled", enabled)
+      put("classPathResolvingEnabled", enabled).
+      put("sendFileCacheMaxSize", 32).
+      put("sendFileCacheMaxAge", 250).
+      put("classPathIndexEnabled", enabled).
+      put("classPathIndexMemoryMaxSize", 2048).
+      put("classPathIndexMemoryTotalSize", 8192)
     );
+    assertEquals(enabled, options.isClassPathIndexEnabled());
+    assertEquals(2048, options.getClassPathIndexMemoryMaxSize());
+    assertEquals(8192, options.getClassPathIndexMemoryTotalSize());
+    assertEquals(32, options.getSendFileCacheMaxSize());
+    assertEquals(250, options.getSendFileCacheMaxAge());
     assertEquals(enabled, options.isFileCachingEnabled());
     assertEquals(enabled, options.toJson().getBoolean("fileCachingEnabled"));
     assertEquals(enabled, options.isClassPathResolvingEnabled());
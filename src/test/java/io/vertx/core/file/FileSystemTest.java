@@ -16,6 +16,7 @@ import io.netty.buffer.Unpooled;
 import io.vertx.core.*;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.impl.AsyncFileImpl;
+import io.vertx.core.file.impl.SequentialFileSystemBatch;
 import io.vertx.core.impl.Utils;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.streams.Pump;
@@ -33,6 +34,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.*;
 import java.nio.file.attribute.*;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
@@ -1234,6 +1236,156 @@ public class FileSystemTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testAdaptiveWriteStream() {
+    String fileName = "some-file.dat";
+    int chunkSize = 100;
+    int chunks = 1000;
+    byte[] content = TestUtils.randomByteArray(chunkSize * chunks);
+    Buffer buff = Buffer.buffer(content);
+    vertx.fileSystem().open(testDir + pathSep + fileName, new OpenOptions().setAdaptiveIo(true).setAdaptiveIoMaxBufferSize(16 * 1024), onSuccess(file -> {
+      file.exceptionHandler(t -> fail(t.getMessage()));
+      AtomicInteger written = new AtomicInteger();
+      for (int i = 0; i < chunks; i++) {
+        int expected = i;
+        file.write(buff.getBuffer(i * chunkSize, (i + 1) * chunkSize), onSuccess(v -> {
+          // Coalesced writes complete in order
+          assertEquals(expected, written.getAndIncrement());
+        }));
+      }
+      file.close(onSuccess(v -> {
+        assertEquals(chunks, written.get());
+        byte[] readBytes;
+        try {
+          readBytes = Files.readAllBytes(Paths.get(testDir + pathSep + fileName));
+        } catch (IOException e) {
+          fail(e.getMessage());
+          return;
+        }
+        assertEquals(buff, Buffer.buffer(readBytes));
+        testComplete();
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testAdaptiveReadStream() throws Exception {
+    String fileName = "some-file.dat";
+    int maxBufferSize = 64 * 1024;
+    byte[] content = TestUtils.randomByteArray(1024 * 1024);
+    createFile(fileName, content);
+    vertx.fileSystem().open(testDir + pathSep + fileName, new OpenOptions().setAdaptiveIo(true).setAdaptiveIoMaxBufferSize(maxBufferSize), onSuccess(file -> {
+      Buffer buff = Buffer.buffer();
+      List<Integer> sizes = new ArrayList<>();
+      file.handler(chunk -> {
+        sizes.add(chunk.length());
+        buff.appendBuffer(chunk);
+      });
+      file.exceptionHandler(t -> fail(t.getMessage()));
+      file.endHandler(v -> {
+        assertEquals(Buffer.buffer(content), buff);
+        assertEquals(AsyncFileImpl.DEFAULT_READ_BUFFER_SIZE, (int) sizes.get(0));
+        assertEquals(maxBufferSize, (int) sizes.stream().max(Integer::compare).get());
+        file.close(onSuccess(v2 -> testComplete()));
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testMemoryMappedReadStream() throws Exception {
+    String fileName = "some-file.dat";
+    byte[] content = TestUtils.randomByteArray(1024 * 1024);
+    createFile(fileName, content);
+    vertx.fileSystem().open(testDir + pathSep + fileName, new OpenOptions().setMemoryMapped(true).setMemoryMapWindowSize(100_000), onSuccess(file -> {
+      Buffer buff = Buffer.buffer();
+      file.handler(chunk -> {
+        assertTrue(chunk.length() <= AsyncFileImpl.DEFAULT_READ_BUFFER_SIZE);
+        buff.appendBuffer(chunk);
+      });
+      file.exceptionHandler(t -> fail(t.getMessage()));
+      file.endHandler(v -> {
+        assertEquals(Buffer.buffer(content), buff);
+        file.close(onSuccess(v2 -> testComplete()));
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testMemoryMappedRead() throws Exception {
+    String fileName = "some-file.dat";
+    byte[] content = TestUtils.randomByteArray(1000);
+    createFile(fileName, content);
+    vertx.fileSystem().open(testDir + pathSep + fileName, new OpenOptions().setMemoryMapped(true).setMemoryMapWindowSize(300), onSuccess(file -> {
+      file.read(Buffer.buffer(), 0, 250, 500)
+        .compose(buff -> {
+          // Spans three windows
+          assertEquals(Buffer.buffer(content).getBuffer(250, 750), buff);
+          return file.read(Buffer.buffer(), 0, 900, 500);
+        })
+        .compose(buff -> {
+          // Stops at the end of the file
+          assertEquals(Buffer.buffer(content).getBuffer(900, 1000), buff);
+          return file.close();
+        })
+        .onComplete(onSuccess(v -> testComplete()));
+    }));
+    await();
+  }
+
+  @Test
+  public void testBatch() throws Exception {
+    testBatch(vertx.fileSystem().batch());
+  }
+
+  @Test
+  public void testSequentialBatch() throws Exception {
+    testBatch(new SequentialFileSystemBatch(vertx.fileSystem()));
+  }
+
+  private void testBatch(FileSystemBatch batch) throws Exception {
+    byte[] content = TestUtils.randomByteArray(1000);
+    createFile("some-file.dat", content);
+    Future<Buffer> read = batch.readFile(testDir + pathSep + "some-file.dat");
+    Future<FileProps> props = batch.props(testDir + pathSep + "some-file.dat");
+    Future<Boolean> exists = batch.exists(testDir + pathSep + "missing-file.dat");
+    Future<Buffer> missing = batch.readFile(testDir + pathSep + "missing-file.dat");
+    Future<Void> write = batch.writeFile(testDir + pathSep + "other-file.dat", Buffer.buffer("hello"));
+    Future<List<String>> dir = batch.readDir(testDir);
+    assertEquals(6, batch.size());
+    batch.submit().onComplete(onFailure(err -> {
+      assertSame(missing.cause(), err);
+      assertEquals(Buffer.buffer(content), read.result());
+      assertEquals(1000, props.result().size());
+      assertFalse(exists.result());
+      assertTrue(write.succeeded());
+      // Operations are performed in order
+      assertEquals(2, dir.result().size());
+      assertIllegalStateException(() -> batch.exists(testDir));
+      assertIllegalStateException(batch::submit);
+      testComplete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testEmptyBatch() {
+    vertx.fileSystem().batch().submit().onComplete(onSuccess(v -> testComplete()));
+    await();
+  }
+
+  @Test
+  public void testMemoryMappedWriteOnly() throws Exception {
+    String fileName = "some-file.dat";
+    vertx.fileSystem().open(testDir + pathSep + fileName, new OpenOptions().setRead(false).setMemoryMapped(true), onFailure(err -> {
+      assertFalse(fileExists(fileName));
+      testComplete();
+    }));
+    await();
+  }
+
   @Test
   public void testWriteStreamAppend() throws Exception {
     String fileName = "some-file.dat";
@@ -1788,6 +1940,20 @@ public class FileSystemTest extends VertxTestBase {
     assertFalse(opts.isSparse());
     assertEquals(opts, opts.setSparse(true));
     assertTrue(opts.isSparse());
+    assertFalse(opts.isAdaptiveIo());
+    assertEquals(opts, opts.setAdaptiveIo(true));
+    assertTrue(opts.isAdaptiveIo());
+    assertEquals(OpenOptions.DEFAULT_ADAPTIVE_IO_MAX_BUFFER_SIZE, opts.getAdaptiveIoMaxBufferSize());
+    assertEquals(opts, opts.setAdaptiveIoMaxBufferSize(1024));
+    assertEquals(1024, opts.getAdaptiveIoMaxBufferSize());
+    assertIllegalArgumentException(() -> opts.setAdaptiveIoMaxBufferSize(0));
+    assertFalse(opts.isMemoryMapped());
+    assertEquals(opts, opts.setMemoryMapped(true));
+    assertTrue(opts.isMemoryMapped());
+    assertEquals(OpenOptions.DEFAULT_MEMORY_MAP_WINDOW_SIZE, opts.getMemoryMapWindowSize());
+    assertEquals(opts, opts.setMemoryMapWindowSize(4096));
+    assertEquals(4096, opts.getMemoryMapWindowSize());
+    assertIllegalArgumentException(() -> opts.setMemoryMapWindowSize(0));
   }
 
   @Test
@@ -1804,6 +1970,10 @@ public class FileSystemTest extends VertxTestBase {
     assertEquals(def.isSparse(), json.isSparse());
     assertEquals(def.isSync(), json.isSync());
     assertEquals(def.isDsync(), json.isDsync());
+    assertEquals(def.isAdaptiveIo(), json.isAdaptiveIo());
+    assertEquals(def.getAdaptiveIoMaxBufferSize(), json.getAdaptiveIoMaxBufferSize());
+    assertEquals(def.isMemoryMapped(), json.isMemoryMapped());
+    assertEquals(def.getMemoryMapWindowSize(), json.getMemoryMapWindowSize());
   }
 
   @Test
@@ -11,10 +11,15 @@
 
 package io.vertx.core.file;
 
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.impl.FileResolver;
+import org.junit.Test;
+
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
 import java.util.jar.JarEntry;
 import java.util.jar.JarOutputStream;
 
@@ -41,4 +46,53 @@ public class JarFileResolverTest extends FileResolverTestBase {
     File files = getFiles(baseDir);
     return new URLClassLoader(new URL[]{files.toURI().toURL()}, Thread.currentThread().getContextClassLoader());
   }
+
+  @Test
+  public void testResolveResourceFromIndex() throws Exception {
+    FileResolver indexed = new FileResolver(new FileSystemOptions().setClassPathIndexEnabled(true).setClassPathIndexMemoryMaxSize(1024));
+    try {
+      assertTrue(indexed.isIndexEnabled());
+      indexed.buildIndex();
+      assertTrue(indexed.awaitIndex(20, TimeUnit.SECONDS));
+      Buffer content = indexed.resolveResource("afile.html");
+      assertEquals("<html><body>afile</body></html>", content.toString());
+      assertSame(content, indexed.resolveResource("afile.html"));
+      assertNull(indexed.resolveResource("webroot/subdir"));
+      assertNull(indexed.resolveResource("doesnotexist.txt"));
+      // Resolving a resource from the class path still works
+      File file = indexed.resolveFile("afile.html");
+      assertTrue(file.exists());
+    } finally {
+      indexed.close();
+    }
+  }
+
+  @Test
+  public void testResolveResourceFromIndexEviction() throws Exception {
+    // Only one of the resources fits in memory
+    FileResolver indexed = new FileResolver(new FileSystemOptions().setClassPathIndexEnabled(true).setClassPathIndexMemoryTotalSize(48));
+    try {
+      indexed.buildIndex();
+      Buffer content = indexed.resolveResource("afile.html");
+      assertSame(content, indexed.resolveResource("afile.html"));
+      assertEquals("<html><body>afile with spaces</body></html>", indexed.resolveResource("afile with spaces.html").toString());
+      Buffer reloaded = indexed.resolveResource("afile.html");
+      assertEquals(content, reloaded);
+      assertNotSame(content, reloaded);
+    } finally {
+      indexed.close();
+    }
+  }
+
+  @Test
+  public void testResolveResourceFromIndexWithoutCaching() throws Exception {
+    FileResolver indexed = new FileResolver(new FileSystemOptions().setClassPathIndexEnabled(true).setFileCachingEnabled(false));
+    try {
+      indexed.buildIndex();
+      assertNull(indexed.resolveResource("afile.html"));
+      assertTrue(indexed.resolveFile("afile.html").exists());
+    } finally {
+      indexed.close();
+    }
+  }
 }
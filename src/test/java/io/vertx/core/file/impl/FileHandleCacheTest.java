@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.file.impl;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.*;
+
+public class FileHandleCacheTest {
+
+  @Rule
+  public TemporaryFolder testFolder = new TemporaryFolder();
+
+  private FileHandleCache cache(int maxSize, long maxAge) {
+    return new FileHandleCache(name -> new File(testFolder.getRoot(), name), maxSize, maxAge);
+  }
+
+  private File createFile(String name, String content) throws Exception {
+    File file = new File(testFolder.getRoot(), name);
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
+  @Test
+  public void testReuseHandle() throws Exception {
+    createFile("index.html", "<html></html>");
+    FileHandleCache cache = cache(4, 60_000);
+    FileHandleCache.Handle h1 = cache.acquire("index.html");
+    FileHandleCache.Handle h2 = cache.acquire("index.html");
+    assertSame(h1, h2);
+    assertEquals(13, h1.length());
+    assertEquals("text/html", h1.contentType());
+    h1.release();
+    h2.release();
+    assertTrue(h1.channel().isOpen());
+    cache.close();
+    assertFalse(h1.channel().isOpen());
+  }
+
+  @Test
+  public void testModifiedFile() throws Exception {
+    File file = createFile("data.txt", "abc");
+    FileHandleCache cache = cache(4, 0);
+    FileHandleCache.Handle h1 = cache.acquire("data.txt");
+    Files.write(file.toPath(), "abcdef".getBytes(StandardCharsets.UTF_8));
+    FileHandleCache.Handle h2 = cache.acquire("data.txt");
+    assertNotSame(h1, h2);
+    assertEquals(6, h2.length());
+    // The transfer holding the stale handle keeps it open
+    assertTrue(h1.channel().isOpen());
+    h1.release();
+    assertFalse(h1.channel().isOpen());
+    h2.release();
+    cache.close();
+  }
+
+  @Test
+  public void testEviction() throws Exception {
+    createFile("a.txt", "a");
+    createFile("b.txt", "b");
+    FileHandleCache cache = cache(1, 60_000);
+    FileHandleCache.Handle a = cache.acquire("a.txt");
+    a.release();
+    FileHandleCache.Handle b = cache.acquire("b.txt");
+    b.release();
+    assertEquals(1, cache.size());
+    assertFalse(a.channel().isOpen());
+    assertTrue(b.channel().isOpen());
+    cache.close();
+  }
+
+  @Test
+  public void testRegionRelease() throws Exception {
+    createFile("data.txt", "abc");
+    FileHandleCache cache = cache(4, 60_000);
+    FileHandleCache.Handle handle = cache.acquire("data.txt");
+    handle.region(0, 3).release();
+    handle.release();
+    cache.close();
+    assertFalse(handle.channel().isOpen());
+  }
+
+  @Test
+  public void testMissingFile() throws Exception {
+    FileHandleCache cache = cache(4, 60_000);
+    try {
+      cache.acquire("missing.txt");
+      fail();
+    } catch (FileNotFoundException ignore) {
+    }
+    testFolder.newFolder("dir");
+    try {
+      cache.acquire("dir");
+      fail();
+    } catch (FileNotFoundException ignore) {
+    }
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testAcquireSibling() throws Exception {
+    createFile("index.html", "<html></html>");
+    FileHandleCache cache = cache(4, 60_000);
+    FileHandleCache.Handle handle = cache.acquire("index.html");
+    // The missing sibling is remembered
+    assertNull(cache.acquireSibling(handle, ".gz"));
+    File gz = createFile("index.html.gz", "gz");
+    assertNull(cache.acquireSibling(handle, ".gz"));
+    handle.release();
+    cache.close();
+    cache = cache(4, 0);
+    handle = cache.acquire("index.html");
+    FileHandleCache.Handle sibling = cache.acquireSibling(handle, ".gz");
+    assertNotNull(sibling);
+    assertEquals(gz, sibling.file());
+    assertEquals(2, sibling.length());
+    sibling.release();
+    handle.release();
+    cache.close();
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.file.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.spi.metrics.FileSystemMetrics;
+import io.vertx.test.core.TestUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class MappedFileTest {
+
+  @Rule
+  public TemporaryFolder testFolder = new TemporaryFolder();
+
+  private final AtomicLong mappedBytes = new AtomicLong();
+  private final FileSystemMetrics metrics = new FileSystemMetrics() {
+    @Override
+    public void mapped(long bytes) {
+      mappedBytes.addAndGet(bytes);
+    }
+    @Override
+    public void unmapped(long bytes) {
+      mappedBytes.addAndGet(-bytes);
+    }
+  };
+
+  private MappedFile open(byte[] content, int windowSize) throws Exception {
+    File file = testFolder.newFile();
+    Files.write(file.toPath(), content);
+    return new MappedFile(FileChannel.open(file.toPath(), StandardOpenOption.READ), windowSize, metrics);
+  }
+
+  @Test
+  public void testReadAcrossWindows() throws Exception {
+    byte[] content = TestUtils.randomByteArray(1000);
+    MappedFile mapped = open(content, 300);
+    Buffer dst = Buffer.buffer();
+    assertEquals(500, mapped.read(250, dst, 0, 500));
+    assertEquals(Buffer.buffer(content).slice(250, 750), dst);
+    assertEquals(900, mappedBytes.get());
+    assertEquals(100, mapped.read(900, dst, 0, 500));
+    mapped.close();
+    assertEquals(0, mappedBytes.get());
+  }
+
+  @Test
+  public void testReadAfterClose() throws Exception {
+    MappedFile mapped = open(TestUtils.randomByteArray(100), 300);
+    mapped.close();
+    try {
+      mapped.read(0, Buffer.buffer(), 0, 100);
+      fail();
+    } catch (ClosedChannelException ignore) {
+    }
+  }
+
+  @Test
+  public void testEscapedWindowReportedWhenReclaimed() throws Exception {
+    MappedFile mapped = open(TestUtils.randomByteArray(100), 300);
+    ByteBuffer view = mapped.slice(0, 100);
+    assertEquals(100, view.remaining());
+    mapped.close();
+    assertEquals(100, mappedBytes.get());
+    view = null;
+    for (int i = 0; i < 50 && mappedBytes.get() != 0; i++) {
+      System.gc();
+      Thread.sleep(10);
+      // Closing a mapped file reports the reclaimed windows
+      open(new byte[0], 300).close();
+    }
+    assertEquals(0, mappedBytes.get());
+  }
+}
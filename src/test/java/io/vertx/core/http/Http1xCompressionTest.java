@@ -10,8 +10,31 @@
  */
 package io.vertx.core.http;
 
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileSystemOptions;
+import io.vertx.test.core.TestUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.GZIPInputStream;
+
 public class Http1xCompressionTest extends HttpCompressionTest {
 
+  @Rule
+  public TemporaryFolder testFolder = new TemporaryFolder();
+
   public Http1xCompressionTest(int compressionLevel) {
     super(compressionLevel);
   }
@@ -25,4 +48,148 @@ public class Http1xCompressionTest extends HttpCompressionTest {
   protected HttpClientOptions createBaseClientOptions() {
     return new HttpClientOptions().setDefaultPort(DEFAULT_HTTP_PORT).setDefaultHost(DEFAULT_HTTP_HOST);
   }
+
+  @Test
+  public void testSendPrecompressedFile() throws Exception {
+    String content = TestUtils.randomAlphaString(1000);
+    byte[] precompressed = TestUtils.randomByteArray(100);
+    File file = testFolder.newFile("index.html");
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    Files.write(new File(testFolder.getRoot(), "index.html.gz").toPath(), precompressed);
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions()
+      .setCompressionSupported(true)
+      .setPrecompressedFilesSupported(true));
+    server.requestHandler(req -> req.response().sendFile(file.getAbsolutePath()));
+    startServer();
+    get("br;q=0, gzip")
+      .compose(resp -> {
+        assertEquals("gzip", resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("text/html", resp.getHeader(HttpHeaders.CONTENT_TYPE));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING.toString(), resp.getHeader(HttpHeaders.VARY));
+        assertEquals(String.valueOf(precompressed.length), resp.getHeader(HttpHeaders.CONTENT_LENGTH));
+        return resp.body();
+      })
+      .compose(body -> {
+        assertEquals(Buffer.buffer(precompressed), body);
+        return get("identity");
+      })
+      .compose(resp -> {
+        assertNull(resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+        return resp.body();
+      })
+      .onComplete(onSuccess(body -> {
+        assertEquals(content, body.toString());
+        testComplete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testSendPrecompressedFileFromFileHandleCache() throws Exception {
+    String content = TestUtils.randomAlphaString(1000);
+    byte[] precompressed = TestUtils.randomByteArray(100);
+    File file = testFolder.newFile("index.html");
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    File other = testFolder.newFile("other.html");
+    Files.write(other.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    Files.write(new File(testFolder.getRoot(), "index.html.gz").toPath(), precompressed);
+    Vertx cached = vertx(new VertxOptions().setFileSystemOptions(new FileSystemOptions().setSendFileCacheMaxSize(8)));
+    server.close();
+    server = cached.createHttpServer(createBaseServerOptions()
+      .setPrecompressedFilesSupported(true));
+    server.requestHandler(req -> req.response().sendFile(req.path().equals("/other.html") ? other.getAbsolutePath() : file.getAbsolutePath()));
+    startServer(cached.getOrCreateContext(), server);
+    get("gzip")
+      .compose(resp -> {
+        assertEquals("gzip", resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("text/html", resp.getHeader(HttpHeaders.CONTENT_TYPE));
+        return resp.body();
+      })
+      .compose(body -> {
+        assertEquals(Buffer.buffer(precompressed), body);
+        return client.request(new RequestOptions().setURI("/other.html").addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+          .compose(HttpClientRequest::send);
+      })
+      .compose(resp -> {
+        // No pre-compressed sibling
+        assertNull(resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("text/html", resp.getHeader(HttpHeaders.CONTENT_TYPE));
+        return resp.body();
+      })
+      .onComplete(onSuccess(body -> {
+        assertEquals(content, body.toString());
+        testComplete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testSendFileCompressedFileCache() throws Exception {
+    String content = TestUtils.randomAlphaString(10_000);
+    File file = testFolder.newFile("index.html");
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions()
+      .setCompressionSupported(true)
+      .setCompressedFileCacheMaxSize(1024 * 1024));
+    server.requestHandler(req -> req.response().sendFile(file.getAbsolutePath()));
+    startServer();
+    get("gzip")
+      .compose(resp -> {
+        // Compressed on the fly while the file is compressed in the background
+        assertEquals("gzip", resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+        return resp.body().map(this::gunzip);
+      })
+      .compose(body -> {
+        assertEquals(content, body);
+        return getCompressedFile(100);
+      })
+      .onComplete(onSuccess(body -> {
+        assertEquals(content, body);
+        testComplete();
+      }));
+    await();
+  }
+
+  /**
+   * Get the file until the response is served from the compressed file cache, i.e has a content length.
+   */
+  private Future<String> getCompressedFile(int attempts) {
+    return get("gzip").compose(resp -> {
+      if (resp.getHeader(HttpHeaders.CONTENT_LENGTH) != null || attempts == 0) {
+        return gzipBody(resp);
+      }
+      Promise<String> promise = Promise.promise();
+      resp.body().onComplete(ar -> vertx.setTimer(10, id -> getCompressedFile(attempts - 1).onComplete(promise)));
+      return promise.future();
+    });
+  }
+
+  private Future<HttpClientResponse> get(String acceptEncoding) {
+    return client.request(new RequestOptions().addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+      .compose(HttpClientRequest::send);
+  }
+
+  private Future<String> gzipBody(HttpClientResponse resp) {
+    assertEquals("gzip", resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+    return resp.body().map(body -> {
+      assertEquals(String.valueOf(body.length()), resp.getHeader(HttpHeaders.CONTENT_LENGTH));
+      return gunzip(body);
+    });
+  }
+
+  private String gunzip(Buffer body) {
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body.getBytes()))) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] buffer = new byte[1024];
+      int amount;
+      while ((amount = in.read(buffer)) != -1) {
+        out.write(buffer, 0, amount);
+      }
+      return out.toString("UTF-8");
+    } catch (IOException e) {
+      throw new AssertionError(e);
+    }
+  }
 }
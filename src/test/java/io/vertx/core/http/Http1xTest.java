@@ -410,6 +410,15 @@ public class Http1xTest extends HttpTest {
     assertEquals(options, options.setDecompressionSupported(true));
     assertTrue(options.isDecompressionSupported());
 
+    assertFalse(options.isPrecompressedFilesSupported());
+    assertEquals(options, options.setPrecompressedFilesSupported(true));
+    assertTrue(options.isPrecompressedFilesSupported());
+
+    assertEquals(HttpServerOptions.DEFAULT_COMPRESSED_FILE_CACHE_MAX_SIZE, options.getCompressedFileCacheMaxSize());
+    assertEquals(options, options.setCompressedFileCacheMaxSize(1024 * 1024));
+    assertEquals(1024 * 1024, options.getCompressedFileCacheMaxSize());
+    assertIllegalArgumentException(() -> options.setCompressedFileCacheMaxSize(-1));
+
     assertEquals(HttpServerOptions.DEFAULT_DECODER_INITIAL_BUFFER_SIZE, options.getDecoderInitialBufferSize());
     assertEquals(options, options.setDecoderInitialBufferSize(256));
     assertEquals(256, options.getDecoderInitialBufferSize());
@@ -809,6 +818,8 @@ public class Http1xTest extends HttpTest {
     options.setInitialSettings(initialSettings);
     options.setAlpnVersions(alpnVersions);
     options.setDecompressionSupported(decompressionSupported);
+    options.setPrecompressedFilesSupported(TestUtils.randomBoolean());
+    options.setCompressedFileCacheMaxSize(TestUtils.randomPositiveLong());
     options.setAcceptUnmaskedFrames(acceptUnmaskedFrames);
     options.setDecoderInitialBufferSize(decoderInitialBufferSize);
 
@@ -866,6 +877,8 @@ public class Http1xTest extends HttpTest {
     assertEquals(def.getAlpnVersions(), json.getAlpnVersions());
     assertEquals(def.getHttp2ConnectionWindowSize(), json.getHttp2ConnectionWindowSize());
     assertEquals(def.isDecompressionSupported(), json.isDecompressionSupported());
+    assertEquals(def.isPrecompressedFilesSupported(), json.isPrecompressedFilesSupported());
+    assertEquals(def.getCompressedFileCacheMaxSize(), json.getCompressedFileCacheMaxSize());
     assertEquals(def.isAcceptUnmaskedFrames(), json.isAcceptUnmaskedFrames());
     assertEquals(def.getDecoderInitialBufferSize(), json.getDecoderInitialBufferSize());
   }
@@ -1386,6 +1386,37 @@ public class Http2ServerTest extends Http2TestBase {
     testSendFile(expected, tmp.getAbsolutePath(), 0, expected.length());
   }
 
+  @Test
+  public void testSendFileResetStream() throws Exception {
+    Buffer content = Buffer.buffer(TestUtils.randomAlphaString(1000 * 1000));
+    File tmp = createTempFile(content);
+    server.requestHandler(req -> {
+      req.response().sendFile(tmp.getAbsolutePath(), onFailure(err -> testComplete()));
+    });
+    startServer();
+    TestClient client = new TestClient();
+    ChannelFuture fut = client.connect(DEFAULT_HTTPS_PORT, DEFAULT_HTTPS_HOST, request -> {
+      request.decoder.frameListener(new Http2EventAdapter() {
+        boolean reset;
+        @Override
+        public int onDataRead(ChannelHandlerContext ctx, int streamId, ByteBuf data, int padding, boolean endOfStream) throws Http2Exception {
+          // Do not consume the window, the transfer stalls until the stream is reset
+          if (!reset) {
+            reset = true;
+            request.encoder.writeRstStream(ctx, streamId, Http2Error.CANCEL.code(), ctx.newPromise());
+            ctx.flush();
+          }
+          return 0;
+        }
+      });
+      int id = request.nextStreamId();
+      request.encoder.writeHeaders(request.context, id, GET("/"), 0, true, request.context.newPromise());
+      request.context.flush();
+    });
+    fut.sync();
+    await();
+  }
+
   private void testSendFile(Buffer expected, String path, long offset, long length) throws Exception {
     waitFor(2);
     server.requestHandler(req -> {
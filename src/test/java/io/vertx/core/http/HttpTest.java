@@ -21,8 +21,10 @@ import io.vertx.core.*;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.dns.AddressResolverOptions;
 import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.FileSystemOptions;
 import io.vertx.core.http.impl.HttpServerRequestInternal;
 import io.vertx.core.impl.Utils;
+import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.net.*;
 import io.vertx.core.net.impl.HAProxyMessageCompletionHandler;
 import io.vertx.core.streams.Pump;
@@ -41,6 +43,8 @@ import org.junit.rules.TemporaryFolder;
 
 import java.io.*;
 import java.net.ServerSocket;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.text.DateFormat;
@@ -52,6 +56,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 import java.util.stream.IntStream;
 
 import static io.vertx.core.http.HttpMethod.PUT;
@@ -1980,6 +1986,38 @@ public abstract class HttpTest extends HttpTestBase {
       () -> client.request(requestOptions).map(req -> req.putHeader(HttpHeaders.CONNECTION, "close")));
   }
 
+  @Test
+  public void testSendFileWithSendFileCache() throws Exception {
+    String content = TestUtils.randomUnicodeString(10000);
+    File fileToSend = setupFile("test-send-file.html", content);
+    Vertx cachingVertx = vertx(new VertxOptions().setFileSystemOptions(new FileSystemOptions().setSendFileCacheMaxSize(16)));
+    server = cachingVertx.createHttpServer(createBaseServerOptions());
+    server.requestHandler(req -> req.response().sendFile(fileToSend.getAbsolutePath()));
+    startServer(testAddress);
+    int num = 3;
+    waitFor(num);
+    sendSequentially(num, () -> client.request(requestOptions)
+      .compose(req -> req.send()
+        .compose(resp -> {
+          assertEquals(200, resp.statusCode());
+          assertEquals("text/html", resp.headers().get("Content-Type"));
+          assertEquals(fileToSend.length(), Long.parseLong(resp.headers().get("content-length")));
+          return resp.body();
+        }))
+      .onComplete(onSuccess(body -> {
+        assertEquals(content, body.toString());
+        complete();
+      })));
+    await();
+    assertEquals(1, ((VertxInternal) cachingVertx).sendFileCache().size());
+  }
+
+  private void sendSequentially(int num, Supplier<Future<Buffer>> request) {
+    if (num > 0) {
+      request.get().onSuccess(v -> sendSequentially(num - 1, request));
+    }
+  }
+
   private void sendFile(String fileName, String contentExpected, boolean useHandler, Supplier<Future<HttpClientRequest>> requestFact) throws Exception {
     waitFor(2);
     File fileToSend = setupFile(fileName, contentExpected);
@@ -2161,6 +2199,42 @@ public abstract class HttpTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testSendRangeFileFromClassPathIndex() throws Exception {
+    // Only the jar resources are served from memory
+    File jar = new File(testDir, "resources.jar");
+    try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+      out.putNextEntry(new JarEntry("indexed.txt"));
+      out.write("example.server.net".getBytes());
+      out.closeEntry();
+    }
+    ClassLoader prev = Thread.currentThread().getContextClassLoader();
+    Thread.currentThread().setContextClassLoader(new URLClassLoader(new URL[]{jar.toURI().toURL()}, prev));
+    try {
+      Vertx indexed = vertx(new VertxOptions().setFileSystemOptions(new FileSystemOptions().setClassPathIndexEnabled(true)));
+      // The resource is served from memory once the class path is indexed
+      assertWaitUntil(() -> ((VertxInternal) indexed).resolveResource("indexed.txt") != null);
+      server.close();
+      server = indexed.createHttpServer(createBaseServerOptions());
+      server.requestHandler(req -> {
+        req.response().sendFile("indexed.txt", 8, 10);
+      }).listen(testAddress, onSuccess(res -> {
+        client.request(requestOptions)
+          .compose(HttpClientRequest::send)
+          .compose(resp -> {
+            assertEquals(String.valueOf(10), resp.headers().get("Content-Length"));
+            return resp.body();
+          }).onComplete(onSuccess(body -> {
+          assertEquals("server.net", body.toString());
+          testComplete();
+        }));
+      }));
+      await();
+    } finally {
+      Thread.currentThread().setContextClassLoader(prev);
+    }
+  }
+
   @Test
   public void test100ContinueHandledAutomatically() {
     Buffer toSend = TestUtils.randomBuffer(1000);
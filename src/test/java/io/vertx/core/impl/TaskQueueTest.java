@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.impl;
+
+import io.vertx.test.core.AsyncTestBase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+public class TaskQueueTest extends AsyncTestBase {
+
+  private ExecutorService executor1;
+  private ExecutorService executor2;
+
+  @Before
+  public void before() {
+    executor1 = Executors.newFixedThreadPool(4, namedThreadFactory("executor1"));
+    executor2 = Executors.newFixedThreadPool(4, namedThreadFactory("executor2"));
+  }
+
+  @After
+  public void after() {
+    executor1.shutdownNow();
+    executor2.shutdownNow();
+  }
+
+  private static ThreadFactory namedThreadFactory(String name) {
+    return r -> new Thread(r, name);
+  }
+
+  @Test
+  public void testOrderWithConcurrentProducers() throws Exception {
+    int numProducers = 4;
+    int numTasks = 10000;
+    TaskQueue queue = new TaskQueue();
+    List<List<Integer>> results = new ArrayList<>();
+    for (int i = 0; i < numProducers; i++) {
+      results.add(Collections.synchronizedList(new ArrayList<>()));
+    }
+    CountDownLatch done = new CountDownLatch(numProducers * numTasks);
+    Thread[] producers = new Thread[numProducers];
+    for (int i = 0; i < numProducers; i++) {
+      int producer = i;
+      producers[i] = new Thread(() -> {
+        for (int j = 0; j < numTasks; j++) {
+          int val = j;
+          queue.execute(() -> {
+            results.get(producer).add(val);
+            done.countDown();
+          }, val % 2 == 0 ? executor1 : executor2);
+        }
+      });
+    }
+    for (Thread producer : producers) {
+      producer.start();
+    }
+    awaitLatch(done);
+    for (List<Integer> result : results) {
+      assertEquals(numTasks, result.size());
+      for (int j = 0; j < numTasks; j++) {
+        assertEquals(j, (int) result.get(j));
+      }
+    }
+  }
+
+  @Test
+  public void testRunTasksOnTheirExecutor() throws Exception {
+    TaskQueue queue = new TaskQueue();
+    int numTasks = 1000;
+    CountDownLatch done = new CountDownLatch(numTasks);
+    for (int i = 0; i < numTasks; i++) {
+      String expected = i % 3 == 0 ? "executor1" : "executor2";
+      queue.execute(() -> {
+        assertEquals(expected, Thread.currentThread().getName());
+        done.countDown();
+      }, i % 3 == 0 ? executor1 : executor2);
+    }
+    assertTrue(done.await(20, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testNoConcurrentExecution() throws Exception {
+    TaskQueue queue = new TaskQueue();
+    int numTasks = 10000;
+    int[] counter = new int[1];
+    CountDownLatch done = new CountDownLatch(numTasks);
+    for (int i = 0; i < numTasks; i++) {
+      executor1.execute(() -> queue.execute(() -> {
+        // Non atomic increment, the queue guarantees visibility and mutual exclusion
+        counter[0]++;
+        done.countDown();
+      }, executor2));
+    }
+    awaitLatch(done);
+    CountDownLatch check = new CountDownLatch(1);
+    queue.execute(() -> {
+      assertEquals(numTasks, counter[0]);
+      check.countDown();
+    }, executor2);
+    awaitLatch(check);
+  }
+}
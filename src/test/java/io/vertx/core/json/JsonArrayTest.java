@@ -798,6 +798,39 @@ public class JsonArrayTest {
     assertEquals(5, copy.size());
   }
 
+  @Test
+  public void testFreeze() {
+    jsonArray.add("foo");
+    jsonArray.add(new JsonObject().put("foo", "bar"));
+    jsonArray.add(new JsonArray().add(123));
+    JsonArray frozen = jsonArray.freeze();
+    assertFalse(jsonArray.isFrozen());
+    assertTrue(frozen.isFrozen());
+    assertSame(frozen, frozen.freeze());
+    assertEquals(jsonArray, frozen);
+    try {
+      frozen.add("bar");
+      fail();
+    } catch (UnsupportedOperationException ignore) {
+    }
+    try {
+      frozen.getJsonObject(1).put("foo", "juu");
+      fail();
+    } catch (UnsupportedOperationException ignore) {
+    }
+    try {
+      frozen.getJsonArray(2).remove(0);
+      fail();
+    } catch (UnsupportedOperationException ignore) {
+    }
+    jsonArray.getJsonObject(1).put("foo", "juu");
+    assertEquals("bar", frozen.getJsonObject(1).getString("foo"));
+    JsonArray copy = frozen.copy();
+    assertFalse(copy.isFrozen());
+    copy.add("bar");
+    assertEquals(3, frozen.size());
+  }
+
   @Test
   public void testInvalidValsOnCopy1() {
     SomeClass invalid = new SomeClass();
@@ -1407,4 +1440,20 @@ public class JsonArrayTest {
       assertTrue(o instanceof TimeUnit);
     }
   }
+
+  @Test
+  public void testLazy() {
+    String json = "[\"foo\", 123, {\"bar\":[true]}, [], null]";
+    JsonArray arr = JsonArray.lazy(Buffer.buffer(json));
+    assertEquals(5, arr.size());
+    assertEquals("foo", arr.getString(0));
+    assertEquals(123, (int) arr.getInteger(1));
+    assertTrue(arr.getJsonObject(2).getJsonArray("bar").getBoolean(0));
+    assertTrue(arr.getJsonArray(3).isEmpty());
+    assertTrue(arr.hasNull(4));
+    assertEquals(json, arr.encode());
+    assertEquals(new JsonArray(json), arr);
+    arr.remove(0);
+    assertEquals("[123,{\"bar\":[true]},[],null]", arr.encode());
+  }
 }
@@ -22,6 +22,7 @@ import java.math.BigInteger;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
@@ -1392,6 +1393,48 @@ public class JsonObjectTest {
     assertEquals("blah", copy.getString("eek"));
   }
 
+  @Test
+  public void testFreeze() {
+    byte[] bytes = TestUtils.randomByteArray(10);
+    jsonObject.put("foo", "bar");
+    jsonObject.put("wibble", new JsonObject().put("quux", 123));
+    jsonObject.put("arr", new JsonArray().add("x"));
+    jsonObject.put("bin", bytes);
+    JsonObject frozen = jsonObject.freeze();
+    assertFalse(jsonObject.isFrozen());
+    assertTrue(frozen.isFrozen());
+    assertSame(frozen, frozen.freeze());
+    assertEquals(jsonObject, frozen);
+    assertEquals(jsonObject.encode(), frozen.encode());
+    assertEquals(new ArrayList<>(jsonObject.fieldNames()), new ArrayList<>(frozen.fieldNames()));
+    assertUnsupported(() -> frozen.put("blah", "flib"));
+    assertUnsupported(() -> frozen.remove("foo"));
+    assertUnsupported(frozen::clear);
+    assertUnsupported(() -> frozen.getJsonObject("wibble").put("blah", "flib"));
+    assertUnsupported(() -> frozen.getJsonArray("arr").add("y"));
+    assertTrue(frozen.getJsonObject("wibble").isFrozen());
+    assertTrue(frozen.getJsonArray("arr").isFrozen());
+    assertTrue(frozen.getBuffer("bin").isReadOnly());
+    frozen.getBinary("bin")[0]++;
+    assertTrue(Arrays.equals(bytes, frozen.getBinary("bin")));
+    jsonObject.getJsonObject("wibble").put("quux", 456);
+    assertEquals(123, (int) frozen.getJsonObject("wibble").getInteger("quux"));
+    JsonObject copy = frozen.copy();
+    assertFalse(copy.isFrozen());
+    assertEquals(frozen, copy);
+    copy.put("blah", "flib");
+    copy.getJsonObject("wibble").put("blah", "flib");
+    assertFalse(frozen.containsKey("blah"));
+  }
+
+  private static void assertUnsupported(Runnable r) {
+    try {
+      r.run();
+      fail();
+    } catch (UnsupportedOperationException ignore) {
+    }
+  }
+
   @Test
   public void testInvalidValsOnCopy1() {
     SomeClass invalid = new SomeClass();
@@ -1932,4 +1975,114 @@ public class JsonObjectTest {
     }
   }
 
+  @Test
+  public void testLazy() {
+    String json = " {\"foo\" : \"bar\", \"num\":123, \"obj\":{\"arr\":[1, 2.5, true, null]}, \"foo\":\"baz\"} ";
+    JsonObject obj = JsonObject.lazy(Buffer.buffer(json));
+    assertEquals(3, obj.size());
+    assertEquals("baz", obj.getString("foo"));
+    assertEquals(123, (int) obj.getInteger("num"));
+    assertTrue(obj.containsKey("obj"));
+    assertFalse(obj.containsKey("other"));
+    assertNull(obj.getValue("other"));
+    JsonArray arr = obj.getJsonObject("obj").getJsonArray("arr");
+    assertEquals(4, arr.size());
+    assertEquals(2.5d, arr.getDouble(1), 0d);
+    assertTrue(arr.getBoolean(2));
+    assertTrue(arr.hasNull(3));
+    assertEquals(Arrays.asList("foo", "num", "obj"), new ArrayList<>(obj.fieldNames()));
+    assertEquals(new JsonObject(json), obj);
+  }
+
+  @Test
+  public void testLazyEncode() {
+    String json = "{\"foo\" : \"bar\", \"obj\" : {\"num\" : 1}}";
+    JsonObject obj = JsonObject.lazy(Buffer.buffer(" " + json + "\n"));
+    // Untouched bytes are written as is
+    assertEquals(json, obj.encode());
+    assertEquals(Buffer.buffer(json), obj.toBuffer());
+    assertEquals("[" + json + "]", new JsonArray().add(obj).encode());
+    assertEquals(json, obj.copy().encode());
+    assertEquals(new JsonObject(json), new JsonObject(obj.encodePrettily()));
+    obj.getJsonObject("obj").put("num", 2);
+    assertEquals("{\"foo\":\"bar\",\"obj\":{\"num\":2}}", obj.encode());
+    assertEquals(new JsonObject().put("foo", "bar").put("obj", new JsonObject().put("num", 2)), obj);
+  }
+
+  @Test
+  public void testLazyModifyNested() {
+    JsonObject obj = JsonObject.lazy(Buffer.buffer("{\"a\":{\"b\":1},\"c\":{\"d\":[]}}"));
+    JsonObject c = obj.getJsonObject("c");
+    obj.remove("a");
+    // c was not modified
+    assertEquals("{\"c\":{\"d\":[]}}", obj.encode());
+    c.getJsonArray("d").add(1);
+    assertEquals("{\"c\":{\"d\":[1]}}", obj.encode());
+  }
+
+  @Test
+  public void testLazyConcurrentReads() throws Exception {
+    JsonObject expected = new JsonObject();
+    for (int i = 0;i < 20;i++) {
+      expected.put("field-" + i, new JsonObject().put("num", i).put("arr", new JsonArray().add(i)));
+    }
+    for (int iter = 0;iter < 100;iter++) {
+      JsonObject obj = JsonObject.lazy(expected.toBuffer());
+      int num = 4;
+      CyclicBarrier barrier = new CyclicBarrier(num);
+      List<Map<String, Object>> reads = Collections.synchronizedList(new ArrayList<>());
+      List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+      Thread[] threads = new Thread[num];
+      for (int i = 0;i < num;i++) {
+        threads[i] = new Thread(() -> {
+          try {
+            barrier.await();
+            Map<String, Object> read = new HashMap<>();
+            for (int j = 0;j < 20;j++) {
+              JsonObject nested = obj.getJsonObject("field-" + j);
+              assertEquals(j, (int) nested.getInteger("num"));
+              assertEquals(j, (int) nested.getJsonArray("arr").getInteger(0));
+              read.put("field-" + j, obj.getMap().get("field-" + j));
+            }
+            reads.add(read);
+          } catch (Throwable t) {
+            failures.add(t);
+          }
+        });
+        threads[i].start();
+      }
+      for (Thread thread : threads) {
+        thread.join();
+      }
+      assertEquals(Collections.emptyList(), failures);
+      // Concurrent readers get the same decoded values
+      for (Map<String, Object> read : reads) {
+        for (Map.Entry<String, Object> entry : read.entrySet()) {
+          assertSame(reads.get(0).get(entry.getKey()), entry.getValue());
+        }
+      }
+      assertEquals(expected, obj);
+    }
+  }
+
+  @Test
+  public void testLazyCopy() {
+    JsonObject obj = JsonObject.lazy(Buffer.buffer("{\"a\":{\"b\":1}}"));
+    JsonObject copy = obj.copy();
+    copy.getJsonObject("a").put("b", 2);
+    assertEquals(1, (int) obj.getJsonObject("a").getInteger("b"));
+    assertEquals(2, (int) copy.getJsonObject("a").getInteger("b"));
+  }
+
+  @Test
+  public void testLazyInvalid() {
+    for (String json : Arrays.asList("[]", "{\"foo\":", "{} {}")) {
+      JsonObject obj = JsonObject.lazy(Buffer.buffer(json));
+      try {
+        obj.size();
+        fail();
+      } catch (DecodeException ignore) {
+      }
+    }
+  }
 }
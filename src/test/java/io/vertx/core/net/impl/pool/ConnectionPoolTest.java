@@ -25,8 +25,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -703,6 +705,61 @@ public class ConnectionPoolTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testEventLoopSelector() throws Exception {
+    EventLoopContext ctx1 = vertx.createEventLoopContext();
+    EventLoopContext ctx2 = vertx.createEventLoopContext(ctx1.nettyEventLoop(), null, null);
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 2 });
+    pool.connectionSelector(ConnectionPool.eventLoopSelector());
+    Connection expected = new Connection();
+    CompletableFuture<Lease<Connection>> latch = new CompletableFuture<>();
+    pool.acquire(ctx1, 0, onSuccess(latch::complete));
+    mgr.assertRequest().connect(expected, 0);
+    latch.get(20, TimeUnit.SECONDS).recycle();
+    pool.acquire(ctx2, 0, onSuccess(lease -> {
+      assertSame(expected, lease.get());
+      assertEquals(1, pool.size());
+      testComplete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testConcurrentAcquireRecycle() throws Exception {
+    int numContexts = 4;
+    int numAcquires = 1000;
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 2 });
+    EventLoopContext[] contexts = new EventLoopContext[numContexts];
+    for (int i = 0;i < numContexts;i++) {
+      contexts[i] = vertx.createEventLoopContext();
+    }
+    for (int i = 0;i < 2;i++) {
+      CompletableFuture<Lease<Connection>> latch = new CompletableFuture<>();
+      pool.acquire(contexts[i], 0, onSuccess(latch::complete));
+      mgr.assertRequest().connect(new Connection(), 0);
+      latch.get(20, TimeUnit.SECONDS).recycle();
+    }
+    Set<Connection> inUse = ConcurrentHashMap.newKeySet();
+    CountDownLatch done = new CountDownLatch(numContexts * numAcquires);
+    for (EventLoopContext context : contexts) {
+      context.runOnContext(v -> {
+        for (int i = 0;i < numAcquires;i++) {
+          pool.acquire(context, 0, onSuccess(lease -> {
+            assertTrue(inUse.add(lease.get()));
+            inUse.remove(lease.get());
+            lease.recycle();
+            done.countDown();
+          }));
+        }
+      });
+    }
+    awaitLatch(done);
+    assertEquals(2, pool.size());
+    assertEquals(0, pool.waiters());
+  }
+
   static class Connection {
     public Connection() {
     }
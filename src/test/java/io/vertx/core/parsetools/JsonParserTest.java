@@ -613,6 +613,73 @@ public class JsonParserTest {
       assertEquals(LinkedList.class, values.get(0).getClass());
     }
 
+  @Test
+  public void testObjectValueModeWithType() {
+    JsonParser parser = JsonParser.newParser();
+    List<Object> values = new ArrayList<>();
+    parser.objectValueMode(TheObject.class);
+    parser.handler(event -> {
+      assertEquals(JsonEventType.VALUE, event.type());
+      values.add(event.value());
+    });
+    parser.handle(Buffer.buffer("{\"f\":\"the-value-1\"}\n{\"f\":"));
+    parser.handle(Buffer.buffer("\"the-value-2\"}"));
+    parser.end();
+    assertEquals(Arrays.asList(new TheObject("the-value-1"), new TheObject("the-value-2")), values);
+  }
+
+  @Test
+  public void testObjectValueModeWithTypeInArray() {
+    JsonParser parser = JsonParser.newParser();
+    List<Object> events = new ArrayList<>();
+    parser.objectValueMode(TheObject.class);
+    parser.handler(event -> events.add(event.type() == JsonEventType.VALUE ? event.value() : event.type()));
+    parser.handle(Buffer.buffer("[{\"f\":\"the-value-1\"},{\"f\":\"the-value-2\"}]"));
+    parser.end();
+    assertEquals(Arrays.asList(JsonEventType.START_ARRAY, new TheObject("the-value-1"), new TheObject("the-value-2"), JsonEventType.END_ARRAY), events);
+  }
+
+  @Test
+  public void testObjectValueModeWithTypeError() {
+    List<Object> values = new ArrayList<>();
+    List<Throwable> errors = new ArrayList<>();
+    JsonParser parser = JsonParser.newParser().objectValueMode(TheObject.class);
+    parser.handler(event -> values.add(event.value())).exceptionHandler(errors::add);
+    parser.write(Buffer.buffer("{\"destination\":\"unknown\"}"));
+    assertEquals(Collections.emptyList(), values);
+    assertEquals(1, errors.size());
+    assertTrue(errors.get(0) instanceof DecodeException);
+    parser.write(Buffer.buffer("{\"f\":\"the-value\"}")).end();
+    assertEquals(Collections.singletonList(new TheObject("the-value")), values);
+  }
+
+  @Test
+  public void testArrayValueModeWithType() {
+    JsonParser parser = JsonParser.newParser();
+    List<Object> values = new ArrayList<>();
+    parser.arrayValueMode(LinkedList.class);
+    parser.handler(event -> values.add(event.value()));
+    parser.handle(new JsonArray().add(0).add(1).add(2).toBuffer());
+    parser.end();
+    assertEquals(Collections.singletonList(Arrays.asList(0L, 1L, 2L)), values);
+    assertEquals(LinkedList.class, values.get(0).getClass());
+  }
+
+  @Test
+  public void testObjectValueModeNestedTree() {
+    JsonParser parser = JsonParser.newParser();
+    List<JsonEvent> events = new ArrayList<>();
+    parser.objectValueMode();
+    parser.handler(events::add);
+    parser.handle(Buffer.buffer("{\"a\":{\"b\":[1,{\"c\":null},[]]},\"d\":\"e\"}"));
+    parser.end();
+    assertEquals(1, events.size());
+    JsonObject value = events.get(0).objectValue();
+    assertEquals(new JsonObject("{\"a\":{\"b\":[1,{\"c\":null},[]]},\"d\":\"e\"}"), value);
+    assertTrue(value.getValue("a") instanceof JsonObject);
+    assertTrue(value.getJsonObject("a").getValue("b") instanceof JsonArray);
+  }
+
   public static class TheObject {
 
     private String f;
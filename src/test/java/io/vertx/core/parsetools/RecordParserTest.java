@@ -474,4 +474,28 @@ public class RecordParserTest {
     recordParser.handle(Buffer.buffer("foo\n"));
     latch.await();
   }
+
+  @Test
+  public void testRecordIsSliceOfInput() {
+    List<Buffer> records = new ArrayList<>();
+    RecordParser parser = RecordParser.newDelimited("\n", records::add);
+    Buffer input = Buffer.buffer("foo\nba");
+    parser.handle(input);
+    parser.handle(Buffer.buffer("r\n"));
+    assertEquals(Arrays.asList(Buffer.buffer("foo"), Buffer.buffer("bar")), records);
+    // The first record is contained in the input
+    input.setByte(0, (byte) 'g');
+    assertEquals(Buffer.buffer("goo"), records.get(0));
+  }
+
+  @Test
+  public void testInputModifiedAfterHandle() {
+    List<Buffer> records = new ArrayList<>();
+    RecordParser parser = RecordParser.newDelimited("\r\n", records::add);
+    Buffer input = Buffer.buffer("abc\r");
+    parser.handle(input);
+    input.appendString("\nxyz");
+    parser.handle(Buffer.buffer("def\r\n"));
+    assertEquals(Collections.singletonList(Buffer.buffer("abc\rdef")), records);
+  }
 }
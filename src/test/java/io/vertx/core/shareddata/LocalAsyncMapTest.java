@@ -11,7 +11,10 @@
 
 package io.vertx.core.shareddata;
 
+import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Vertx;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.shareddata.impl.LocalAsyncMapImpl;
 import io.vertx.test.core.Repeat;
 import org.junit.Test;
 
@@ -45,4 +48,46 @@ public class LocalAsyncMapTest extends AsyncMapTest {
   public void testMapPutIfAbsentTtl() {
     super.testMapPutIfAbsentTtl();
   }
+
+  @Test
+  public void testExpiredEntriesAreSwept() {
+    LocalAsyncMapImpl<String, String> map = new LocalAsyncMapImpl<>((VertxInternal) vertx);
+    map.put("pipo", "molo", 10);
+    map.put("mili", "mala");
+    assertWaitUntil(() -> map.expirations() == 1);
+    map.size().onComplete(onSuccess(size -> {
+      assertEquals(1, (int) size);
+      testComplete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testExpiredEntriesAreSweptAfterUndeploy() {
+    LocalAsyncMapImpl<String, String> map = new LocalAsyncMapImpl<>((VertxInternal) vertx);
+    vertx.deployVerticle(new AbstractVerticle() {
+      @Override
+      public void start() {
+        map.put("pipo", "molo", 10);
+      }
+    }).compose(vertx::undeploy).onComplete(onSuccess(v -> testComplete()));
+    await();
+    assertWaitUntil(() -> map.expirations() == 1);
+  }
+
+  @Test
+  public void testPutIfAbsentReplacesExpiredEntry() {
+    LocalAsyncMapImpl<String, String> map = new LocalAsyncMapImpl<>((VertxInternal) vertx);
+    map.put("pipo", "molo", 10);
+    vertx.setTimer(20, id -> {
+      map.putIfAbsent("pipo", "mili").onComplete(onSuccess(previous -> {
+        assertNull(previous);
+        map.get("pipo").onComplete(onSuccess(value -> {
+          assertEquals("mili", value);
+          testComplete();
+        }));
+      }));
+    });
+    await();
+  }
 }
@@ -386,4 +386,67 @@ public class LocalSharedDataTest extends VertxTestBase {
   class SomeOtherClass {
   }
 
+
+  @Test
+  public void testBoundedMapEvictsLeastRecentlyUsed() {
+    LocalMap<String, String> map = sharedData.getLocalMap("bounded", new LocalMapOptions().setMaxSize(1));
+    map.put("foo", "foo_value");
+    assertEquals("foo_value", map.get("foo"));
+    map.put("bar", "bar_value");
+    assertEquals(1, map.size());
+    assertNull(map.get("foo"));
+    assertEquals("bar_value", map.get("bar"));
+    assertEquals(2, map.hitCount());
+    assertEquals(1, map.missCount());
+    assertEquals(1, map.evictionCount());
+  }
+
+  @Test
+  public void testSmallBoundedMapEvictsLeastRecentlyUsed() {
+    int maxSize = 16;
+    LocalMap<Integer, Integer> map = sharedData.getLocalMap("bounded", new LocalMapOptions().setMaxSize(maxSize));
+    for (int i = 0; i < maxSize; i++) {
+      map.put(i, i);
+    }
+    // No entry is evicted before the map is full
+    assertEquals(maxSize, map.size());
+    assertEquals(0, map.evictionCount());
+    assertEquals(0, (int) map.get(0));
+    map.put(maxSize, maxSize);
+    assertEquals(maxSize, map.size());
+    assertEquals(0, (int) map.get(0));
+    assertNull(map.get(1));
+    assertEquals(1, map.evictionCount());
+  }
+
+  @Test
+  public void testBoundedMapSize() {
+    int maxSize = 100;
+    LocalMap<Integer, Integer> map = sharedData.getLocalMap("bounded", new LocalMapOptions().setMaxSize(maxSize));
+    for (int i = 0; i < 10 * maxSize; i++) {
+      map.put(i, i);
+      assertTrue(map.size() <= maxSize);
+    }
+    assertEquals(10 * maxSize, map.evictionCount() + map.size());
+    assertEquals(map.size(), map.keySet().size());
+  }
+
+  @Test
+  public void testBoundedMapCopiesValues() {
+    LocalMap<String, byte[]> map = sharedData.getLocalMap("bounded", new LocalMapOptions().setMaxSize(10));
+    byte[] bytes = TestUtils.randomByteArray(10);
+    map.put("foo", bytes);
+    byte[] copy = map.get("foo");
+    assertNotSame(bytes, copy);
+    assertTrue(Arrays.equals(bytes, copy));
+  }
+
+  @Test
+  public void testLocalMapOptionsIgnoredForExistingMap() {
+    LocalMap<String, String> map = sharedData.getLocalMap("foo");
+    assertSame(map, sharedData.getLocalMap("foo", new LocalMapOptions().setMaxSize(1)));
+    map.put("foo", "foo_value");
+    map.put("bar", "bar_value");
+    assertEquals(2, map.size());
+  }
 }
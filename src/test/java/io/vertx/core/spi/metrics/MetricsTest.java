@@ -20,6 +20,7 @@ import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.eventbus.EventBus;
 import io.vertx.core.eventbus.MessageConsumer;
 import io.vertx.core.eventbus.ReplyFailure;
+import io.vertx.core.file.OpenOptions;
 import io.vertx.core.http.*;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
@@ -34,6 +35,8 @@ import io.vertx.test.fakemetrics.*;
 import io.vertx.test.tls.Trust;
 import org.junit.Test;
 
+import java.io.File;
+import java.nio.file.Files;
 import java.util.*;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -461,6 +464,36 @@ public class MetricsTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testClusteredWriteBatchByteBudget() throws Exception {
+    VertxOptions options = getOptions();
+    options.getEventBusOptions()
+      .setClusterWriteBatching(true)
+      .setClusterWriteBatchMaxMessages(100)
+      .setClusterWriteBatchMaxBytes(512);
+    startNodes(2, options);
+    FakeEventBusMetrics fromMetrics = FakeMetricsBase.getMetrics(vertices[0].eventBus());
+    int num = 10;
+    AtomicInteger received = new AtomicInteger();
+    vertices[1].eventBus().consumer(ADDRESS1, msg -> {
+      if (received.incrementAndGet() == num) {
+        // Each message exceeds the byte budget and is written in its own batch
+        assertEquals(num, fromMetrics.getWrittenBatches());
+        assertEquals(num, fromMetrics.getBatchedMessages());
+        assertEquals(fromMetrics.getEncodedBytes(ADDRESS1), fromMetrics.getBatchedBytes());
+        assertTrue(fromMetrics.getBatchedBytes() > num * 512);
+        testComplete();
+      }
+    }).completionHandler(onSuccess(v -> {
+      vertices[0].runOnContext(v2 -> {
+        for (int i = 0; i < num; i++) {
+          vertices[0].eventBus().send(ADDRESS1, Buffer.buffer(new byte[1000]));
+        }
+      });
+    }));
+    await();
+  }
+
   @Test
   public void testReplyFailureNoHandlers() throws Exception {
     CountDownLatch latch = new CountDownLatch(1);
@@ -690,6 +723,36 @@ public class MetricsTest extends VertxTestBase {
     assertWaitUntil(() -> metrics.connectionCount("localhost:8080") == null);
   }
 
+  @Test
+  public void testHttpClientPoolEventLoopAffinity() throws Exception {
+    server = vertx.createHttpServer();
+    server.requestHandler(req -> req.response().end());
+    CountDownLatch listenLatch = new CountDownLatch(1);
+    server.listen(8080, "localhost", onSuccess(s -> { listenLatch.countDown(); }));
+    awaitLatch(listenLatch);
+    client = vertx.createHttpClient(new HttpClientOptions().setPoolEventLoopAffinity(true).setMaxPoolSize(20));
+    int numContexts = 2;
+    int numRequests = 5;
+    CountDownLatch latch = new CountDownLatch(numContexts);
+    for (int i = 0;i < numContexts;i++) {
+      ((VertxInternal) vertx).createEventLoopContext().runOnContext(v -> sendSequentially(numRequests, latch));
+    }
+    awaitLatch(latch);
+    EndpointMetric endpoint = ((FakeHttpClientMetrics) FakeHttpClientMetrics.getMetrics(client)).endpoint("localhost:8080");
+    assertEquals(numContexts * numRequests, endpoint.localLeases.get());
+    assertEquals(0, endpoint.remoteLeases.get());
+  }
+
+  private void sendSequentially(int remaining, CountDownLatch latch) {
+    if (remaining == 0) {
+      latch.countDown();
+      return;
+    }
+    client.request(HttpMethod.GET, 8080, "localhost", "/somepath")
+      .compose(req -> req.send().compose(HttpClientResponse::body))
+      .onComplete(onSuccess(body -> sendSequentially(remaining - 1, latch)));
+  }
+
   @Test
   public void testHttpClientMetricsQueueClose() throws Exception {
     server = vertx.createHttpServer();
@@ -1153,6 +1216,37 @@ public class MetricsTest extends VertxTestBase {
     };
   }
 
+  @Test
+  public void testMemoryMappedFileMetrics() throws Exception {
+    File file = File.createTempFile("vertx", ".dat");
+    file.deleteOnExit();
+    Files.write(file.toPath(), TestUtils.randomByteArray(1000));
+    FakeFileSystemMetrics metrics = ((FakeVertxMetrics) FakeMetricsBase.getMetrics(vertx)).fileSystemMetrics();
+    OpenOptions options = new OpenOptions().setMemoryMapped(true).setMemoryMapWindowSize(300);
+    vertx.fileSystem().open(file.getAbsolutePath(), options, onSuccess(asyncFile -> {
+      asyncFile.read(Buffer.buffer(), 0, 250, 500, onSuccess(buff -> {
+        assertEquals(900, metrics.mappedBytes());
+        asyncFile.close(onSuccess(v -> {
+          assertEquals(0, metrics.mappedBytes());
+          testComplete();
+        }));
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testTimerGauge() {
+    FakeVertxMetrics metrics = (FakeVertxMetrics) FakeMetricsBase.getMetrics(vertx);
+    long base = metrics.timerCount();
+    long id1 = vertx.setTimer(10_000, id -> fail());
+    long id2 = vertx.setPeriodic(10_000, id -> fail());
+    assertEquals(base + 2, metrics.timerCount());
+    assertTrue(vertx.cancelTimer(id1));
+    assertTrue(vertx.cancelTimer(id2));
+    assertEquals(base, metrics.timerCount());
+  }
+
   @Test
   public void testInitialization() {
     assertSame(vertx, ((FakeVertxMetrics)FakeMetricsBase.getMetrics(vertx)).vertx());
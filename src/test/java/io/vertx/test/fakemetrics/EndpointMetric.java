@@ -29,11 +29,22 @@ public class EndpointMetric implements ClientMetrics<HttpClientMetric, Void, Htt
   public final AtomicInteger queueSize = new AtomicInteger();
   public final AtomicInteger connectionCount = new AtomicInteger();
   public final AtomicInteger requestCount = new AtomicInteger();
+  public final AtomicInteger localLeases = new AtomicInteger();
+  public final AtomicInteger remoteLeases = new AtomicInteger();
   public final ConcurrentMap<HttpRequest, HttpClientMetric> requests = new ConcurrentHashMap<>();
 
   public EndpointMetric() {
   }
 
+  @Override
+  public void connectionLeased(boolean local) {
+    if (local) {
+      localLeases.incrementAndGet();
+    } else {
+      remoteLeases.incrementAndGet();
+    }
+  }
+
   @Override
   public Void enqueueRequest() {
     queueSize.incrementAndGet();
@@ -36,6 +36,11 @@ public class FakeEventBusMetrics extends FakeMetricsBase implements EventBusMetr
   private final Map<String, AtomicInteger> decoded = new ConcurrentHashMap<>();
   private final List<String> replyFailureAddresses = Collections.synchronizedList(new ArrayList<>());
   private final List<ReplyFailure> replyFailures = Collections.synchronizedList(new ArrayList<>());
+  private final AtomicInteger sameEventLoopSelections = new AtomicInteger();
+  private final AtomicInteger otherEventLoopSelections = new AtomicInteger();
+  private final AtomicInteger writtenBatches = new AtomicInteger();
+  private final AtomicInteger batchedMessages = new AtomicInteger();
+  private final AtomicInteger batchedBytes = new AtomicInteger();
 
   public Map<String, AtomicInteger> getEncoded() {
     return encoded;
@@ -65,6 +70,26 @@ public class FakeEventBusMetrics extends FakeMetricsBase implements EventBusMetr
     return replyFailures;
   }
 
+  public int getSameEventLoopSelections() {
+    return sameEventLoopSelections.get();
+  }
+
+  public int getOtherEventLoopSelections() {
+    return otherEventLoopSelections.get();
+  }
+
+  public int getWrittenBatches() {
+    return writtenBatches.get();
+  }
+
+  public int getBatchedMessages() {
+    return batchedMessages.get();
+  }
+
+  public int getBatchedBytes() {
+    return batchedBytes.get();
+  }
+
   public int getEncodedBytes(String address) {
     AtomicInteger value = encoded.get(address);
     return value != null ? value.get() : 0;
@@ -140,11 +165,27 @@ public class FakeEventBusMetrics extends FakeMetricsBase implements EventBusMetr
     value.addAndGet(numberOfBytes);
   }
 
+  @Override
+  public void batchWritten(String nodeId, int numberOfMessages, int numberOfBytes) {
+    writtenBatches.incrementAndGet();
+    batchedMessages.addAndGet(numberOfMessages);
+    batchedBytes.addAndGet(numberOfBytes);
+  }
+
   public void replyFailure(String address, ReplyFailure failure) {
     replyFailureAddresses.add(address);
     replyFailures.add(failure);
   }
 
+  @Override
+  public void consumerSelected(String address, boolean sameEventLoop) {
+    if (sameEventLoop) {
+      sameEventLoopSelections.incrementAndGet();
+    } else {
+      otherEventLoopSelections.incrementAndGet();
+    }
+  }
+
   public boolean isEnabled() {
     return true;
   }
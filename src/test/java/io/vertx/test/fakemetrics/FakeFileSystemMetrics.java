@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2011-2021 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.test.fakemetrics;
+
+import io.vertx.core.spi.metrics.FileSystemMetrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A fake implementation of the {@link FileSystemMetrics} SPI.
+ */
+public class FakeFileSystemMetrics extends FakeMetricsBase implements FileSystemMetrics {
+
+  private final AtomicLong mappedBytes = new AtomicLong();
+
+  @Override
+  public void mapped(long bytes) {
+    mappedBytes.addAndGet(bytes);
+  }
+
+  @Override
+  public void unmapped(long bytes) {
+    mappedBytes.addAndGet(-bytes);
+  }
+
+  public long mappedBytes() {
+    return mappedBytes.get();
+  }
+}
@@ -22,6 +22,8 @@ import io.vertx.core.net.NetServerOptions;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.spi.metrics.*;
 
+import java.util.function.LongSupplier;
+
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -29,6 +31,8 @@ public class FakeVertxMetrics extends FakeMetricsBase implements VertxMetrics {
 
   private final MetricsOptions options;
   private volatile Vertx vertx;
+  private volatile FakeFileSystemMetrics fileSystemMetrics;
+  private volatile LongSupplier timers;
 
   public FakeVertxMetrics(MetricsOptions options) {
     this.options = options;
@@ -46,6 +50,15 @@ public class FakeVertxMetrics extends FakeMetricsBase implements VertxMetrics {
     return vertx;
   }
 
+  public FakeFileSystemMetrics fileSystemMetrics() {
+    return fileSystemMetrics;
+  }
+
+  public long timerCount() {
+    LongSupplier gauge = timers;
+    return gauge != null ? gauge.getAsLong() : 0L;
+  }
+
   @Override
   public boolean isMetricsEnabled() {
     return true;
@@ -82,6 +95,17 @@ public class FakeVertxMetrics extends FakeMetricsBase implements VertxMetrics {
     return new FakePoolMetrics(poolName, maxPoolSize);
   }
 
+  @Override
+  public FileSystemMetrics createFileSystemMetrics() {
+    fileSystemMetrics = new FakeFileSystemMetrics();
+    return fileSystemMetrics;
+  }
+
+  @Override
+  public void timerGauge(LongSupplier timers) {
+    this.timers = timers;
+  }
+
   @Override
   public void vertxCreated(Vertx vertx) {
     this.vertx = vertx;